@@ -0,0 +1,115 @@
+package com.capgemini.benchmarks;
+
+import com.capgemini.festivalapplication.dto.DjDto;
+import com.capgemini.festivalapplication.dto.PerformanceDto;
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.entity.Performance;
+import com.capgemini.festivalapplication.entity.TimeOrderedId;
+import com.capgemini.reviewservice.dto.ReviewDto;
+import com.capgemini.reviewservice.entity.Review;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Payloads shaped like production data: UUIDv7 ids, realistic name, description and
+ * comment lengths, and one DJ per ten performances or reviews.
+ */
+final class BenchmarkData {
+
+    private static final String[] GENRES = {"Techno", "House", "Trance", "Drum and Bass", "Hardstyle"};
+    private static final String[] STAGES = {"Main stage", "Hangar", "The Lake", "Greenhouse"};
+    private static final LocalDateTime FESTIVAL_START = LocalDateTime.of(2025, 7, 18, 14, 0);
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * ObjectMapper configured like Spring Boot's: java.time support, ISO-8601 dates.
+     */
+    static ObjectMapper objectMapper() {
+        return JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    static List<Dj> djs(int count) {
+        List<Dj> djs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            djs.add(new Dj("DJ Artist " + i, GENRES[i % GENRES.length], "artist" + i + "@bookings.example.com"));
+        }
+        return djs;
+    }
+
+    static List<Performance> performances(int count) {
+        List<Dj> djs = djs(Math.max(1, count / 10));
+        List<Performance> performances = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = FESTIVAL_START.plusMinutes(30L * i);
+            Performance performance = new Performance("Set " + i,
+                    "Extended closing set on the " + STAGES[i % STAGES.length] + " with unreleased material",
+                    start, start.plusMinutes(90), djs.get(i % djs.size()));
+            performance.setId(TimeOrderedId.next());
+            performances.add(performance);
+        }
+        return performances;
+    }
+
+    static List<Review> reviews(int count) {
+        List<Review> reviews = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Review review = new Review(TimeOrderedId.next(), i % 2 == 0 ? "DJ" : "PERFORMANCE",
+                    "Reviewer " + i, 1 + i % 5, comment(i));
+            review.setId(TimeOrderedId.next());
+            reviews.add(review);
+        }
+        return reviews;
+    }
+
+    static List<DjDto> djDtos(int count) {
+        List<DjDto> dtos = new ArrayList<>(count);
+        for (Dj dj : djs(count)) {
+            DjDto dto = new DjDto();
+            dto.setName(dj.getName());
+            dto.setGenre(dj.getGenre());
+            dto.setEmail(dj.getEmail());
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    static List<PerformanceDto> performanceDtos(int count) {
+        List<PerformanceDto> dtos = new ArrayList<>(count);
+        for (Performance performance : performances(count)) {
+            PerformanceDto dto = new PerformanceDto();
+            dto.setTitle(performance.getTitle());
+            dto.setDescription(performance.getDescription());
+            dto.setStartTime(performance.getStartTime());
+            dto.setEndTime(performance.getEndTime());
+            dto.setDjId(performance.getDj().getId());
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    static List<ReviewDto> reviewDtos(int count) {
+        List<ReviewDto> dtos = new ArrayList<>(count);
+        for (Review review : reviews(count)) {
+            dtos.add(new ReviewDto(review.getSubjectId(), review.getSubjectType(), review.getReviewerName(),
+                    review.getRating(), review.getComment()));
+        }
+        return dtos;
+    }
+
+    // About 200 characters, a typical review length
+    private static String comment(int i) {
+        return "Great energy from start to finish, the transitions were smooth and the track selection kept "
+                + "the crowd moving. Sound on the stage could have been louder near the back. Visit number " + i + ".";
+    }
+}
@@ -0,0 +1,139 @@
+package com.capgemini.benchmarks;
+
+import com.capgemini.festivalapplication.entity.TimeOrderedId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Primary key inserts with random UUIDv4 ids versus time-ordered UUIDv7 ids (TimeOrderedId),
+ * into a varchar(36) key like the djs and performances id columns. The table is preloaded
+ * with rows entries so the index has depth; rows are written in JDBC batches of BATCH with
+ * one commit each, like a lineup import chunk.
+ *
+ * By default the table is an HSQLDB CACHED table in a temporary file database. HSQLDB keeps
+ * its index nodes inside the row records, so it shows the insert cost but not B-tree page
+ * splits or index bloat. Pointed at PostgreSQL with -p url=... -p user=... -p password=...,
+ * each trial also prints the size of the primary key index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdInsertBenchmark {
+
+    // Rows per executeBatch and commit
+    private static final int BATCH = 100;
+
+    private static final String TABLE = "id_bench";
+
+    @Param({"v4", "v7"})
+    private String ids;
+
+    @Param({"100000"})
+    private int rows;
+
+    // Empty for a temporary HSQLDB file database
+    @Param({""})
+    private String url;
+
+    @Param({"sa"})
+    private String user;
+
+    @Param({""})
+    private String password;
+
+    private Path hsqldbDirectory;
+    private Connection connection;
+    private PreparedStatement insert;
+    private Supplier<String> nextId;
+    private long inserted;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException, IOException {
+        nextId = "v7".equals(ids) ? TimeOrderedId::next : () -> UUID.randomUUID().toString();
+
+        String jdbcUrl = url;
+        if (jdbcUrl.isEmpty()) {
+            hsqldbDirectory = Files.createTempDirectory("id-bench");
+            jdbcUrl = "jdbc:hsqldb:file:" + hsqldbDirectory.resolve("db") + ";hsqldb.default_table_type=cached;shutdown=true";
+        }
+        connection = DriverManager.getConnection(jdbcUrl, user, password);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id VARCHAR(36) PRIMARY KEY, name VARCHAR(100) NOT NULL)");
+        }
+        connection.commit();
+
+        insert = connection.prepareStatement("INSERT INTO " + TABLE + " (id, name) VALUES (?, ?)");
+        while (inserted < rows) {
+            insertBatch();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void insertBatch() throws SQLException {
+        for (int i = 0; i < BATCH; i++) {
+            insert.setString(1, nextId.get());
+            insert.setString(2, "DJ " + inserted++);
+            insert.addBatch();
+        }
+        insert.executeBatch();
+        connection.commit();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException, IOException {
+        try (Statement statement = connection.createStatement()) {
+            if (connection.getMetaData().getDatabaseProductName().equals("PostgreSQL")) {
+                try (ResultSet size = statement.executeQuery("SELECT pg_relation_size('" + TABLE + "_pkey')")) {
+                    size.next();
+                    long bytes = size.getLong(1);
+                    System.out.printf("%n%s: %d rows, primary key index %d KB (%.1f bytes per row)%n",
+                            ids, inserted, bytes / 1024, (double) bytes / inserted);
+                }
+            }
+            statement.execute("DROP TABLE " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+
+        if (hsqldbDirectory != null) {
+            try (Stream<Path> files = Files.walk(hsqldbDirectory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+}
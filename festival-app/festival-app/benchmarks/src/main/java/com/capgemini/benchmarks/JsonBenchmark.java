@@ -0,0 +1,96 @@
+package com.capgemini.benchmarks;
+
+import com.capgemini.festivalapplication.dto.PerformanceDto;
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.entity.Performance;
+import com.capgemini.reviewservice.dto.ReviewDto;
+import com.capgemini.reviewservice.entity.Review;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of entity lists as returned by the list endpoints, and
+ * deserialization of request bodies with LocalDateTime fields.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private ObjectWriter djsWriter;
+    private ObjectWriter performancesWriter;
+    private ObjectWriter reviewsWriter;
+    private ObjectReader performanceDtosReader;
+    private ObjectReader reviewDtosReader;
+
+    private List<Dj> djs;
+    private List<Performance> performances;
+    private List<Review> reviews;
+    private byte[] performanceDtosJson;
+    private byte[] reviewDtosJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = BenchmarkData.objectMapper();
+        // Typed writers and readers, as Spring's message converters resolve them per type
+        djsWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, Dj.class));
+        performancesWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, Performance.class));
+        reviewsWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, Review.class));
+        performanceDtosReader = objectMapper.readerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, PerformanceDto.class));
+        reviewDtosReader = objectMapper.readerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, ReviewDto.class));
+
+        djs = BenchmarkData.djs(size);
+        performances = BenchmarkData.performances(size);
+        reviews = BenchmarkData.reviews(size);
+        performanceDtosJson = objectMapper.writeValueAsBytes(BenchmarkData.performanceDtos(size));
+        reviewDtosJson = objectMapper.writeValueAsBytes(BenchmarkData.reviewDtos(size));
+    }
+
+    @Benchmark
+    public byte[] serializeDjs() throws JsonProcessingException {
+        return djsWriter.writeValueAsBytes(djs);
+    }
+
+    @Benchmark
+    public byte[] serializePerformances() throws JsonProcessingException {
+        return performancesWriter.writeValueAsBytes(performances);
+    }
+
+    @Benchmark
+    public byte[] serializeReviews() throws JsonProcessingException {
+        return reviewsWriter.writeValueAsBytes(reviews);
+    }
+
+    @Benchmark
+    public List<PerformanceDto> deserializePerformanceDtos() throws IOException {
+        return performanceDtosReader.readValue(performanceDtosJson);
+    }
+
+    @Benchmark
+    public List<ReviewDto> deserializeReviewDtos() throws IOException {
+        return reviewDtosReader.readValue(reviewDtosJson);
+    }
+}
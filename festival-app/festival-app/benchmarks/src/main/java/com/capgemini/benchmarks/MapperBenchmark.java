@@ -0,0 +1,102 @@
+package com.capgemini.benchmarks;
+
+import com.capgemini.festivalapplication.dto.DjDto;
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.entity.Performance;
+import com.capgemini.festivalapplication.mapper.DjMapper;
+import com.capgemini.festivalapplication.mapper.PerformanceMapper;
+import com.capgemini.reviewservice.dto.ReviewDto;
+import com.capgemini.reviewservice.entity.Review;
+import com.capgemini.reviewservice.mapper.ReviewMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO mapping as done for every list response and every write.
+ * PerformanceMapper.toEntity is left out: it looks the DJ up in the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private final DjMapper djMapper = new DjMapper();
+    private final PerformanceMapper performanceMapper = new PerformanceMapper();
+    private final ReviewMapper reviewMapper = new ReviewMapper();
+
+    private List<Dj> djs;
+    private List<DjDto> djDtos;
+    private List<Performance> performances;
+    private List<Review> reviews;
+    private List<ReviewDto> reviewDtos;
+
+    @Setup
+    public void setUp() {
+        djs = BenchmarkData.djs(size);
+        djDtos = BenchmarkData.djDtos(size);
+        performances = BenchmarkData.performances(size);
+        reviews = BenchmarkData.reviews(size);
+        reviewDtos = BenchmarkData.reviewDtos(size);
+    }
+
+    @Benchmark
+    public void djToDto(Blackhole blackhole) {
+        for (Dj dj : djs) {
+            blackhole.consume(djMapper.toDto(dj));
+        }
+    }
+
+    @Benchmark
+    public void djToEntity(Blackhole blackhole) {
+        for (DjDto dto : djDtos) {
+            blackhole.consume(djMapper.toEntity(dto));
+        }
+    }
+
+    @Benchmark
+    public void performanceToDto(Blackhole blackhole) {
+        for (Performance performance : performances) {
+            blackhole.consume(performanceMapper.toDto(performance));
+        }
+    }
+
+    @Benchmark
+    public void performanceToView(Blackhole blackhole) {
+        for (Performance performance : performances) {
+            blackhole.consume(performanceMapper.toView(performance));
+        }
+    }
+
+    @Benchmark
+    public void reviewToDto(Blackhole blackhole) {
+        for (Review review : reviews) {
+            blackhole.consume(reviewMapper.toDto(review));
+        }
+    }
+
+    @Benchmark
+    public void reviewToEntity(Blackhole blackhole) {
+        for (ReviewDto dto : reviewDtos) {
+            blackhole.consume(reviewMapper.toEntity(dto));
+        }
+    }
+}
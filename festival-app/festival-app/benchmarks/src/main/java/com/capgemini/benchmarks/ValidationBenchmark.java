@@ -0,0 +1,81 @@
+package com.capgemini.benchmarks;
+
+import com.capgemini.festivalapplication.dto.DjDto;
+import com.capgemini.festivalapplication.dto.PerformanceDto;
+import com.capgemini.reviewservice.dto.ReviewDto;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation of request bodies, as @Valid does for every create and update
+ * (and per row for bulk imports). All payloads are valid, the common case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Param({"1", "100", "10000"})
+    private int size;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private List<DjDto> djDtos;
+    private List<PerformanceDto> performanceDtos;
+    private List<ReviewDto> reviewDtos;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+        djDtos = BenchmarkData.djDtos(size);
+        performanceDtos = BenchmarkData.performanceDtos(size);
+        reviewDtos = BenchmarkData.reviewDtos(size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public void validateDjDto(Blackhole blackhole) {
+        for (DjDto dto : djDtos) {
+            blackhole.consume(validator.validate(dto));
+        }
+    }
+
+    @Benchmark
+    public void validatePerformanceDto(Blackhole blackhole) {
+        for (PerformanceDto dto : performanceDtos) {
+            blackhole.consume(validator.validate(dto));
+        }
+    }
+
+    @Benchmark
+    public void validateReviewDto(Blackhole blackhole) {
+        for (ReviewDto dto : reviewDtos) {
+            blackhole.consume(validator.validate(dto));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+-- Festival Application - id column migration for existing databases
+-- Run once against festival_db after deploying time-ordered (UUIDv7) ids:
+--   psql -U festival_user -d festival_db -f docker/migrate-ids-time-ordered.sql
+--
+-- New DJs and performances get UUIDv7 ids (36 characters, time-ordered).
+-- Existing ids such as 'dj-001' or 'perf-101' are kept as they are: they stay valid
+-- keys and are still referenced as subject ids by the review service.
+-- ddl-auto=update neither narrows columns nor adds indexes to existing tables, so this
+-- script bounds the id columns and indexes the performances.dj_id foreign key.
+
+BEGIN;
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM djs WHERE length(id) > 36)
+       OR EXISTS (SELECT 1 FROM performances WHERE length(id) > 36) THEN
+        RAISE EXCEPTION 'Found ids longer than 36 characters; shorten them before migrating';
+    END IF;
+END $$;
+
+ALTER TABLE performances ALTER COLUMN dj_id TYPE VARCHAR(36);
+ALTER TABLE performances ALTER COLUMN id TYPE VARCHAR(36);
+ALTER TABLE djs ALTER COLUMN id TYPE VARCHAR(36);
+
+CREATE INDEX IF NOT EXISTS idx_performances_dj_id ON performances (dj_id);
+
+COMMIT;
@@ -0,0 +1,12 @@
+-- Festival Application - outbox sequence migration for existing databases
+-- Run once against festival_db before deploying the leased outbox relay:
+--   psql -U festival_user -d festival_db -f docker/migrate-outbox-sequence.sql
+--
+-- Outbox event ids now take one value per event from outbox_events_seq instead of a
+-- pooled block of 50 per instance, so ids follow the order changes are written in across
+-- all instances; review-service relies on that to skip stale events. Hibernate refuses to
+-- start when the sequence increment differs from the mapping, and ddl-auto=update does
+-- not alter sequences. The dead_lettered_at column and outbox_leases table are created
+-- by ddl-auto=update.
+
+ALTER SEQUENCE IF EXISTS outbox_events_seq INCREMENT BY 1;
@@ -0,0 +1,45 @@
+package com.capgemini.festivalapplication.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache configuration for DJ query results.
+ *
+ * Single DJs are not cached here: entities are mutable and would be shared between
+ * callers, so lookups by id go through the Hibernate second-level cache instead
+ * (SecondLevelCacheConfig), which hands out a fresh instance per session.
+ *
+ * The cache provider is chosen by spring.cache.type: "caffeine" enables the caches
+ * below, "none" turns caching off without touching any code. Caffeine evicts by size
+ * (W-TinyLFU admission) and by age, and records hit/miss/eviction statistics that
+ * Actuator publishes as cache.gets, cache.evictions and cache.size metrics.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // Derived query results, keyed by the query argument
+    public static final String DJS_BY_GENRE = "djsByGenre";
+    public static final String DJS_BY_NAME = "djsByName";
+    public static final String DJS_WITH_LONG_NAMES = "djsWithLongNames";
+
+    /**
+     * Registers each cache with its own bounds. Only applied when the Caffeine
+     * cache manager is active, i.e. when caching is switched on.
+     */
+    @Bean
+    public CacheManagerCustomizer<CaffeineCacheManager> djCacheCustomizer(
+            @Value("${festival.cache.dj-queries.spec:maximumSize=1000,expireAfterWrite=5m}") String querySpec) {
+        return cacheManager -> {
+            cacheManager.registerCustomCache(DJS_BY_GENRE, Caffeine.from(querySpec).recordStats().build());
+            cacheManager.registerCustomCache(DJS_BY_NAME, Caffeine.from(querySpec).recordStats().build());
+            cacheManager.registerCustomCache(DJS_WITH_LONG_NAMES, Caffeine.from(querySpec).recordStats().build());
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.capgemini.festivalapplication.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache regions, held in a Caffeine-backed JCache manager.
+ *
+ * Entity and collection regions keep Dj, Performance and Dj.performances across
+ * persistence contexts, so DJ lookups in PerformanceMapper and lazy Performance.dj
+ * proxies are resolved without a query. Query results of selected repository methods
+ * live in their own region and are invalidated by Hibernate whenever one of the
+ * tables they read is written.
+ *
+ * Sizes and expiry are set through festival.cache.l2.* properties; the regions
+ * themselves are switched on by the hibernate.cache.* JPA properties.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String DJ_REGION = "dj";
+    public static final String PERFORMANCE_REGION = "performance";
+    public static final String DJ_PERFORMANCES_REGION = "dj.performances";
+    public static final String PERFORMANCE_QUERY_REGION = "performance-queries";
+
+    // Hibernate's built-in regions, needed once the query cache is enabled
+    static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+    static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${festival.cache.l2.entity.max-size:10000}") long entityMaxSize,
+            @Value("${festival.cache.l2.entity.ttl:30m}") Duration entityTtl,
+            @Value("${festival.cache.l2.query.max-size:1000}") long queryMaxSize,
+            @Value("${festival.cache.l2.query.ttl:5m}") Duration queryTtl) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+
+        createRegion(cacheManager, DJ_REGION, entityMaxSize, entityTtl);
+        createRegion(cacheManager, PERFORMANCE_REGION, entityMaxSize, entityTtl);
+        createRegion(cacheManager, DJ_PERFORMANCES_REGION, entityMaxSize, entityTtl);
+        createRegion(cacheManager, PERFORMANCE_QUERY_REGION, queryMaxSize, queryTtl);
+        createRegion(cacheManager, DEFAULT_QUERY_REGION, queryMaxSize, queryTtl);
+        // Timestamps decide whether cached query results are stale; they must never be evicted
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, 0, null);
+        return cacheManager;
+    }
+
+    /**
+     * Hands the configured cache manager to Hibernate instead of letting it create its own.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, long maxSize, Duration ttl) {
+        // A previous application context in the same JVM (e.g. tests) may have left the region behind
+        if (cacheManager.getCache(name) != null) {
+            cacheManager.destroyCache(name);
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maxSize > 0 ? OptionalLong.of(maxSize) : OptionalLong.empty());
+        configuration.setExpireAfterWrite(ttl != null ? OptionalLong.of(ttl.toNanos()) : OptionalLong.empty());
+        configuration.setStatisticsEnabled(true);
+        cacheManager.createCache(name, configuration);
+    }
+}
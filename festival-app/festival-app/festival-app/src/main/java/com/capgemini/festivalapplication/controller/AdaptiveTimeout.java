@@ -0,0 +1,56 @@
+package com.capgemini.festivalapplication.controller;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Timeout for one remote operation that follows its observed latency.
+ *
+ * Keeps the latencies of the last calls in a ring buffer and allows each call twice
+ * their 99th percentile, bounded by [min, max]. Until enough calls have been seen
+ * the maximum applies. A call that times out is recorded with the timeout it was
+ * given, so after a latency increase the limit grows back instead of cutting off
+ * every call at the old, lower value.
+ */
+public class AdaptiveTimeout {
+
+    private static final int WINDOW = 256;
+    private static final int MIN_SAMPLES = 20;
+    // Sorting the window on every call would cost more than the calls it guards
+    private static final int RECOMPUTE_EVERY = 16;
+    private static final double PERCENTILE = 0.99;
+    private static final double MULTIPLIER = 2.0;
+
+    private final long minNanos;
+    private final long maxNanos;
+    private final long[] samples = new long[WINDOW];
+    private int size;
+    private int next;
+    private long recorded;
+    private volatile long timeoutNanos;
+
+    public AdaptiveTimeout(Duration min, Duration max) {
+        if (min.compareTo(max) > 0) {
+            throw new IllegalArgumentException("Minimum timeout " + min + " exceeds maximum " + max);
+        }
+        this.minNanos = min.toNanos();
+        this.maxNanos = max.toNanos();
+        this.timeoutNanos = maxNanos;
+    }
+
+    public Duration current() {
+        return Duration.ofNanos(timeoutNanos);
+    }
+
+    public synchronized void record(Duration latency) {
+        samples[next] = latency.toNanos();
+        next = (next + 1) % WINDOW;
+        size = Math.min(size + 1, WINDOW);
+        if (++recorded % RECOMPUTE_EVERY == 0 && size >= MIN_SAMPLES) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            long percentile = sorted[(int) Math.ceil(PERCENTILE * size) - 1];
+            timeoutNanos = Math.max(minNanos, Math.min(maxNanos, (long) (percentile * MULTIPLIER)));
+        }
+    }
+}
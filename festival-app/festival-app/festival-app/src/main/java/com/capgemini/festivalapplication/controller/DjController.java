@@ -1,13 +1,24 @@
 package com.capgemini.festivalapplication.controller;
 
+import com.capgemini.festivalapplication.dto.BulkImportResult;
+import com.capgemini.festivalapplication.dto.CursorPage;
 import com.capgemini.festivalapplication.dto.DjDto;
+import com.capgemini.festivalapplication.dto.DjProfile;
+import com.capgemini.festivalapplication.dto.DjRatingView;
+import com.capgemini.festivalapplication.dto.DjView;
+import com.capgemini.festivalapplication.dto.PerformanceConflict;
+import com.capgemini.festivalapplication.dto.ResourceVersion;
 import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.service.DjProfileService;
 import com.capgemini.festivalapplication.service.DjService;
+import com.capgemini.festivalapplication.service.PerformanceService;
 import com.capgemini.festivalapplication.controller.ReviewServiceClient;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,6 +33,8 @@ import java.util.List;
  * - Search DJs by various criteria
  * 
  * All operations use DTOs for data transfer and include proper validation.
+ * The list and single-DJ reads send strong ETags and Last-Modified and answer
+ * If-None-Match / If-Modified-Since with 304 from version columns alone.
  * Exception handling is managed by the GlobalExceptionHandler.
  */
 @RestController
@@ -31,10 +44,15 @@ public class DjController {
 
     // Using constructor injection for better testability and immutability
     private final DjService djService;
+    private final PerformanceService performanceService;
+    private final DjProfileService djProfileService;
     private final ReviewServiceClient reviewServiceClient;
 
-    public DjController(DjService djService, ReviewServiceClient reviewServiceClient) {
+    public DjController(DjService djService, PerformanceService performanceService,
+                        DjProfileService djProfileService, ReviewServiceClient reviewServiceClient) {
         this.djService = djService;
+        this.performanceService = performanceService;
+        this.djProfileService = djProfileService;
         this.reviewServiceClient = reviewServiceClient;
     }
 
@@ -50,26 +68,100 @@ public class DjController {
         return new ResponseEntity<>(savedDj, HttpStatus.CREATED);
     }
 
+    /**
+     * Creates many DJs at once, e.g. from an agency feed.
+     * Rows that fail validation or reuse an existing email are reported, not created.
+     * @param djDtos DJs to create, at most 10,000 per request
+     * @return Per-row report with created ids and throughput
+     * @throws BadRequestException if the request is empty or too large
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkImportResult> bulkCreateDjs(@RequestBody List<DjDto> djDtos) {
+        BulkImportResult result = djService.bulkCreate(djDtos);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Retrieves all DJs from the database.
-     * @return List of all DJ entities with HTTP 200 status
+     * @param request Carries the conditional headers
+     * @return List of all DJs with HTTP 200 status, or HTTP 304 if the client's copy is current
      */
     @GetMapping
-    public ResponseEntity<List<Dj>> getAllDjs() {
-        List<Dj> djs = djService.getAll();
+    public ResponseEntity<List<DjView>> getAllDjs(WebRequest request) {
+        // Read before the list: a write in between only makes the tag stale, never the body
+        ResourceVersion version = djService.getCatalogVersion();
+        if (request.checkNotModified(version.eTag(), version.lastModifiedMillis())) {
+            return null;
+        }
+        List<DjView> djs = djService.getAll();
+        return ResponseEntity.ok()
+                .eTag(version.eTag())
+                .lastModified(version.lastModifiedMillis())
+                .body(djs);
+    }
+
+    /**
+     * Retrieves all DJs with their average rating and review count.
+     * Ratings for the whole list come from review-service in one batched call per 1000 DJs.
+     * Not conditional: ratings change without the DJ catalog changing.
+     * @return List of DJs with ratings with HTTP 200 status
+     */
+    @GetMapping(params = "withRatings=true")
+    public ResponseEntity<List<DjRatingView>> getAllDjsWithRatings() {
+        List<DjRatingView> djs = djService.getAllWithRatings();
         return ResponseEntity.ok(djs);
     }
 
+    /**
+     * Retrieves DJs one page at a time, ordered by name.
+     * @param cursor Continuation token from the previous page, omitted for the first page
+     * @param size Page size, capped at 200
+     * @return Page of DJs plus the cursor for the next page
+     * @throws BadRequestException if the cursor is malformed
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<DjView>> getDjPage(@RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer size) {
+        CursorPage<DjView> page = djService.getPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * Retrieves a specific DJ by ID.
      * @param id DJ identifier
-     * @return DJ entity with HTTP 200 status
+     * @param request Carries the conditional headers
+     * @return DJ entity with HTTP 200 status, or HTTP 304 if the client's copy is current
      * @throws ResourceNotFoundException if DJ not found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Dj> getDjById(@PathVariable String id) {
+    public ResponseEntity<Dj> getDjById(@PathVariable String id, WebRequest request) {
+        ResourceVersion current = djService.getVersion(id);
+        if (request.checkNotModified(current.eTag(), current.lastModifiedMillis())) {
+            return null;
+        }
         Dj dj = djService.getById(id);
-        return ResponseEntity.ok(dj);
+        // Tag what is actually sent, in case the DJ changed since the check
+        ResourceVersion version = new ResourceVersion(dj.getVersion(), dj.getUpdatedAt());
+        return ResponseEntity.ok()
+                .eTag(version.eTag())
+                .lastModified(version.lastModifiedMillis())
+                .body(dj);
+    }
+
+    /**
+     * Checks that a DJ exists, e.g. before review-service accepts a review for it.
+     * Reads only the DJ's version columns by primary key and sends no body.
+     * @param id DJ identifier
+     * @return HTTP 200 with the same ETag and Last-Modified as GET
+     * @throws ResourceNotFoundException if DJ not found
+     */
+    @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> headDj(@PathVariable String id) {
+        ResourceVersion version = djService.getVersion(id);
+        return ResponseEntity.ok()
+                .eTag(version.eTag())
+                .lastModified(version.lastModifiedMillis())
+                .build();
     }
 
     /**
@@ -97,14 +189,30 @@ public class DjController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Lists overlapping performances in a DJ's schedule.
+     * New bookings are already rejected on overlap; this reports data that predates the check.
+     * @param id DJ identifier
+     * @return Pairs of overlapping performances, empty if the schedule is clean
+     * @throws ResourceNotFoundException if DJ not found
+     */
+    @GetMapping("/{id}/conflicts")
+    public ResponseEntity<List<PerformanceConflict>> getDjConflicts(@PathVariable String id) {
+        // Verify DJ exists first
+        djService.getById(id);
+
+        List<PerformanceConflict> conflicts = performanceService.getConflictsForDj(id);
+        return ResponseEntity.ok(conflicts);
+    }
+
     /**
      * Searches DJs by genre.
      * @param genre Genre to search for
      * @return List of DJs matching the genre
      */
     @GetMapping("/genre/{genre}")
-    public ResponseEntity<List<Dj>> getDjsByGenre(@PathVariable String genre) {
-        List<Dj> djs = djService.getByGenre(genre);
+    public ResponseEntity<List<DjView>> getDjsByGenre(@PathVariable String genre) {
+        List<DjView> djs = djService.getByGenre(genre);
         return ResponseEntity.ok(djs);
     }
     
@@ -114,8 +222,8 @@ public class DjController {
      * @return List of DJs matching the name
      */
     @GetMapping("/name/{name}")
-    public ResponseEntity<List<Dj>> getDjsByName(@PathVariable String name) {
-        List<Dj> djs = djService.getByName(name);
+    public ResponseEntity<List<DjView>> getDjsByName(@PathVariable String name) {
+        List<DjView> djs = djService.getByName(name);
         return ResponseEntity.ok(djs);
     }
     
@@ -124,23 +232,42 @@ public class DjController {
      * @return List of DJs with long names
      */
     @GetMapping("/long-names")
-    public ResponseEntity<List<Dj>> getDjsWithLongNames() {
-        List<Dj> djs = djService.getDjsWithLongNames();
+    public ResponseEntity<List<DjView>> getDjsWithLongNames() {
+        List<DjView> djs = djService.getDjsWithLongNames();
         return ResponseEntity.ok(djs);
     }
 
     /**
-     * Get all reviews for a specific DJ.
+     * Everything the DJ page shows in one call: DJ, performances, reviews, rating and count.
+     * Database and review-service calls run in parallel; review data that misses the
+     * deadline (festival.profile.deadline) is left out and listed under "unavailable".
+     * @param id DJ identifier
+     * @return DJ profile with HTTP 200 status
+     * @throws ResourceNotFoundException if DJ not found
+     */
+    @GetMapping("/{id}/profile")
+    public ResponseEntity<DjProfile> getDjProfile(@PathVariable String id) {
+        DjProfile profile = djProfileService.getProfile(id);
+        return ResponseEntity.ok(profile);
+    }
+
+    /**
+     * Get one page of reviews for a specific DJ, newest first.
+     * Pass the returned next token as cursor for the following page; it is null on the last page.
      * @param id DJ identifier
-     * @return JSON string containing reviews
+     * @param cursor next token of the previous page, omitted for the first page
+     * @param limit page size (review-service default 50, max 200)
+     * @return JSON page {"items": [...], "next": "<token>"}
      */
     @GetMapping("/{id}/reviews")
-    public ResponseEntity<String> getDjReviews(@PathVariable String id) {
+    public ResponseEntity<String> getDjReviews(@PathVariable String id,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer limit) {
         // Verify DJ exists first
         djService.getById(id);
         
-        String reviews = reviewServiceClient.getReviewsForDJ(Long.parseLong(id));
-        return ResponseEntity.ok(reviews);
+        String reviews = reviewServiceClient.getReviewsForDJ(id, cursor, limit);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(reviews);
     }
 
     /**
@@ -153,7 +280,7 @@ public class DjController {
         // Verify DJ exists first
         djService.getById(id);
         
-        Double averageRating = reviewServiceClient.getAverageRatingForDJ(Long.parseLong(id));
+        Double averageRating = reviewServiceClient.getAverageRatingForDJ(id);
         return ResponseEntity.ok(averageRating);
     }
 
@@ -167,7 +294,7 @@ public class DjController {
         // Verify DJ exists first
         djService.getById(id);
         
-        Long reviewCount = reviewServiceClient.getReviewCountForDJ(Long.parseLong(id));
+        Long reviewCount = reviewServiceClient.getReviewCountForDJ(id);
         return ResponseEntity.ok(reviewCount);
     }
 }
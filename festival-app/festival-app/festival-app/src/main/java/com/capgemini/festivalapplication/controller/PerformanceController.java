@@ -1,14 +1,30 @@
 package com.capgemini.festivalapplication.controller;
 
+import com.capgemini.festivalapplication.dto.CursorPage;
+import com.capgemini.festivalapplication.dto.LineupImportResult;
 import com.capgemini.festivalapplication.dto.PerformanceDto;
+import com.capgemini.festivalapplication.dto.PerformanceView;
+import com.capgemini.festivalapplication.dto.ResourceVersion;
 import com.capgemini.festivalapplication.entity.Performance;
+import com.capgemini.festivalapplication.exception.BadRequestException;
+import com.capgemini.festivalapplication.service.LineupImportService;
 import com.capgemini.festivalapplication.service.PerformanceService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -22,6 +38,8 @@ import java.util.List;
  * - Search performances by DJ
  * 
  * All operations use DTOs for data transfer and include proper validation.
+ * The list and single-performance reads send strong ETags and Last-Modified and
+ * answer If-None-Match / If-Modified-Since with 304 from version columns alone.
  * Exception handling is managed by the GlobalExceptionHandler.
  */
 @RestController
@@ -32,6 +50,9 @@ public class PerformanceController {
     @Autowired
     private PerformanceService performanceService;
 
+    @Autowired
+    private LineupImportService lineupImportService;
+
     /**
      * Creates a new performance.
      * @param performanceDto Performance data transfer object with validation
@@ -44,26 +65,148 @@ public class PerformanceController {
         return new ResponseEntity<>(savedPerformance, HttpStatus.CREATED);
     }
 
+    /**
+     * Imports a festival lineup from a CSV request body (Content-Type: text/csv).
+     * The body is parsed while it is being read and persisted in chunks.
+     * @param csv CSV with header title,description,startTime,endTime,djId
+     * @return Import summary with rejected lines
+     * @throws BadRequestException if the header is missing required columns
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<LineupImportResult> importLineup(InputStream csv) throws IOException {
+        LineupImportResult result = lineupImportService.importCsv(csv);
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Imports a festival lineup from an uploaded CSV file (multipart field "file").
+     * @param file CSV with header title,description,startTime,endTime,djId
+     * @return Import summary with rejected lines
+     * @throws BadRequestException if the header is missing required columns
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<LineupImportResult> importLineupFile(@RequestParam("file") MultipartFile file) throws IOException {
+        try (InputStream csv = file.getInputStream()) {
+            LineupImportResult result = lineupImportService.importCsv(csv);
+            return ResponseEntity.ok(result);
+        }
+    }
+
     /**
      * Retrieves all performances from the database.
-     * @return List of all performance entities with HTTP 200 status
+     * @param request Carries the conditional headers
+     * @return List of all performances with HTTP 200 status, or HTTP 304 if the client's copy is current
      */
     @GetMapping
-    public ResponseEntity<List<Performance>> getAllPerformances() {
-        List<Performance> performances = performanceService.getAll();
+    public ResponseEntity<List<PerformanceView>> getAllPerformances(WebRequest request) {
+        // Read before the list: a write in between only makes the tag stale, never the body
+        ResourceVersion version = performanceService.getCatalogVersion();
+        if (request.checkNotModified(version.eTag(), version.lastModifiedMillis())) {
+            return null;
+        }
+        List<PerformanceView> performances = performanceService.getAll();
+        return ResponseEntity.ok()
+                .eTag(version.eTag())
+                .lastModified(version.lastModifiedMillis())
+                .body(performances);
+    }
+
+    /**
+     * Retrieves performances one page at a time, ordered by start time.
+     * @param cursor Continuation token from the previous page, omitted for the first page
+     * @param size Page size, capped at 200
+     * @return Page of performances plus the cursor for the next page
+     * @throws BadRequestException if the cursor is malformed
+     */
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<PerformanceView>> getPerformancePage(@RequestParam(required = false) String cursor,
+                                                                          @RequestParam(required = false) Integer size) {
+        CursorPage<PerformanceView> page = performanceService.getPage(cursor, size);
+        return ResponseEntity.ok(page);
+    }
+
+    /**
+     * Lists the performances playing right now, served from the in-memory timeline.
+     * @param at Point in time to ask about (ISO date-time), defaults to now
+     * @return Running performances ordered by start time
+     */
+    @GetMapping("/now")
+    public ResponseEntity<List<PerformanceView>> getPlayingNow(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        List<PerformanceView> performances = performanceService.getPlayingAt(at != null ? at : LocalDateTime.now());
+        return ResponseEntity.ok(performances);
+    }
+
+    /**
+     * Lists the performances starting within the given window, served from the in-memory timeline.
+     * @param window Look-ahead such as 90m, 2h or PT2H, defaults to 2 hours, at most 14 days
+     * @param at Start of the window (ISO date-time), defaults to now
+     * @return Upcoming performances ordered by start time
+     * @throws BadRequestException if the window is malformed, negative or too long
+     */
+    @GetMapping("/upcoming")
+    public ResponseEntity<List<PerformanceView>> getUpcoming(
+            @RequestParam(defaultValue = "2h") String window,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        Duration lookAhead;
+        try {
+            lookAhead = DurationStyle.detectAndParse(window);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid window '" + window + "'. Use e.g. 90m, 2h or PT2H.", e);
+        }
+        List<PerformanceView> performances = performanceService.getUpcoming(at != null ? at : LocalDateTime.now(), lookAhead);
         return ResponseEntity.ok(performances);
     }
 
+    /**
+     * Exports all performances as newline-delimited JSON, ordered by start time.
+     * Rows are streamed to the client while they are read from the database.
+     * @return NDJSON stream with one performance per line
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPerformances() {
+        StreamingResponseBody body = outputStream -> performanceService.exportAll(outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
     /**
      * Retrieves a specific performance by ID.
      * @param id Performance identifier
-     * @return Performance entity with HTTP 200 status
+     * @param request Carries the conditional headers
+     * @return Performance entity with HTTP 200 status, or HTTP 304 if the client's copy is current
      * @throws ResourceNotFoundException if performance not found
      */
     @GetMapping("/{id}")
-    public ResponseEntity<Performance> getPerformanceById(@PathVariable String id) {
+    public ResponseEntity<Performance> getPerformanceById(@PathVariable String id, WebRequest request) {
+        ResourceVersion current = performanceService.getVersion(id);
+        if (request.checkNotModified(current.eTag(), current.lastModifiedMillis())) {
+            return null;
+        }
         Performance performance = performanceService.getById(id);
-        return ResponseEntity.ok(performance);
+        // Tag what is actually sent, in case the performance changed since the check
+        ResourceVersion version = new ResourceVersion(performance.getVersion(), performance.getUpdatedAt());
+        return ResponseEntity.ok()
+                .eTag(version.eTag())
+                .lastModified(version.lastModifiedMillis())
+                .body(performance);
+    }
+
+    /**
+     * Checks that a performance exists, e.g. before review-service accepts a review for it.
+     * Reads only the performance's version columns by primary key and sends no body.
+     * @param id Performance identifier
+     * @return HTTP 200 with the same ETag and Last-Modified as GET
+     * @throws ResourceNotFoundException if performance not found
+     */
+    @RequestMapping(value = "/{id}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> headPerformance(@PathVariable String id) {
+        ResourceVersion version = performanceService.getVersion(id);
+        return ResponseEntity.ok()
+                .eTag(version.eTag())
+                .lastModified(version.lastModifiedMillis())
+                .build();
     }
 
     /**
@@ -97,8 +240,8 @@ public class PerformanceController {
      * @return List of performances by the specified DJ
      */
     @GetMapping("/dj/{djId}")
-    public ResponseEntity<List<Performance>> getPerformancesByDjId(@PathVariable String djId) {
-        List<Performance> performances = performanceService.getByDjId(djId);
+    public ResponseEntity<List<PerformanceView>> getPerformancesByDjId(@PathVariable String djId) {
+        List<PerformanceView> performances = performanceService.getByDjId(djId);
         return ResponseEntity.ok(performances);
     }
 }
@@ -1,69 +1,224 @@
 package com.capgemini.festivalapplication.controller;
 
+import com.capgemini.festivalapplication.dto.ReviewStats;
+import com.capgemini.festivalapplication.dto.SubjectRef;
+import com.capgemini.festivalapplication.dto.SubjectStats;
+import com.capgemini.festivalapplication.exception.BadRequestException;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Client service for communicating with the Review Microservice.
  * Handles all review-related operations by making HTTP calls to the review service.
+ *
+ * Every remote operation has its own circuit breaker and adaptive timeout, and all of
+ * them share one bulkhead that caps the calls in flight. While a breaker is open or the
+ * bulkhead is full, calls fail at once and the blocking methods return their fallback
+ * without waiting on the review service.
  */
 @Service
 public class ReviewServiceClient {
 
+    // review-service accepts at most this many subjects per stats batch
+    private static final int STATS_BATCH_SIZE = 1000;
+
+    // Stats batches in flight at the same time for one list
+    private static final int STATS_BATCH_CONCURRENCY = 4;
+
+    // Newest reviews fetched per subject for DJ profiles; review-service serves its review lists in pages
+    static final int REVIEWS_LIMIT = 50;
+
+    // Review page of a subject without reviews, also the fallback while review-service is unavailable
+    static final String EMPTY_REVIEW_PAGE = "{\"items\":[],\"next\":null}";
+
+    // Circuit breaker names, one per remote operation
+    public static final String REVIEWS = "reviewServiceReviews";
+    public static final String STATS = "reviewServiceStats";
+    public static final String STATS_BATCH = "reviewServiceStatsBatch";
+
+    // Bulkhead shared by all operations
+    public static final String BULKHEAD = "reviewService";
+
+    // Time callers wait per operation, including calls failed fast without a request
+    public static final String CALL_TIMER = "review.client.calls";
+
     private final WebClient webClient;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CircuitBreaker> circuitBreakers = new HashMap<>();
+    private final Map<String, AdaptiveTimeout> timeouts = new HashMap<>();
 
-    public ReviewServiceClient(@Value("${review.service.url:http://localhost:8080}") String reviewServiceUrl) {
-        this.webClient = WebClient.builder()
+    public ReviewServiceClient(WebClient.Builder webClientBuilder,
+                               @Value("${review.service.url:http://localhost:8080}") String reviewServiceUrl,
+                               CircuitBreakerRegistry circuitBreakerRegistry,
+                               BulkheadRegistry bulkheadRegistry,
+                               MeterRegistry meterRegistry,
+                               @Value("${review.client.timeout.min:200ms}") Duration minTimeout,
+                               @Value("${review.client.timeout.max:5s}") Duration maxTimeout) {
+        this.webClient = webClientBuilder
                 .baseUrl(reviewServiceUrl)
                 .build();
+        this.bulkhead = bulkheadRegistry.bulkhead(BULKHEAD);
+        this.meterRegistry = meterRegistry;
+        for (String operation : List.of(REVIEWS, STATS, STATS_BATCH)) {
+            circuitBreakers.put(operation, circuitBreakerRegistry.circuitBreaker(operation));
+            AdaptiveTimeout timeout = new AdaptiveTimeout(minTimeout, maxTimeout);
+            timeouts.put(operation, timeout);
+            Gauge.builder("review.client.timeout", timeout, t -> t.current().toNanos() / 1e9)
+                    .description("Current adaptive timeout of a review service operation")
+                    .baseUnit("seconds")
+                    .tag("operation", operation)
+                    .register(meterRegistry);
+        }
     }
 
     /**
-     * Get all reviews for a specific DJ.
+     * Fetches the newest reviews for a subject (first page of its feed) without blocking.
+     * The caller decides on fallbacks; fails with CallNotPermittedException while the
+     * circuit breaker is open and BulkheadFullException when too many calls are in flight.
      *
-     * @param djId the DJ ID
-     * @return JSON string containing the reviews
+     * @param subjectType "DJ" or "PERFORMANCE"
+     * @param subjectId the subject ID
+     * @return JSON array of at most REVIEWS_LIMIT reviews, newest first, empty array if the subject has none
+     */
+    public Mono<String> fetchReviews(String subjectType, String subjectId) {
+        return protect(REVIEWS, webClient.get()
+                .uri("/api/reviews/subject/{subjectType}/{subjectId}?limit={limit}", subjectType, subjectId, REVIEWS_LIMIT)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(page -> page.has("items") ? page.get("items").toString() : "[]")
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just("[]")));
+    }
+
+    /**
+     * Fetches one page of a subject's review feed without blocking, passed through as
+     * review-service serves it. Same failure behaviour as fetchReviews.
+     *
+     * @param subjectType "DJ" or "PERFORMANCE"
+     * @param subjectId the subject ID
+     * @param cursor next token of the previous page, null for the newest reviews
+     * @param limit page size, null for review-service's default
+     * @return JSON page {"items": [...], "next": "<token>"}, next null on the last page
+     */
+    public Mono<String> fetchReviewPage(String subjectType, String subjectId, String cursor, Integer limit) {
+        return protect(REVIEWS, webClient.get()
+                .uri(uri -> uri.path("/api/reviews/subject/{subjectType}/{subjectId}")
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .queryParamIfPresent("limit", Optional.ofNullable(limit))
+                        .build(subjectType, subjectId))
+                .retrieve()
+                .bodyToMono(String.class)
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.just(EMPTY_REVIEW_PAGE)));
+    }
+
+    /**
+     * Fetches average rating and review count for a subject in one call, without blocking.
+     *
+     * @param subjectType "DJ" or "PERFORMANCE"
+     * @param subjectId the subject ID
+     * @return review statistics of the subject
+     */
+    public Mono<ReviewStats> fetchStats(String subjectType, String subjectId) {
+        return protect(STATS, webClient.get()
+                .uri("/api/reviews/stats/{subjectType}/{subjectId}", subjectType, subjectId)
+                .retrieve()
+                .bodyToMono(ReviewStats.class));
+    }
+
+    /**
+     * Fetches review statistics of many subjects with one request, without blocking.
+     *
+     * @param subjects at most 1000 subjects
+     * @return statistics in request order
      */
-    public String getReviewsForDJ(Long djId) {
+    public Mono<List<SubjectStats>> fetchStatsBatch(List<SubjectRef> subjects) {
+        return protect(STATS_BATCH, webClient.post()
+                .uri("/api/reviews/stats/batch")
+                .bodyValue(subjects)
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<List<SubjectStats>>() {}));
+    }
+
+    /**
+     * Get review statistics for many DJs, one batch request per 1000 DJs.
+     *
+     * @param djIds the DJ IDs
+     * @return statistics by DJ ID, empty if the Review Service is not available
+     */
+    public Map<String, SubjectStats> getStatsForDJs(Collection<String> djIds) {
+        List<SubjectRef> subjects = djIds.stream().map(id -> new SubjectRef("DJ", id)).toList();
+        List<List<SubjectRef>> batches = new ArrayList<>();
+        for (int from = 0; from < subjects.size(); from += STATS_BATCH_SIZE) {
+            batches.add(subjects.subList(from, Math.min(from + STATS_BATCH_SIZE, subjects.size())));
+        }
         try {
-            return webClient.get()
-                    .uri("/api/reviews/subject/{subjectId}/type/{subjectType}", djId, "DJ")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
+            List<SubjectStats> stats = Flux.fromIterable(batches)
+                    .flatMap(this::fetchStatsBatch, STATS_BATCH_CONCURRENCY)
+                    .flatMapIterable(batch -> batch)
+                    .collectList()
                     .block();
-        } catch (WebClientResponseException.NotFound e) {
-            return "[]"; // Return empty array if no reviews found
+            Map<String, SubjectStats> byId = new HashMap<>();
+            if (stats != null) {
+                stats.forEach(entry -> byId.put(entry.subjectId(), entry));
+            }
+            return byId;
         } catch (Exception e) {
-            System.err.println("Error fetching DJ reviews: " + e.getMessage());
-            return "[]";
+            System.err.println("Error fetching DJ review stats batch: " + e.getMessage());
+            return Map.of();
         }
     }
 
     /**
-     * Get all reviews for a specific Performance.
+     * Get one page of reviews for a specific DJ, newest first.
+     *
+     * @param djId the DJ ID
+     * @param cursor next token of the previous page, null for the first page
+     * @param limit page size, null for review-service's default
+     * @return JSON page {"items": [...], "next": "<token>"}, empty if the Review Service is not available
+     * @throws BadRequestException if review-service rejects the cursor or limit
+     */
+    public String getReviewsForDJ(String djId, String cursor, Integer limit) {
+        return getReviews("DJ", djId, cursor, limit);
+    }
+
+    /**
+     * Get one page of reviews for a specific Performance, newest first.
      *
      * @param performanceId the Performance ID
-     * @return JSON string containing the reviews
+     * @param cursor next token of the previous page, null for the first page
+     * @param limit page size, null for review-service's default
+     * @return JSON page {"items": [...], "next": "<token>"}, empty if the Review Service is not available
+     * @throws BadRequestException if review-service rejects the cursor or limit
      */
-    public String getReviewsForPerformance(Long performanceId) {
-        try {
-            return webClient.get()
-                    .uri("/api/reviews/subject/{subjectId}/type/{subjectType}", performanceId, "PERFORMANCE")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(10))
-                    .block();
-        } catch (WebClientResponseException.NotFound e) {
-            return "[]"; // Return empty array if no reviews found
-        } catch (Exception e) {
-            System.err.println("Error fetching Performance reviews: " + e.getMessage());
-            return "[]";
-        }
+    public String getReviewsForPerformance(String performanceId, String cursor, Integer limit) {
+        return getReviews("PERFORMANCE", performanceId, cursor, limit);
     }
 
     /**
@@ -72,19 +227,8 @@ public class ReviewServiceClient {
      * @param djId the DJ ID
      * @return average rating as Double, or 0.0 if no reviews
      */
-    public Double getAverageRatingForDJ(Long djId) {
-        try {
-            String response = webClient.get()
-                    .uri("/api/reviews/subject/{subjectId}/type/{subjectType}/average", djId, "DJ")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(5))
-                    .block();
-            return Double.parseDouble(response);
-        } catch (Exception e) {
-            System.err.println("Error fetching DJ average rating: " + e.getMessage());
-            return 0.0;
-        }
+    public Double getAverageRatingForDJ(String djId) {
+        return getStats("DJ", djId).averageRating();
     }
 
     /**
@@ -93,19 +237,8 @@ public class ReviewServiceClient {
      * @param performanceId the Performance ID
      * @return average rating as Double, or 0.0 if no reviews
      */
-    public Double getAverageRatingForPerformance(Long performanceId) {
-        try {
-            String response = webClient.get()
-                    .uri("/api/reviews/subject/{subjectId}/type/{subjectType}/average", performanceId, "PERFORMANCE")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(5))
-                    .block();
-            return Double.parseDouble(response);
-        } catch (Exception e) {
-            System.err.println("Error fetching Performance average rating: " + e.getMessage());
-            return 0.0;
-        }
+    public Double getAverageRatingForPerformance(String performanceId) {
+        return getStats("PERFORMANCE", performanceId).averageRating();
     }
 
     /**
@@ -114,19 +247,8 @@ public class ReviewServiceClient {
      * @param djId the DJ ID
      * @return number of reviews
      */
-    public Long getReviewCountForDJ(Long djId) {
-        try {
-            String response = webClient.get()
-                    .uri("/api/reviews/subject/{subjectId}/type/{subjectType}/count", djId, "DJ")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(5))
-                    .block();
-            return Long.parseLong(response);
-        } catch (Exception e) {
-            System.err.println("Error fetching DJ review count: " + e.getMessage());
-            return 0L;
-        }
+    public Long getReviewCountForDJ(String djId) {
+        return getStats("DJ", djId).reviewCount();
     }
 
     /**
@@ -135,21 +257,99 @@ public class ReviewServiceClient {
      * @param performanceId the Performance ID
      * @return number of reviews
      */
-    public Long getReviewCountForPerformance(Long performanceId) {
+    public Long getReviewCountForPerformance(String performanceId) {
+        return getStats("PERFORMANCE", performanceId).reviewCount();
+    }
+
+    private String getReviews(String subjectType, String subjectId, String cursor, Integer limit) {
         try {
-            String response = webClient.get()
-                    .uri("/api/reviews/subject/{subjectId}/type/{subjectType}/count", performanceId, "PERFORMANCE")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(5))
-                    .block();
-            return Long.parseLong(response);
+            return fetchReviewPage(subjectType, subjectId, cursor, limit).block();
+        } catch (WebClientResponseException.BadRequest e) {
+            throw new BadRequestException("Invalid review page request: cursor must be a next token from a previous page.");
         } catch (Exception e) {
-            System.err.println("Error fetching Performance review count: " + e.getMessage());
-            return 0L;
+            System.err.println("Error fetching " + subjectType + " reviews: " + e.getMessage());
+            return EMPTY_REVIEW_PAGE;
         }
     }
 
+    private ReviewStats getStats(String subjectType, String subjectId) {
+        try {
+            ReviewStats stats = fetchStats(subjectType, subjectId).block();
+            if (stats != null && stats.averageRating() != null && stats.reviewCount() != null) {
+                return stats;
+            }
+        } catch (Exception e) {
+            System.err.println("Error fetching " + subjectType + " review stats: " + e.getMessage());
+        }
+        return new ReviewStats(0.0, 0L);
+    }
+
+    /**
+     * Current timeout of a remote operation.
+     *
+     * @param operation one of REVIEWS, STATS, STATS_BATCH
+     * @return the timeout the next call gets
+     */
+    public Duration currentTimeout(String operation) {
+        return timeouts.get(operation).current();
+    }
+
+    /**
+     * Wraps one remote call in the adaptive timeout, the operation's circuit breaker
+     * and the shared bulkhead. The call is only subscribed once both let it through.
+     * Every call, rejected ones included, is timed under CALL_TIMER.
+     */
+    private <T> Mono<T> protect(String operation, Mono<T> call) {
+        AdaptiveTimeout timeout = timeouts.get(operation);
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return Mono.defer(() -> {
+                        Duration limit = timeout.current();
+                        long start = System.nanoTime();
+                        return call.timeout(limit)
+                                .doOnError(e -> timeout.record(e instanceof TimeoutException
+                                        ? limit : Duration.ofNanos(System.nanoTime() - start)))
+                                .doOnSuccess(value -> timeout.record(Duration.ofNanos(System.nanoTime() - start)));
+                    })
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreakers.get(operation)))
+                    .transformDeferred(BulkheadOperator.of(bulkhead))
+                    .doOnSuccess(value -> sample.stop(callTimer(operation, "SUCCESS")))
+                    .doOnError(e -> sample.stop(callTimer(operation, outcome(e))))
+                    .doOnError(CallNotPermittedException.class, e -> rejected(operation, "circuit_open"))
+                    .doOnError(BulkheadFullException.class, e -> rejected(operation, "bulkhead_full"));
+        });
+    }
+
+    private Timer callTimer(String operation, String outcome) {
+        return Timer.builder(CALL_TIMER)
+                .description("Review service calls as seen by callers")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String outcome(Throwable error) {
+        if (error instanceof CallNotPermittedException || error instanceof BulkheadFullException) {
+            return "REJECTED";
+        }
+        if (error instanceof TimeoutException) {
+            return "TIMEOUT";
+        }
+        if (error instanceof WebClientResponseException.NotFound) {
+            return "NOT_FOUND";
+        }
+        return "ERROR";
+    }
+
+    private void rejected(String operation, String reason) {
+        Counter.builder("review.client.rejected")
+                .description("Review service calls failed fast without reaching the service")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
     /**
      * Test connectivity to the Review Service.
      *
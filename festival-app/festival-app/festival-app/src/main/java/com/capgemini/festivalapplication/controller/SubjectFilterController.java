@@ -0,0 +1,40 @@
+package com.capgemini.festivalapplication.controller;
+
+import com.capgemini.festivalapplication.dto.SubjectFilter;
+import com.capgemini.festivalapplication.service.SubjectFilterPublisher;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * REST Controller publishing the subject filter: a Bloom filter of all DJ and
+ * performance ids, pulled periodically by review-service to validate subjects locally.
+ */
+@RestController
+@RequestMapping("/api/subjects")
+public class SubjectFilterController {
+
+    private final SubjectFilterPublisher subjectFilterPublisher;
+
+    public SubjectFilterController(SubjectFilterPublisher subjectFilterPublisher) {
+        this.subjectFilterPublisher = subjectFilterPublisher;
+    }
+
+    /**
+     * Retrieves the current subject filter.
+     * @param request Carries the conditional headers
+     * @return The filter with its version as ETag, or HTTP 304 if the client's copy is current
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<SubjectFilter> getSubjectFilter(WebRequest request) {
+        SubjectFilter filter = subjectFilterPublisher.current();
+        if (request.checkNotModified(filter.eTag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(filter.eTag())
+                .body(filter);
+    }
+}
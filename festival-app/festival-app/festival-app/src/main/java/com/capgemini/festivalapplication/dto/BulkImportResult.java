@@ -0,0 +1,64 @@
+package com.capgemini.festivalapplication.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-row outcome report of a bulk DJ import.
+ * Rows are reported in request order; index refers to the position in the submitted array.
+ */
+public class BulkImportResult {
+
+    public enum Status { CREATED, REJECTED }
+
+    private final List<Row> rows = new ArrayList<>();
+    private int created;
+    private int rejected;
+    private long elapsedMillis;
+
+    public void created(int index, String email, String id) {
+        rows.add(new Row(index, email, Status.CREATED, id, null));
+        created++;
+    }
+
+    public void rejected(int index, String email, String message) {
+        rows.add(new Row(index, email, Status.REJECTED, null, message));
+        rejected++;
+    }
+
+    public List<Row> getRows() { return rows; }
+    public int getTotal() { return created + rejected; }
+    public int getCreated() { return created; }
+    public int getRejected() { return rejected; }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    /**
+     * Insert throughput of this import, comparable with the single-create path.
+     */
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? created * 1000.0 : created * 1000.0 / elapsedMillis;
+    }
+
+    public static class Row {
+        private final int index;
+        private final String email;
+        private final Status status;
+        private final String id;
+        private final String message;
+
+        public Row(int index, String email, Status status, String id, String message) {
+            this.index = index;
+            this.email = email;
+            this.status = status;
+            this.id = id;
+            this.message = message;
+        }
+
+        public int getIndex() { return index; }
+        public String getEmail() { return email; }
+        public Status getStatus() { return status; }
+        public String getId() { return id; }
+        public String getMessage() { return message; }
+    }
+}
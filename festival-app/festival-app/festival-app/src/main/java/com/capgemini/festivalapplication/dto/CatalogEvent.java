@@ -0,0 +1,17 @@
+package com.capgemini.festivalapplication.dto;
+
+import com.capgemini.festivalapplication.entity.OutboxEvent;
+
+import java.time.Instant;
+
+/**
+ * Catalog change as delivered to review-service (POST /api/reviews/catalog-events).
+ * Events of one batch are in sequence order.
+ */
+public record CatalogEvent(long sequence, String subjectType, String subjectId, String type, Instant occurredAt) {
+
+    public static CatalogEvent of(OutboxEvent event) {
+        return new CatalogEvent(event.getId(), event.getSubjectType(), event.getSubjectId(),
+                event.getType().name(), event.getOccurredAt());
+    }
+}
@@ -0,0 +1,24 @@
+package com.capgemini.festivalapplication.dto;
+
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated collection.
+ *
+ * The nextCursor is an opaque continuation token: clients pass it back
+ * unchanged to fetch the following page and must not try to parse it.
+ * It is null when the last page has been reached.
+ */
+public class CursorPage<T> {
+    private final List<T> items;
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() { return items; }
+    public String getNextCursor() { return nextCursor; }
+    public boolean isHasNext() { return nextCursor != null; }
+}
@@ -2,8 +2,10 @@ package com.capgemini.festivalapplication.dto;
 
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 
 public class DjDto {
+    @Size(max = 36, message = "ID must be at most 36 characters")
     private String id;
 
     @NotBlank(message = "DJ name must not be blank")
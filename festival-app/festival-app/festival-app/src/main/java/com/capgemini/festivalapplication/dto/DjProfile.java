@@ -0,0 +1,20 @@
+package com.capgemini.festivalapplication.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.util.List;
+
+/**
+ * Everything the DJ page needs in one response: the DJ, its performances and its
+ * reviews and rating from review-service.
+ *
+ * Review data that could not be fetched in time is null and the part is listed in
+ * {@code unavailable} ("reviews", "stats"), so clients can show the rest of the page.
+ */
+public record DjProfile(DjView dj,
+                        List<PerformanceView> performances,
+                        @JsonRawValue String reviews,
+                        Double averageRating,
+                        Long reviewCount,
+                        List<String> unavailable) {
+}
@@ -0,0 +1,15 @@
+package com.capgemini.festivalapplication.dto;
+
+/**
+ * DJ list entry with its review statistics, for list pages that show ratings.
+ * Rating and count are null when review-service could not be reached.
+ */
+public record DjRatingView(String id, String name, String genre, String email,
+                           Double averageRating, Long reviewCount) {
+
+    public static DjRatingView of(DjView dj, SubjectStats stats) {
+        return new DjRatingView(dj.id(), dj.name(), dj.genre(), dj.email(),
+                stats != null ? stats.averageRating() : null,
+                stats != null ? stats.reviewCount() : null);
+    }
+}
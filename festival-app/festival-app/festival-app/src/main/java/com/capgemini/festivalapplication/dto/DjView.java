@@ -0,0 +1,9 @@
+package com.capgemini.festivalapplication.dto;
+
+/**
+ * Read-only view of a DJ for list and search responses.
+ * Filled by constructor queries, so no managed entity or dirty-checking snapshot is created.
+ * Serializes to the same JSON as the Dj entity.
+ */
+public record DjView(String id, String name, String genre, String email) {
+}
@@ -0,0 +1,54 @@
+package com.capgemini.festivalapplication.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Summary of a lineup CSV import.
+ * Only rejected lines are listed (capped), so the report stays small for large files.
+ */
+public class LineupImportResult {
+
+    // Keep the report bounded even if every line of a 100k-row file is rejected
+    public static final int MAX_REPORTED_ERRORS = 100;
+
+    private final List<LineError> errors = new ArrayList<>();
+    private int imported;
+    private int rejected;
+    private long elapsedMillis;
+
+    public void imported(int count) {
+        imported += count;
+    }
+
+    public void rejected(long line, String message) {
+        rejected++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new LineError(line, message));
+        }
+    }
+
+    public int getImported() { return imported; }
+    public int getRejected() { return rejected; }
+    public List<LineError> getErrors() { return errors; }
+    public boolean isErrorsTruncated() { return rejected > errors.size(); }
+    public long getElapsedMillis() { return elapsedMillis; }
+    public void setElapsedMillis(long elapsedMillis) { this.elapsedMillis = elapsedMillis; }
+
+    public double getRowsPerSecond() {
+        return elapsedMillis == 0 ? imported * 1000.0 : imported * 1000.0 / elapsedMillis;
+    }
+
+    public static class LineError {
+        private final long line;
+        private final String message;
+
+        public LineError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() { return line; }
+        public String getMessage() { return message; }
+    }
+}
@@ -0,0 +1,7 @@
+package com.capgemini.festivalapplication.dto;
+
+/**
+ * Two performances of the same DJ whose time slots overlap.
+ */
+public record PerformanceConflict(PerformanceSlot performance, PerformanceSlot conflictsWith) {
+}
@@ -2,9 +2,11 @@ package com.capgemini.festivalapplication.dto;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.time.LocalDateTime;
 
 public class PerformanceDto {
+    @Size(max = 36, message = "ID must be at most 36 characters")
     private String id;
 
     @NotBlank(message = "Title must not be blank")
@@ -0,0 +1,14 @@
+package com.capgemini.festivalapplication.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * The time slot a performance occupies in a DJ's schedule.
+ * Loaded with a constructor query, so building the schedule index hydrates no entities.
+ */
+public record PerformanceSlot(String performanceId, String djId, LocalDateTime startTime, LocalDateTime endTime) {
+
+    public boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+        return startTime.isBefore(otherEnd) && otherStart.isBefore(endTime);
+    }
+}
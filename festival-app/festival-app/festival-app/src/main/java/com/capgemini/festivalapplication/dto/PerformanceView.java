@@ -0,0 +1,23 @@
+package com.capgemini.festivalapplication.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Read-only view of a performance for list and search responses.
+ * Filled by constructor queries, so no managed entity or dirty-checking snapshot is created.
+ * Serializes to the same JSON as the Performance entity.
+ */
+public record PerformanceView(String id, String title, String description,
+                              LocalDateTime startTime, LocalDateTime endTime, String djId) {
+
+    @JsonProperty("durationInHours")
+    public long getDurationInHours() {
+        if (startTime != null && endTime != null) {
+            return ChronoUnit.HOURS.between(startTime, endTime);
+        }
+        return 0;
+    }
+}
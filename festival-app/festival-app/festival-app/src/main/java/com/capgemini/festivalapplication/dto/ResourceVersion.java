@@ -0,0 +1,22 @@
+package com.capgemini.festivalapplication.dto;
+
+import java.time.Instant;
+
+/**
+ * Version stamp of a resource or collection, used for conditional GETs.
+ * Loaded with constructor queries, so a revalidation reads two columns and hydrates no entities.
+ */
+public record ResourceVersion(Long version, Instant lastModified) {
+
+    /**
+     * Strong entity tag. The timestamp keeps tags unique when an id is reused after
+     * a delete or the change counter starts over on a fresh schema.
+     */
+    public String eTag() {
+        return "\"" + version + "-" + lastModifiedMillis() + "\"";
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified != null ? lastModified.toEpochMilli() : -1;
+    }
+}
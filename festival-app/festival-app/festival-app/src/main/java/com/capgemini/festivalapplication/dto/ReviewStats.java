@@ -0,0 +1,11 @@
+package com.capgemini.festivalapplication.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * Review statistics of one subject, as returned by review-service's
+ * /api/reviews/stats/{subjectType}/{subjectId}.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ReviewStats(Double averageRating, Long reviewCount) {
+}
@@ -0,0 +1,19 @@
+package com.capgemini.festivalapplication.dto;
+
+/**
+ * Published Bloom filter of all DJ and performance ids (see SubjectBloomFilter).
+ * The version changes with every write to either catalog and is sent as the ETag,
+ * so review-service revalidates its copy with If-None-Match.
+ */
+public record SubjectFilter(String version,
+                            int subjectCount,
+                            long bitCount,
+                            int hashFunctions,
+                            int sizeBytes,
+                            double falsePositiveRate,
+                            String bits) {
+
+    public String eTag() {
+        return "\"" + version + "\"";
+    }
+}
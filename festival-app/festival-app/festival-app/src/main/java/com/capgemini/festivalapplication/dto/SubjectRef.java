@@ -0,0 +1,7 @@
+package com.capgemini.festivalapplication.dto;
+
+/**
+ * Reference to a reviewed subject in a review-service stats batch request.
+ */
+public record SubjectRef(String subjectType, String subjectId) {
+}
@@ -0,0 +1,10 @@
+package com.capgemini.festivalapplication.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+/**
+ * One entry of review-service's /api/reviews/stats/batch response.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record SubjectStats(String subjectType, String subjectId, Double averageRating, Long reviewCount) {
+}
@@ -0,0 +1,51 @@
+package com.capgemini.festivalapplication.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Change counter of a whole catalog (all DJs or all performances).
+ * Incremented on every write to the catalog; collection endpoints derive their
+ * ETag from it, so revalidating a list is a primary key lookup of one row.
+ */
+@Entity
+@Table(name = "catalog_versions")
+public class CatalogVersion {
+
+    public static final String DJS = "djs";
+    public static final String PERFORMANCES = "performances";
+
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    @Column(nullable = false)
+    private long version;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    protected CatalogVersion() {
+    }
+
+    public CatalogVersion(String name, Instant updatedAt) {
+        this.name = name;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
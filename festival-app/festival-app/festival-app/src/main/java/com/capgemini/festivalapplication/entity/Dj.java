@@ -1,20 +1,28 @@
 package com.capgemini.festivalapplication.entity;
 
+import com.capgemini.festivalapplication.config.SecondLevelCacheConfig;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 
 @Entity
-@Table(name = "djs")
+@Table(name = "djs", indexes = @Index(name = "idx_djs_name_id", columnList = "name, id"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.DJ_REGION)
 public class Dj {
     
     @Id
+    @Column(length = TimeOrderedId.LENGTH)
     private String id;
     
     @NotBlank(message = "Name is required")
@@ -30,12 +38,25 @@ public class Dj {
     @Column(nullable = false, unique = true)
     private String email;
     
+    // Optimistic lock; with updatedAt it is also the resource's ETag
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonIgnore
+    private Long version;
+    
+    @UpdateTimestamp
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(nullable = false)
+    @JsonIgnore
+    private Instant updatedAt;
+    
     @OneToMany(mappedBy = "dj", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.DJ_PERFORMANCES_REGION)
     @JsonIgnore
     private List<Performance> performances = new ArrayList<>();
     
     public Dj() {
-        this.id = UUID.randomUUID().toString();
     }
     
     public Dj(String name, String genre, String email) {
@@ -54,6 +75,25 @@ public class Dj {
         this.id = id;
     }
     
+    /**
+     * Draws a time-ordered id (TimeOrderedId) unless one was set already. Runs when the
+     * entity is persisted, so instances that are only loaded or mapped never draw one.
+     */
+    @PrePersist
+    public void assignId() {
+        if (id == null) {
+            id = TimeOrderedId.next();
+        }
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+    
     public String getName() {
         return name;
     }
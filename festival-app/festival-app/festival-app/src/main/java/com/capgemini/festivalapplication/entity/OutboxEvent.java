@@ -0,0 +1,95 @@
+package com.capgemini.festivalapplication.entity;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Catalog change waiting to be delivered to review-service.
+ *
+ * Written in the same transaction as the DJ or performance change it describes, so an
+ * event exists if and only if the change committed. OutboxRelay delivers events in id
+ * order and deletes them once review-service has accepted them. Events it gives up on
+ * are dead-lettered: they stay in the table with deadLetteredAt set and are no longer
+ * delivered; clearing deadLetteredAt queues them again.
+ */
+@Entity
+@Table(name = "outbox_events")
+public class OutboxEvent {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    // One sequence value per event, not a pooled block per instance: review-service takes
+    // a lower id as an older change of the subject, so ids must follow the database's order
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 1)
+    private Long id;
+
+    @Column(nullable = false, length = 16)
+    private String subjectType;
+
+    @Column(nullable = false, length = TimeOrderedId.LENGTH)
+    private String subjectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Type type;
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    // Failed delivery attempts so far
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // Set when the relay gave up on the event
+    private Instant deadLetteredAt;
+
+    protected OutboxEvent() {
+    }
+
+    public OutboxEvent(String subjectType, String subjectId, Type type, Instant occurredAt) {
+        this.subjectType = subjectType;
+        this.subjectId = subjectId;
+        this.type = type;
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSubjectType() {
+        return subjectType;
+    }
+
+    public String getSubjectId() {
+        return subjectId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public Instant getDeadLetteredAt() {
+        return deadLetteredAt;
+    }
+}
@@ -0,0 +1,51 @@
+package com.capgemini.festivalapplication.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * Time-limited lease that makes one application instance the outbox relay.
+ * The holder renews it before every batch; once it expires any instance may take it
+ * over, so a crashed holder stalls delivery for at most one lease period.
+ */
+@Entity
+@Table(name = "outbox_leases")
+public class OutboxLease {
+
+    public static final String RELAY = "relay";
+
+    @Id
+    @Column(length = 32)
+    private String name;
+
+    @Column(nullable = false, length = 36)
+    private String owner;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    protected OutboxLease() {
+    }
+
+    public OutboxLease(String name, String owner, Instant expiresAt) {
+        this.name = name;
+        this.owner = owner;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
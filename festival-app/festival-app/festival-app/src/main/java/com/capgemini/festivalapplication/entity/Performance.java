@@ -1,20 +1,32 @@
 package com.capgemini.festivalapplication.entity;
 
+import com.capgemini.festivalapplication.config.SecondLevelCacheConfig;
 import com.fasterxml.jackson.annotation.JsonBackReference;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.UpdateTimestamp;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
-import java.util.UUID;
 
 @Entity
-@Table(name = "performances")
+@Table(name = "performances", indexes = {
+    @Index(name = "idx_performances_start_time_id", columnList = "startTime, id"),
+    @Index(name = "idx_performances_dj_id", columnList = "dj_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.PERFORMANCE_REGION)
 public class Performance {
     
     @Id
+    @Column(length = TimeOrderedId.LENGTH)
     private String id;
     
     @NotBlank(message = "Title is required")
@@ -32,13 +44,25 @@ public class Performance {
     @Column(nullable = false)
     private LocalDateTime endTime;
     
+    // Optimistic lock; with updatedAt it is also the resource's ETag
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @JsonIgnore
+    private Long version;
+    
+    @UpdateTimestamp
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(nullable = false)
+    @JsonIgnore
+    private Instant updatedAt;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "dj_id", referencedColumnName = "id")
     @JsonBackReference
     private Dj dj;
     
     public Performance() {
-        this.id = UUID.randomUUID().toString();
     }
     
     public Performance(String title, String description, LocalDateTime startTime, LocalDateTime endTime, Dj dj) {
@@ -67,6 +91,25 @@ public class Performance {
         this.id = id;
     }
     
+    /**
+     * Draws a time-ordered id (TimeOrderedId) unless one was set already. Runs when the
+     * entity is persisted, so instances that are only loaded or mapped never draw one.
+     */
+    @PrePersist
+    public void assignId() {
+        if (id == null) {
+            id = TimeOrderedId.next();
+        }
+    }
+    
+    public Long getVersion() {
+        return version;
+    }
+    
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+    
     public String getTitle() {
         return title;
     }
@@ -30,7 +30,7 @@ public class DjMapper {
         }
 
         Dj dj = new Dj();
-        // Don't set ID for new entities - let the entity generate it
+        // Don't set ID for new entities - it is assigned when the entity is persisted
         // Only set ID if it's provided (for updates)
         if (djDto.getId() != null && !djDto.getId().isEmpty()) {
             dj.setId(djDto.getId());
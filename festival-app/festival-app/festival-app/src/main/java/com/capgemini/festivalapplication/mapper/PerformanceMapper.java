@@ -1,6 +1,7 @@
 package com.capgemini.festivalapplication.mapper;
 
 import com.capgemini.festivalapplication.dto.PerformanceDto;
+import com.capgemini.festivalapplication.dto.PerformanceView;
 import com.capgemini.festivalapplication.entity.Dj;
 import com.capgemini.festivalapplication.entity.Performance;
 import com.capgemini.festivalapplication.exception.BadRequestException;
@@ -48,7 +49,7 @@ public class PerformanceMapper {
             ));
 
         Performance performance = new Performance();
-        // Don't set ID for new entities - let the entity generate it
+        // Don't set ID for new entities - it is assigned when the entity is persisted
         // Only set ID if it's provided (for updates)
         if (performanceDto.getId() != null && !performanceDto.getId().isEmpty()) {
             performance.setId(performanceDto.getId());
@@ -92,6 +93,28 @@ public class PerformanceMapper {
         return performanceDto;
     }
 
+    /**
+     * Converts a Performance entity to the read-only PerformanceView.
+     * Used to keep in-memory indexes in sync after writes.
+     * 
+     * @param performance The saved entity
+     * @return PerformanceView with the same JSON shape as the entity
+     */
+    public PerformanceView toView(Performance performance) {
+        if (performance == null) {
+            return null;
+        }
+
+        return new PerformanceView(
+            performance.getId(),
+            performance.getTitle(),
+            performance.getDescription(),
+            performance.getStartTime(),
+            performance.getEndTime(),
+            performance.getDjId()
+        );
+    }
+
     /**
      * Updates an existing Performance entity with data from a PerformanceDto.
      * Used for PUT operations where we want to update an existing entity
@@ -134,11 +157,12 @@ public class PerformanceMapper {
     /**
      * Validates that the performance timing is logical.
      * Ensures that start time is before end time.
+     * Also used by the lineup importer, which builds entities without this mapper.
      * 
      * @param performance The performance to validate
      * @throws BadRequestException if timing is invalid
      */
-    private void validatePerformanceTiming(Performance performance) {
+    public void validatePerformanceTiming(Performance performance) {
         if (performance.getStartTime() != null && performance.getEndTime() != null) {
             if (performance.getStartTime().isAfter(performance.getEndTime())) {
                 throw new BadRequestException(
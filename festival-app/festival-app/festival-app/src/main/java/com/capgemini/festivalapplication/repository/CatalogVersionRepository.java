@@ -0,0 +1,25 @@
+package com.capgemini.festivalapplication.repository;
+
+import com.capgemini.festivalapplication.dto.ResourceVersion;
+import com.capgemini.festivalapplication.entity.CatalogVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface CatalogVersionRepository extends JpaRepository<CatalogVersion, String> {
+    
+    // Single UPDATE, so concurrent writers never lose an increment
+    @Modifying
+    @Query("UPDATE CatalogVersion c SET c.version = c.version + 1, c.updatedAt = :now WHERE c.name = :name")
+    int increment(@Param("name") String name, @Param("now") Instant now);
+    
+    @Query("SELECT new com.capgemini.festivalapplication.dto.ResourceVersion(c.version, c.updatedAt) " +
+           "FROM CatalogVersion c WHERE c.name = :name")
+    Optional<ResourceVersion> findVersion(@Param("name") String name);
+}
@@ -1,10 +1,15 @@
 package com.capgemini.festivalapplication.repository;
 
+import com.capgemini.festivalapplication.dto.DjView;
+import com.capgemini.festivalapplication.dto.ResourceVersion;
 import com.capgemini.festivalapplication.entity.Dj;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +18,10 @@ public interface DjRepository extends JpaRepository<Dj, String> {
     
     Optional<Dj> findByEmail(String email);
     
+    // Uniqueness check for bulk imports: one IN query per chunk of emails
+    @Query("SELECT d.email FROM Dj d WHERE d.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+    
     List<Dj> findByGenre(String genre);
     
     // Exercise 2: Find DJs by name
@@ -21,4 +30,39 @@ public interface DjRepository extends JpaRepository<Dj, String> {
     // Exercise 2: Find DJs with names longer than 6 characters
     @Query("SELECT d FROM Dj d WHERE LENGTH(d.name) > 6")
     List<Dj> findDjsWithNameLongerThan6Characters();
+    
+    // Id-only scan used to resolve DJ references in memory during lineup imports
+    @Query("SELECT d.id FROM Dj d")
+    List<String> findAllIds();
+    
+    // Read path: flat views built by constructor queries, no managed entities
+    @Query("SELECT new com.capgemini.festivalapplication.dto.DjView(d.id, d.name, d.genre, d.email) " +
+           "FROM Dj d ORDER BY d.name ASC, d.id ASC")
+    List<DjView> findAllViews();
+    
+    @Query("SELECT new com.capgemini.festivalapplication.dto.DjView(d.id, d.name, d.genre, d.email) " +
+           "FROM Dj d WHERE d.genre = :genre")
+    List<DjView> findViewsByGenre(@Param("genre") String genre);
+    
+    @Query("SELECT new com.capgemini.festivalapplication.dto.DjView(d.id, d.name, d.genre, d.email) " +
+           "FROM Dj d WHERE d.name = :name")
+    List<DjView> findViewsByName(@Param("name") String name);
+    
+    @Query("SELECT new com.capgemini.festivalapplication.dto.DjView(d.id, d.name, d.genre, d.email) " +
+           "FROM Dj d WHERE LENGTH(d.name) > 6")
+    List<DjView> findViewsWithNameLongerThan6Characters();
+    
+    // Conditional GET: version columns only, the DJ itself is not loaded
+    @Query("SELECT new com.capgemini.festivalapplication.dto.ResourceVersion(d.version, d.updatedAt) " +
+           "FROM Dj d WHERE d.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") String id);
+    
+    // Keyset pagination on (name, id); the Pageable only carries the LIMIT
+    @Query("SELECT new com.capgemini.festivalapplication.dto.DjView(d.id, d.name, d.genre, d.email) " +
+           "FROM Dj d ORDER BY d.name ASC, d.id ASC")
+    List<DjView> findFirstPage(Pageable pageable);
+    
+    @Query("SELECT new com.capgemini.festivalapplication.dto.DjView(d.id, d.name, d.genre, d.email) " +
+           "FROM Dj d WHERE d.name > :name OR (d.name = :name AND d.id > :id) ORDER BY d.name ASC, d.id ASC")
+    List<DjView> findPageAfter(@Param("name") String name, @Param("id") String id, Pageable pageable);
 }
@@ -0,0 +1,37 @@
+package com.capgemini.festivalapplication.repository;
+
+import com.capgemini.festivalapplication.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    
+    // Next batch for the relay, oldest first; the Pageable only carries the LIMIT
+    @Query("SELECT e FROM OutboxEvent e WHERE e.deadLetteredAt IS NULL ORDER BY e.id ASC")
+    List<OutboxEvent> findOldest(Pageable pageable);
+    
+    long countByDeadLetteredAtIsNull();
+    
+    long countByDeadLetteredAtIsNotNull();
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error WHERE e.id IN :ids")
+    int recordFailedAttempt(@Param("ids") Collection<Long> ids, @Param("error") String error);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error, e.deadLetteredAt = :now " +
+           "WHERE e.id IN :ids")
+    int deadLetter(@Param("ids") Collection<Long> ids, @Param("error") String error, @Param("now") Instant now);
+}
@@ -1,16 +1,85 @@
 package com.capgemini.festivalapplication.repository;
 
+import com.capgemini.festivalapplication.config.SecondLevelCacheConfig;
+import com.capgemini.festivalapplication.dto.PerformanceSlot;
+import com.capgemini.festivalapplication.dto.PerformanceView;
+import com.capgemini.festivalapplication.dto.ResourceVersion;
 import com.capgemini.festivalapplication.entity.Performance;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface PerformanceRepository extends JpaRepository<Performance, String> {
     
+    // Query cache: results are dropped by Hibernate on any write to the tables they read
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.PERFORMANCE_QUERY_REGION)
+    })
     List<Performance> findByDj_Id(String djId);
     
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.PERFORMANCE_QUERY_REGION)
+    })
     List<Performance> findByStartTimeBetween(LocalDateTime startTime, LocalDateTime endTime);
+    
+    // Read path: flat views built by constructor queries, no managed entities.
+    // p.dj.id reads the foreign key column, it does not join djs
+    @Query("SELECT new com.capgemini.festivalapplication.dto.PerformanceView(p.id, p.title, p.description, p.startTime, p.endTime, p.dj.id) " +
+           "FROM Performance p ORDER BY p.startTime ASC, p.id ASC")
+    List<PerformanceView> findAllViews();
+    
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.PERFORMANCE_QUERY_REGION)
+    })
+    @Query("SELECT new com.capgemini.festivalapplication.dto.PerformanceView(p.id, p.title, p.description, p.startTime, p.endTime, p.dj.id) " +
+           "FROM Performance p WHERE p.dj.id = :djId")
+    List<PerformanceView> findViewsByDjId(@Param("djId") String djId);
+    
+    // Conditional GET: version columns only, the performance itself is not loaded
+    @Query("SELECT new com.capgemini.festivalapplication.dto.ResourceVersion(p.version, p.updatedAt) " +
+           "FROM Performance p WHERE p.id = :id")
+    Optional<ResourceVersion> findVersionById(@Param("id") String id);
+    
+    // Keyset pagination on (startTime, id); the Pageable only carries the LIMIT
+    @Query("SELECT new com.capgemini.festivalapplication.dto.PerformanceView(p.id, p.title, p.description, p.startTime, p.endTime, p.dj.id) " +
+           "FROM Performance p ORDER BY p.startTime ASC, p.id ASC")
+    List<PerformanceView> findFirstPage(Pageable pageable);
+    
+    @Query("SELECT new com.capgemini.festivalapplication.dto.PerformanceView(p.id, p.title, p.description, p.startTime, p.endTime, p.dj.id) " +
+           "FROM Performance p WHERE p.startTime > :startTime " +
+           "OR (p.startTime = :startTime AND p.id > :id) ORDER BY p.startTime ASC, p.id ASC")
+    List<PerformanceView> findPageAfter(@Param("startTime") LocalDateTime startTime,
+                                        @Param("id") String id,
+                                        Pageable pageable);
+    
+    // Cursor-backed stream for exports; must be consumed inside a transaction and closed
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Performance p ORDER BY p.startTime ASC, p.id ASC")
+    Stream<Performance> streamAllOrderedByStartTime();
+    
+    // Id-only scan used to build the published subject filter
+    @Query("SELECT p.id FROM Performance p")
+    List<String> findAllIds();
+    
+    // Slot data only, used to build the in-memory DJ schedule index
+    @Query("SELECT new com.capgemini.festivalapplication.dto.PerformanceSlot(p.id, p.dj.id, p.startTime, p.endTime) " +
+           "FROM Performance p WHERE p.dj IS NOT NULL")
+    List<PerformanceSlot> findAllSlots();
 }
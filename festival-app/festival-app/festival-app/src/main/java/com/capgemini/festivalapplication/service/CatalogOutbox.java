@@ -0,0 +1,32 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.entity.OutboxEvent;
+import com.capgemini.festivalapplication.repository.OutboxEventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Records catalog changes in the outbox table for OutboxRelay to deliver.
+ * Must be called inside the transaction that writes the change, so the event
+ * commits or rolls back with it.
+ */
+@Component
+public class CatalogOutbox {
+
+    public static final String DJ = "DJ";
+    public static final String PERFORMANCE = "PERFORMANCE";
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    public CatalogOutbox(OutboxEventRepository outboxEventRepository) {
+        this.outboxEventRepository = outboxEventRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String subjectType, String subjectId, OutboxEvent.Type type) {
+        outboxEventRepository.save(new OutboxEvent(subjectType, subjectId, type, Instant.now()));
+    }
+}
@@ -0,0 +1,71 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.dto.ResourceVersion;
+import com.capgemini.festivalapplication.entity.CatalogVersion;
+import com.capgemini.festivalapplication.repository.CatalogVersionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * Catalog-wide change counters backing the ETags of the collection endpoints.
+ *
+ * The services bump a catalog after every write to it. A bump issued inside a
+ * transaction joins it, so the counter commits or rolls back with the data; otherwise
+ * it runs right after the write, never before it. Counters live in the database, so all
+ * instances agree on them and a client's tag stays valid across restarts.
+ */
+@Component
+public class CatalogVersions {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogVersions.class);
+
+    private final CatalogVersionRepository catalogVersionRepository;
+
+    // Stands in for a counter row that does not exist yet, changes with every start
+    private final Instant startedAt = Instant.now();
+
+    public CatalogVersions(CatalogVersionRepository catalogVersionRepository) {
+        this.catalogVersionRepository = catalogVersionRepository;
+    }
+
+    /**
+     * Creates the counter rows missing from a fresh schema.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (String catalog : new String[] {CatalogVersion.DJS, CatalogVersion.PERFORMANCES}) {
+            if (catalogVersionRepository.existsById(catalog)) {
+                continue;
+            }
+            try {
+                catalogVersionRepository.save(new CatalogVersion(catalog, startedAt));
+            } catch (DataIntegrityViolationException e) {
+                // Another instance created it first
+                logger.debug("Catalog version {} already created", catalog);
+            }
+        }
+    }
+
+    @Transactional
+    public void bump(String... catalogs) {
+        Instant now = Instant.now();
+        for (String catalog : catalogs) {
+            if (catalogVersionRepository.increment(catalog, now) == 0) {
+                logger.warn("No catalog version row for {}, collection ETags will not change", catalog);
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ResourceVersion current(String catalog) {
+        return catalogVersionRepository.findVersion(catalog)
+                .orElseGet(() -> new ResourceVersion(0L, startedAt));
+    }
+}
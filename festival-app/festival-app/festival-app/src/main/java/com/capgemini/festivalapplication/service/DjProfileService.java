@@ -0,0 +1,7 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.dto.DjProfile;
+
+public interface DjProfileService {
+    DjProfile getProfile(String djId);
+}
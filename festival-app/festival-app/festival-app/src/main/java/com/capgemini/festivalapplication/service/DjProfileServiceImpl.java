@@ -0,0 +1,104 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.config.MetricsConfig;
+import com.capgemini.festivalapplication.controller.ReviewServiceClient;
+import com.capgemini.festivalapplication.dto.DjProfile;
+import com.capgemini.festivalapplication.dto.DjView;
+import com.capgemini.festivalapplication.dto.PerformanceView;
+import com.capgemini.festivalapplication.dto.ReviewStats;
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service implementation for the DJ profile page.
+ *
+ * The four parts of a profile are loaded at the same time instead of one after another:
+ * - DJ and performances from the database, on the bounded elastic scheduler
+ * - Reviews and review statistics from review-service, over non-blocking WebClient calls
+ *
+ * All branches are started together, so the response takes as long as the slowest
+ * branch. The review branches share one deadline; a branch that misses it or fails is
+ * reported as unavailable instead of failing the page. A missing DJ still fails the
+ * whole request with 404.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class DjProfileServiceImpl implements DjProfileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DjProfileServiceImpl.class);
+
+    private final DjService djService;
+    private final PerformanceRepository performanceRepository;
+    private final ReviewServiceClient reviewServiceClient;
+    private final Duration deadline;
+
+    public DjProfileServiceImpl(DjService djService,
+                                PerformanceRepository performanceRepository,
+                                ReviewServiceClient reviewServiceClient,
+                                @Value("${festival.profile.deadline:800ms}") Duration deadline) {
+        this.djService = djService;
+        this.performanceRepository = performanceRepository;
+        this.reviewServiceClient = reviewServiceClient;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public DjProfile getProfile(String djId) {
+        Mono<Dj> dj = Mono.fromCallable(() -> djService.getById(djId))
+                .subscribeOn(Schedulers.boundedElastic());
+        Mono<List<PerformanceView>> performances = Mono.fromCallable(() -> performanceRepository.findViewsByDjId(djId))
+                .subscribeOn(Schedulers.boundedElastic());
+        // Optional so a fallback can be told apart from data; zip drops empty branches
+        Mono<Optional<String>> reviews = withinDeadline("reviews", djId,
+                reviewServiceClient.fetchReviews("DJ", djId));
+        Mono<Optional<ReviewStats>> stats = withinDeadline("stats", djId,
+                reviewServiceClient.fetchStats("DJ", djId));
+
+        return Mono.zip(dj, performances, reviews, stats)
+                .map(parts -> toProfile(parts.getT1(), parts.getT2(), parts.getT3(), parts.getT4()))
+                .block();
+    }
+
+    private <T> Mono<Optional<T>> withinDeadline(String part, String djId, Mono<T> call) {
+        return call.map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .timeout(deadline)
+                .onErrorResume(e -> {
+                    logger.warn("DJ profile {}: {} unavailable ({})", djId, part, e.toString());
+                    return Mono.just(Optional.empty());
+                });
+    }
+
+    private static DjProfile toProfile(Dj dj,
+                                       List<PerformanceView> performances,
+                                       Optional<String> reviews,
+                                       Optional<ReviewStats> stats) {
+        List<String> unavailable = new ArrayList<>();
+        if (reviews.isEmpty()) {
+            unavailable.add("reviews");
+        }
+        if (stats.isEmpty()) {
+            unavailable.add("stats");
+        }
+        return new DjProfile(
+                new DjView(dj.getId(), dj.getName(), dj.getGenre(), dj.getEmail()),
+                performances,
+                reviews.orElse(null),
+                stats.map(ReviewStats::averageRating).orElse(null),
+                stats.map(ReviewStats::reviewCount).orElse(null),
+                unavailable
+        );
+    }
+}
@@ -0,0 +1,216 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.dto.PerformanceConflict;
+import com.capgemini.festivalapplication.dto.PerformanceSlot;
+import com.capgemini.festivalapplication.exception.ConflictException;
+import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory index of every DJ's booked time slots, used to reject double bookings
+ * without a database query on the write path.
+ *
+ * Each DJ has a sorted set of slots ordered by (startTime, performanceId). A slot that
+ * overlaps [start, end) must start before end and, since no slot is longer than the
+ * DJ's longest one, no earlier than start - longestSlot. Checking a write is therefore
+ * a range scan over that window: O(log n) plus the few slots inside it. This stays
+ * correct even if legacy data already contains overlaps.
+ *
+ * The index is loaded from the database once the application is ready and then kept
+ * in sync by the services on every create, update, delete and import.
+ */
+@Component
+public class DjScheduleIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(DjScheduleIndex.class);
+
+    private static final Comparator<PerformanceSlot> SLOT_ORDER =
+            Comparator.comparing(PerformanceSlot::startTime).thenComparing(PerformanceSlot::performanceId);
+
+    private final PerformanceRepository performanceRepository;
+    private final Map<String, Schedule> schedules = new ConcurrentHashMap<>();
+    private final Map<String, PerformanceSlot> slotsByPerformance = new ConcurrentHashMap<>();
+
+    public DjScheduleIndex(PerformanceRepository performanceRepository) {
+        this.performanceRepository = performanceRepository;
+    }
+
+    /**
+     * Loads all booked slots from the database, replacing the current contents.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<PerformanceSlot> slots = performanceRepository.findAllSlots();
+        schedules.clear();
+        slotsByPerformance.clear();
+        for (PerformanceSlot slot : slots) {
+            insert(slot);
+        }
+        logger.info("DJ schedule index loaded with {} slots for {} DJs", slots.size(), schedules.size());
+    }
+
+    /**
+     * Books a slot, replacing any slot previously held by the same performance
+     * (which may belong to another DJ when a performance is reassigned).
+     *
+     * @param slot the slot to book
+     * @return the slot the performance held before, or null if it is new
+     * @throws ConflictException if the DJ already has an overlapping performance
+     */
+    public PerformanceSlot book(PerformanceSlot slot) {
+        Schedule schedule = schedules.computeIfAbsent(slot.djId(), id -> new Schedule());
+        PerformanceSlot previous;
+        synchronized (schedule) {
+            List<PerformanceSlot> overlapping = schedule.overlapping(slot.startTime(), slot.endTime(), slot.performanceId());
+            if (!overlapping.isEmpty()) {
+                PerformanceSlot other = overlapping.get(0);
+                throw new ConflictException(
+                    "DJ with id " + slot.djId() + " is already booked from " + other.startTime() +
+                    " to " + other.endTime() + " (performance " + other.performanceId() + "). " +
+                    "A DJ cannot play two overlapping performances."
+                );
+            }
+            previous = slotsByPerformance.put(slot.performanceId(), slot);
+            if (previous != null && previous.djId().equals(slot.djId())) {
+                schedule.remove(previous);
+            }
+            schedule.add(slot);
+        }
+        // Only one schedule lock is held at a time, so moving a slot between DJs cannot deadlock
+        if (previous != null && !previous.djId().equals(slot.djId())) {
+            removeFromSchedule(previous);
+        }
+        return previous;
+    }
+
+    /**
+     * Puts back the slot a performance held before a failed write.
+     *
+     * @param performanceId the performance whose booking is being undone
+     * @param previous the slot returned by {@link #book}, or null to just release
+     */
+    public void restore(String performanceId, PerformanceSlot previous) {
+        release(performanceId);
+        if (previous != null) {
+            insert(previous);
+        }
+    }
+
+    /**
+     * Removes a performance's slot from the index.
+     *
+     * @return the removed slot, or null if the performance was not indexed
+     */
+    public PerformanceSlot release(String performanceId) {
+        PerformanceSlot slot = slotsByPerformance.remove(performanceId);
+        if (slot != null) {
+            removeFromSchedule(slot);
+        }
+        return slot;
+    }
+
+    /**
+     * Drops a DJ's whole schedule, e.g. after the DJ and its performances were deleted.
+     */
+    public void releaseDj(String djId) {
+        Schedule schedule = schedules.remove(djId);
+        if (schedule != null) {
+            synchronized (schedule) {
+                schedule.slots.forEach(slot -> slotsByPerformance.remove(slot.performanceId()));
+            }
+        }
+    }
+
+    /**
+     * Lists every pair of overlapping performances in a DJ's schedule.
+     * Each pair is reported once, with the earlier-starting performance first.
+     */
+    public List<PerformanceConflict> conflictsFor(String djId) {
+        Schedule schedule = schedules.get(djId);
+        List<PerformanceConflict> conflicts = new ArrayList<>();
+        if (schedule == null) {
+            return conflicts;
+        }
+        synchronized (schedule) {
+            // Sweep in start order; "active" holds slots that have not ended yet
+            List<PerformanceSlot> active = new ArrayList<>();
+            for (PerformanceSlot slot : schedule.slots) {
+                active.removeIf(open -> !open.endTime().isAfter(slot.startTime()));
+                for (PerformanceSlot open : active) {
+                    conflicts.add(new PerformanceConflict(open, slot));
+                }
+                active.add(slot);
+            }
+        }
+        return conflicts;
+    }
+
+    private void removeFromSchedule(PerformanceSlot slot) {
+        Schedule schedule = schedules.get(slot.djId());
+        if (schedule != null) {
+            synchronized (schedule) {
+                schedule.remove(slot);
+            }
+        }
+    }
+
+    private void insert(PerformanceSlot slot) {
+        Schedule schedule = schedules.computeIfAbsent(slot.djId(), id -> new Schedule());
+        synchronized (schedule) {
+            schedule.add(slot);
+        }
+        slotsByPerformance.put(slot.performanceId(), slot);
+    }
+
+    /**
+     * One DJ's slots; all access is synchronized on the instance.
+     */
+    private static final class Schedule {
+        private final NavigableSet<PerformanceSlot> slots = new TreeSet<>(SLOT_ORDER);
+        private Duration longestSlot = Duration.ZERO;
+
+        void add(PerformanceSlot slot) {
+            slots.add(slot);
+            Duration length = Duration.between(slot.startTime(), slot.endTime());
+            if (length.compareTo(longestSlot) > 0) {
+                longestSlot = length;
+            }
+        }
+
+        void remove(PerformanceSlot slot) {
+            // longestSlot is left as is: a too-wide window costs a few comparisons, never correctness
+            slots.remove(slot);
+        }
+
+        List<PerformanceSlot> overlapping(LocalDateTime start, LocalDateTime end, String ignoredPerformanceId) {
+            PerformanceSlot from = probe(start.minus(longestSlot));
+            PerformanceSlot to = probe(end);
+            List<PerformanceSlot> overlapping = new ArrayList<>();
+            for (PerformanceSlot candidate : slots.subSet(from, true, to, false)) {
+                if (!candidate.performanceId().equals(ignoredPerformanceId) && candidate.overlaps(start, end)) {
+                    overlapping.add(candidate);
+                }
+            }
+            return overlapping;
+        }
+
+        private static PerformanceSlot probe(LocalDateTime time) {
+            // Empty id sorts before every real id starting at the same instant
+            return new PerformanceSlot("", null, time, time);
+        }
+    }
+}
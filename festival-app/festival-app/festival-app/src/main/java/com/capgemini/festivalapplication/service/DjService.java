@@ -1,17 +1,27 @@
 package com.capgemini.festivalapplication.service;
 
+import com.capgemini.festivalapplication.dto.BulkImportResult;
+import com.capgemini.festivalapplication.dto.CursorPage;
 import com.capgemini.festivalapplication.dto.DjDto;
+import com.capgemini.festivalapplication.dto.DjRatingView;
+import com.capgemini.festivalapplication.dto.DjView;
+import com.capgemini.festivalapplication.dto.ResourceVersion;
 import com.capgemini.festivalapplication.entity.Dj;
 
 import java.util.List;
 
 public interface DjService {
     Dj create(DjDto dto);
+    BulkImportResult bulkCreate(List<DjDto> dtos);
     Dj update(String id, DjDto dto);
     void delete(String id);
     Dj getById(String id);
-    List<Dj> getAll();
-    List<Dj> getByGenre(String genre);
-    List<Dj> getByName(String name);
-    List<Dj> getDjsWithLongNames();
+    ResourceVersion getVersion(String id);
+    ResourceVersion getCatalogVersion();
+    List<DjView> getAll();
+    List<DjRatingView> getAllWithRatings();
+    CursorPage<DjView> getPage(String cursor, Integer size);
+    List<DjView> getByGenre(String genre);
+    List<DjView> getByName(String name);
+    List<DjView> getDjsWithLongNames();
 }
@@ -1,14 +1,43 @@
 package com.capgemini.festivalapplication.service;
 
+import com.capgemini.festivalapplication.config.CacheConfig;
+import com.capgemini.festivalapplication.config.MetricsConfig;
+import com.capgemini.festivalapplication.controller.ReviewServiceClient;
+import com.capgemini.festivalapplication.dto.BulkImportResult;
+import com.capgemini.festivalapplication.dto.CursorPage;
 import com.capgemini.festivalapplication.dto.DjDto;
+import com.capgemini.festivalapplication.dto.DjRatingView;
+import com.capgemini.festivalapplication.dto.DjView;
+import com.capgemini.festivalapplication.dto.ResourceVersion;
+import com.capgemini.festivalapplication.dto.SubjectStats;
+import com.capgemini.festivalapplication.entity.CatalogVersion;
 import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.entity.OutboxEvent;
+import com.capgemini.festivalapplication.entity.Performance;
 import com.capgemini.festivalapplication.exception.BadRequestException;
 import com.capgemini.festivalapplication.exception.ResourceNotFoundException;
 import com.capgemini.festivalapplication.mapper.DjMapper;
 import com.capgemini.festivalapplication.repository.DjRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Service implementation for DJ business logic.
@@ -17,20 +46,62 @@ import java.util.List;
  * - CRUD operations with proper validation
  * - DTO to Entity conversion using DjMapper
  * - Business rule enforcement
+ * - Read-through caching of DJ query results, evicted entry by entry on every write;
+ *   single DJs come from the Hibernate second-level cache as fresh instances
+ * - Read-only list and search queries that return flat views instead of entities
+ * - DJ lists enriched with review statistics from one batched review-service call
+ * - Version stamps for conditional GETs; every write bumps the DJ catalog counter
+ * - Catalog change events in the outbox, written in the same transaction as the change
  * - Exception handling for various error scenarios
  */
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class DjServiceImpl implements DjService {
 
+    // Upper bound on a single bulk request, keeps one import inside one transaction
+    static final int MAX_BULK_SIZE = 10_000;
+
+    // Bind parameters per email lookup; stays well below driver limits
+    private static final int EMAIL_LOOKUP_CHUNK = 1_000;
+
     private final DjRepository djRepository;
     private final DjMapper djMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final DjScheduleIndex scheduleIndex;
+    private final PerformanceTimeline timeline;
+    private final CacheManager cacheManager;
+    private final CatalogVersions catalogVersions;
+    private final CatalogOutbox catalogOutbox;
+    private final ReviewServiceClient reviewServiceClient;
+    private final int batchSize;
 
-    public DjServiceImpl(DjRepository djRepository, DjMapper djMapper) {
+    public DjServiceImpl(DjRepository djRepository,
+                         DjMapper djMapper,
+                         Validator validator,
+                         EntityManager entityManager,
+                         DjScheduleIndex scheduleIndex,
+                         PerformanceTimeline timeline,
+                         CacheManager cacheManager,
+                         CatalogVersions catalogVersions,
+                         CatalogOutbox catalogOutbox,
+                         ReviewServiceClient reviewServiceClient,
+                         @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}") int batchSize) {
         this.djRepository = djRepository;
         this.djMapper = djMapper;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.scheduleIndex = scheduleIndex;
+        this.timeline = timeline;
+        this.cacheManager = cacheManager;
+        this.catalogVersions = catalogVersions;
+        this.catalogOutbox = catalogOutbox;
+        this.reviewServiceClient = reviewServiceClient;
+        this.batchSize = batchSize;
     }
 
     @Override
+    @Transactional
     public Dj create(DjDto djDto) {
         // Check if DJ with same email already exists
         if (djRepository.findByEmail(djDto.getEmail()).isPresent()) {
@@ -43,11 +114,114 @@ public class DjServiceImpl implements DjService {
         // Convert DTO to Entity using mapper
         Dj dj = djMapper.toEntity(djDto);
         
-        // Save and return the persisted entity
-        return djRepository.save(dj);
+        // Save, then drop the query results the new DJ would appear in once it is visible
+        Dj savedDj = djRepository.save(dj);
+        catalogOutbox.record(CatalogOutbox.DJ, savedDj.getId(), OutboxEvent.Type.CREATED);
+        catalogVersions.bump(CatalogVersion.DJS);
+        afterCommit(() -> evictQueries(savedDj.getGenre(), savedDj.getName()));
+        return savedDj;
     }
 
+    /**
+     * Creates many DJs in one transaction.
+     *
+     * Email uniqueness for the whole batch is checked with a handful of IN queries
+     * instead of one lookup per row, and accepted rows are persisted and flushed in
+     * chunks matching the JDBC batch size so Hibernate sends them as batched inserts.
+     * Invalid rows and duplicate emails are reported per row instead of failing the import.
+     */
     @Override
+    @Transactional
+    public BulkImportResult bulkCreate(List<DjDto> djDtos) {
+        if (djDtos == null || djDtos.isEmpty()) {
+            throw new BadRequestException("Bulk import requires at least one DJ.");
+        }
+        if (djDtos.size() > MAX_BULK_SIZE) {
+            throw new BadRequestException(
+                "Bulk import is limited to " + MAX_BULK_SIZE + " DJs per request, got " + djDtos.size() + "."
+            );
+        }
+
+        long started = System.nanoTime();
+        BulkImportResult result = new BulkImportResult();
+        Set<String> takenEmails = findExistingEmails(djDtos);
+        Set<String> genres = new HashSet<>();
+        Set<String> names = new HashSet<>();
+        int pending = 0;
+
+        for (int index = 0; index < djDtos.size(); index++) {
+            DjDto djDto = djDtos.get(index);
+            if (djDto == null) {
+                result.rejected(index, null, "Row is empty.");
+                continue;
+            }
+
+            Set<ConstraintViolation<DjDto>> violations = validator.validate(djDto);
+            if (!violations.isEmpty()) {
+                String message = violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                result.rejected(index, djDto.getEmail(), message);
+                continue;
+            }
+
+            // add() also catches duplicates within the submitted batch itself
+            if (!takenEmails.add(djDto.getEmail())) {
+                result.rejected(index, djDto.getEmail(),
+                        "DJ with email " + djDto.getEmail() + " already exists. Email addresses must be unique.");
+                continue;
+            }
+
+            Dj dj = djMapper.toEntity(djDto);
+            entityManager.persist(dj);
+            catalogOutbox.record(CatalogOutbox.DJ, dj.getId(), OutboxEvent.Type.CREATED);
+            result.created(index, dj.getEmail(), dj.getId());
+            genres.add(dj.getGenre());
+            names.add(dj.getName());
+
+            if (++pending == batchSize) {
+                entityManager.flush();
+                entityManager.clear();
+                pending = 0;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        if (!genres.isEmpty()) {
+            catalogVersions.bump(CatalogVersion.DJS);
+        }
+
+        // Readers must not re-cache the old results before the new rows are visible
+        afterCommit(() -> {
+            genres.forEach(genre -> evict(CacheConfig.DJS_BY_GENRE, genre));
+            names.forEach(name -> evict(CacheConfig.DJS_BY_NAME, name));
+            if (names.stream().anyMatch(DjServiceImpl::isLongName)) {
+                clear(CacheConfig.DJS_WITH_LONG_NAMES);
+            }
+        });
+
+        result.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        return result;
+    }
+
+    private Set<String> findExistingEmails(List<DjDto> djDtos) {
+        List<String> emails = djDtos.stream()
+                .filter(dto -> dto != null && dto.getEmail() != null)
+                .map(DjDto::getEmail)
+                .distinct()
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        Set<String> existing = new HashSet<>();
+        for (int from = 0; from < emails.size(); from += EMAIL_LOOKUP_CHUNK) {
+            List<String> chunk = emails.subList(from, Math.min(from + EMAIL_LOOKUP_CHUNK, emails.size()));
+            existing.addAll(djRepository.findExistingEmails(chunk));
+        }
+        return existing;
+    }
+
+    @Override
+    @Transactional
     public Dj update(String id, DjDto djDto) {
         // Check if DJ exists
         Dj existingDj = djRepository.findById(id)
@@ -65,20 +239,44 @@ public class DjServiceImpl implements DjService {
             );
         }
         
+        // Remember the old keys: a renamed DJ must leave its old name and genre results too
+        String oldGenre = existingDj.getGenre();
+        String oldName = existingDj.getName();
+
         // Update entity using mapper
         Dj updatedDj = djMapper.updateEntity(existingDj, djDto);
         
-        // Save and return the updated entity
-        return djRepository.save(updatedDj);
+        // Save, then evict every query result the DJ was or is part of
+        Dj savedDj = djRepository.save(updatedDj);
+        catalogOutbox.record(CatalogOutbox.DJ, id, OutboxEvent.Type.UPDATED);
+        catalogVersions.bump(CatalogVersion.DJS);
+        afterCommit(() -> {
+            evictQueries(oldGenre, oldName);
+            evictQueries(savedDj.getGenre(), savedDj.getName());
+        });
+        return savedDj;
     }
 
     @Override
+    @Transactional
     public void delete(String id) {
         Dj existing = djRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                     "DJ with id " + id + " not found. Cannot delete non-existing DJ."
                 ));
+        // Performances are removed with the DJ (cascade); their reviews are orphaned too
+        for (Performance performance : existing.getPerformances()) {
+            catalogOutbox.record(CatalogOutbox.PERFORMANCE, performance.getId(), OutboxEvent.Type.DELETED);
+        }
         djRepository.delete(existing);
+        catalogOutbox.record(CatalogOutbox.DJ, id, OutboxEvent.Type.DELETED);
+        catalogVersions.bump(CatalogVersion.DJS, CatalogVersion.PERFORMANCES);
+        afterCommit(() -> {
+            // Drop the DJ's whole schedule along with its performances
+            scheduleIndex.releaseDj(id);
+            timeline.removeDj(id);
+            evictQueries(existing.getGenre(), existing.getName());
+        });
     }
 
     @Override
@@ -90,13 +288,67 @@ public class DjServiceImpl implements DjService {
     }
 
     @Override
-    public List<Dj> getAll() {
-        return djRepository.findAll();
+    public ResourceVersion getVersion(String id) {
+        return djRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                    "DJ with id " + id + " not found."
+                ));
+    }
+
+    @Override
+    public ResourceVersion getCatalogVersion() {
+        return catalogVersions.current(CatalogVersion.DJS);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DjView> getAll() {
+        return djRepository.findAllViews();
+    }
+
+    /**
+     * Lists all DJs with their review statistics.
+     * Not transactional on purpose: no connection is held while review-service answers.
+     */
+    @Override
+    public List<DjRatingView> getAllWithRatings() {
+        List<DjView> djs = djRepository.findAllViews();
+        Map<String, SubjectStats> stats = reviewServiceClient.getStatsForDJs(
+                djs.stream().map(DjView::id).toList()
+        );
+        return djs.stream()
+                .map(dj -> DjRatingView.of(dj, stats.get(dj.id())))
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<DjView> getPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size);
+        // Fetch one extra row to find out whether another page follows
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<DjView> djs;
+        if (cursor == null || cursor.isEmpty()) {
+            djs = djRepository.findFirstPage(limit);
+        } else {
+            String[] key = KeysetCursor.decode(cursor);
+            djs = djRepository.findPageAfter(key[0], key[1], limit);
+        }
+
+        if (djs.size() <= pageSize) {
+            return new CursorPage<>(djs, null);
+        }
+        List<DjView> page = djs.subList(0, pageSize);
+        DjView last = page.get(pageSize - 1);
+        return new CursorPage<>(page, KeysetCursor.encode(last.name(), last.id()));
     }
 
     @Override
-    public List<Dj> getByGenre(String genre) {
-        List<Dj> djs = djRepository.findByGenre(genre);
+    @Cacheable(cacheNames = CacheConfig.DJS_BY_GENRE)
+    @Transactional(readOnly = true)
+    public List<DjView> getByGenre(String genre) {
+        List<DjView> djs = djRepository.findViewsByGenre(genre);
         if (djs.isEmpty()) {
             throw new ResourceNotFoundException(
                 "No DJs found for genre: " + genre
@@ -106,8 +358,10 @@ public class DjServiceImpl implements DjService {
     }
 
     @Override
-    public List<Dj> getByName(String name) {
-        List<Dj> djs = djRepository.findByName(name);
+    @Cacheable(cacheNames = CacheConfig.DJS_BY_NAME)
+    @Transactional(readOnly = true)
+    public List<DjView> getByName(String name) {
+        List<DjView> djs = djRepository.findViewsByName(name);
         if (djs.isEmpty()) {
             throw new ResourceNotFoundException(
                 "No DJs found with name: " + name
@@ -117,7 +371,52 @@ public class DjServiceImpl implements DjService {
     }
 
     @Override
-    public List<Dj> getDjsWithLongNames() {
-        return djRepository.findDjsWithNameLongerThan6Characters();
+    @Cacheable(cacheNames = CacheConfig.DJS_WITH_LONG_NAMES)
+    @Transactional(readOnly = true)
+    public List<DjView> getDjsWithLongNames() {
+        return djRepository.findViewsWithNameLongerThan6Characters();
+    }
+
+    /**
+     * Evicts the cached query results a DJ with this genre and name belongs to.
+     */
+    private void evictQueries(String genre, String name) {
+        evict(CacheConfig.DJS_BY_GENRE, genre);
+        evict(CacheConfig.DJS_BY_NAME, name);
+        if (isLongName(name)) {
+            clear(CacheConfig.DJS_WITH_LONG_NAMES);
+        }
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // Mirrors the LENGTH(name) > 6 condition of findDjsWithNameLongerThan6Characters
+    private static boolean isLongName(String name) {
+        return name != null && name.length() > 6;
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque continuation tokens used by keyset pagination.
+ *
+ * A cursor holds the sort key of the last row of a page, e.g. (name, id) for DJs
+ * or (startTime, id) for performances. The next page is then fetched with a
+ * "greater than" predicate on that key, so the database seeks straight into the
+ * index instead of skipping OFFSET rows and deep pages cost the same as page one.
+ */
+final class KeysetCursor {
+
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 200;
+
+    private static final char SEPARATOR = '\u001F';
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Bounds a client-supplied page size to [1, MAX_PAGE_SIZE].
+     *
+     * @param size requested size, may be null
+     * @return the page size to use
+     */
+    static int pageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Builds a cursor from the sort key and id of the last row of a page.
+     */
+    static String encode(String sortKey, String id) {
+        String raw = sortKey + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Splits a cursor back into its sort key and id.
+     *
+     * @param cursor token previously returned by {@link #encode}
+     * @return two-element array of [sortKey, id]
+     * @throws BadRequestException if the token was not produced by this API
+     */
+    static String[] decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            return new String[] { raw.substring(0, separator), raw.substring(separator + 1) };
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid pagination cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.dto.LineupImportResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface LineupImportService {
+    LineupImportResult importCsv(InputStream csv) throws IOException;
+}
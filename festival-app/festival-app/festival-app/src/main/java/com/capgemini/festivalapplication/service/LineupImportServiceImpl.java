@@ -0,0 +1,314 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.config.MetricsConfig;
+import com.capgemini.festivalapplication.dto.LineupImportResult;
+import com.capgemini.festivalapplication.dto.PerformanceSlot;
+import com.capgemini.festivalapplication.entity.CatalogVersion;
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.entity.OutboxEvent;
+import com.capgemini.festivalapplication.entity.Performance;
+import com.capgemini.festivalapplication.entity.TimeOrderedId;
+import com.capgemini.festivalapplication.exception.BadRequestException;
+import com.capgemini.festivalapplication.exception.ConflictException;
+import com.capgemini.festivalapplication.mapper.PerformanceMapper;
+import com.capgemini.festivalapplication.repository.DjRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service implementation for importing festival lineups from CSV.
+ *
+ * The importer is built for large files:
+ * - the CSV is parsed line by line, never held in memory as a whole
+ * - all DJ ids are loaded once into a hash set, so resolving a row's DJ costs no query
+ * - double bookings are checked against the in-memory DjScheduleIndex, also without a query
+ * - rows are persisted in fixed-size chunks, each in its own transaction, flushed
+ *   as JDBC batches and then cleared from the persistence context
+ *
+ * Expected header (any column order, id is optional):
+ * title,description,startTime,endTime,djId[,id]
+ * Times use ISO-8601 local date-time, e.g. 2025-10-15T20:00:00.
+ * Quoted fields may contain commas and doubled quotes but not line breaks.
+ */
+@Service
+@Timed(MetricsConfig.SERVICE_TIMER)
+public class LineupImportServiceImpl implements LineupImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LineupImportServiceImpl.class);
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "startTime", "endTime", "djId");
+
+    private final DjRepository djRepository;
+    private final PerformanceMapper performanceMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final DjScheduleIndex scheduleIndex;
+    private final PerformanceTimeline timeline;
+    private final CatalogVersions catalogVersions;
+    private final CatalogOutbox catalogOutbox;
+    private final int chunkSize;
+
+    public LineupImportServiceImpl(DjRepository djRepository,
+                                   PerformanceMapper performanceMapper,
+                                   EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager,
+                                   DjScheduleIndex scheduleIndex,
+                                   PerformanceTimeline timeline,
+                                   CatalogVersions catalogVersions,
+                                   CatalogOutbox catalogOutbox,
+                                   @Value("${festival.import.chunk-size:1000}") int chunkSize) {
+        this.djRepository = djRepository;
+        this.performanceMapper = performanceMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.scheduleIndex = scheduleIndex;
+        this.timeline = timeline;
+        this.catalogVersions = catalogVersions;
+        this.catalogOutbox = catalogOutbox;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public LineupImportResult importCsv(InputStream csv) throws IOException {
+        long started = System.nanoTime();
+        LineupImportResult result = new LineupImportResult();
+        Set<String> djIds = new HashSet<>(djRepository.findAllIds());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String headerLine = reader.readLine();
+            if (headerLine == null) {
+                throw new BadRequestException("Lineup CSV is empty. Expected a header row.");
+            }
+            Map<String, Integer> columns = readHeader(headerLine);
+
+            List<PendingRow> chunk = new ArrayList<>(chunkSize);
+            try {
+                long lineNumber = 1;
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank()) {
+                        continue;
+                    }
+                    try {
+                        chunk.add(toPendingRow(lineNumber, parseLine(line), columns, djIds));
+                    } catch (BadRequestException | ConflictException e) {
+                        result.rejected(lineNumber, e.getMessage());
+                    }
+
+                    if (chunk.size() == chunkSize) {
+                        persistChunk(chunk, result);
+                        chunk.clear();
+                    }
+                }
+                persistChunk(chunk, result);
+                chunk.clear();
+            } finally {
+                // Rows left here were booked but never reached a transaction, e.g. the upload broke off
+                releaseBookings(chunk);
+            }
+        }
+
+        result.setElapsedMillis((System.nanoTime() - started) / 1_000_000);
+        logger.info("Lineup import finished: {} imported, {} rejected in {} ms",
+                result.getImported(), result.getRejected(), result.getElapsedMillis());
+        return result;
+    }
+
+    /**
+     * Persists one chunk in its own transaction. If the database rejects the chunk
+     * (e.g. a duplicate id), only that chunk is rolled back and reported. The flush goes
+     * straight to the EntityManager, so Hibernate's exceptions arrive untranslated.
+     * The chunk's bookings in the schedule index are undone whenever its transaction
+     * does not commit, however it failed; importCsv undoes those of a chunk it never
+     * gets to persist.
+     */
+    private void persistChunk(List<PendingRow> chunk, LineupImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(transaction -> {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        if (status != STATUS_COMMITTED) {
+                            releaseBookings(chunk);
+                        }
+                    }
+                });
+                for (PendingRow row : chunk) {
+                    // Proxy only: the DJ id was already verified against the in-memory set
+                    row.performance.setDj(entityManager.getReference(Dj.class, row.djId));
+                    entityManager.persist(row.performance);
+                    catalogOutbox.record(CatalogOutbox.PERFORMANCE, row.performance.getId(), OutboxEvent.Type.CREATED);
+                }
+                entityManager.flush();
+                entityManager.clear();
+                // Same transaction: a rolled-back chunk leaves the counter and the outbox untouched
+                catalogVersions.bump(CatalogVersion.PERFORMANCES);
+            });
+            result.imported(chunk.size());
+            for (PendingRow row : chunk) {
+                timeline.put(performanceMapper.toView(row.performance));
+            }
+        } catch (RuntimeException e) {
+            String message = "Chunk rolled back: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            for (PendingRow row : chunk) {
+                result.rejected(row.line, message);
+            }
+        }
+    }
+
+    /**
+     * Puts the schedule index back to its state before the rows were booked.
+     */
+    private void releaseBookings(List<PendingRow> rows) {
+        // Undo in reverse so a performance booked twice in the chunk ends up at its original slot
+        for (int i = rows.size() - 1; i >= 0; i--) {
+            PendingRow row = rows.get(i);
+            scheduleIndex.restore(row.performance.getId(), row.previousSlot);
+        }
+    }
+
+    private PendingRow toPendingRow(long line, List<String> fields, Map<String, Integer> columns, Set<String> djIds) {
+        String djId = field(fields, columns, "djId");
+        if (djId == null || !djIds.contains(djId)) {
+            throw new BadRequestException("DJ with ID " + djId + " not found.");
+        }
+
+        String title = field(fields, columns, "title");
+        if (title == null) {
+            throw new BadRequestException("Title must not be blank.");
+        }
+
+        Performance performance = new Performance();
+        String id = field(fields, columns, "id");
+        if (id != null) {
+            if (id.length() > TimeOrderedId.LENGTH) {
+                throw new BadRequestException("ID must be at most " + TimeOrderedId.LENGTH + " characters.");
+            }
+            performance.setId(id);
+        } else {
+            // The slot is keyed by id, so it is drawn now rather than at persist time
+            performance.assignId();
+        }
+        performance.setTitle(title);
+        performance.setDescription(field(fields, columns, "description"));
+        performance.setStartTime(parseTime(field(fields, columns, "startTime"), "startTime"));
+        performance.setEndTime(parseTime(field(fields, columns, "endTime"), "endTime"));
+        performanceMapper.validatePerformanceTiming(performance);
+
+        // Booked now so later rows of the same file are checked against this one too
+        PerformanceSlot previousSlot = scheduleIndex.book(new PerformanceSlot(
+            performance.getId(), djId, performance.getStartTime(), performance.getEndTime()
+        ));
+        return new PendingRow(line, performance, djId, previousSlot);
+    }
+
+    private Map<String, Integer> readHeader(String headerLine) {
+        List<String> names = parseLine(headerLine);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            // Tolerate a UTF-8 byte order mark written by spreadsheet tools
+            columns.put(names.get(i).replace("\uFEFF", "").trim(), i);
+        }
+        for (String required : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(required)) {
+                throw new BadRequestException(
+                    "Lineup CSV header is missing column '" + required + "'. " +
+                    "Expected: title,description,startTime,endTime,djId"
+                );
+            }
+        }
+        return columns;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDateTime parseTime(String value, String column) {
+        if (value == null) {
+            throw new BadRequestException(column + " must not be blank.");
+        }
+        try {
+            return LocalDateTime.parse(value.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException("Invalid " + column + " '" + value + "'. Expected ISO-8601, e.g. 2025-10-15T20:00:00.");
+        }
+    }
+
+    /**
+     * Splits one CSV line, honouring double-quoted fields and "" escapes.
+     */
+    static List<String> parseLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static final class PendingRow {
+        private final long line;
+        private final Performance performance;
+        private final String djId;
+        private final PerformanceSlot previousSlot;
+
+        private PendingRow(long line, Performance performance, String djId, PerformanceSlot previousSlot) {
+            this.line = line;
+            this.performance = performance;
+            this.djId = djId;
+            this.previousSlot = previousSlot;
+        }
+    }
+}
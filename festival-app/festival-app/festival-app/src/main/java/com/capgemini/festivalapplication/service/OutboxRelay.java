@@ -0,0 +1,304 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.dto.CatalogEvent;
+import com.capgemini.festivalapplication.entity.OutboxEvent;
+import com.capgemini.festivalapplication.entity.OutboxLease;
+import com.capgemini.festivalapplication.repository.OutboxEventRepository;
+import com.capgemini.festivalapplication.repository.OutboxLeaseRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers outbox events to review-service, which purges the reviews of deleted
+ * subjects and invalidates its subject caches.
+ *
+ * Every festival.outbox.relay.interval the relay sends the oldest events in batches of
+ * festival.outbox.relay.batch-size, in id order, and deletes each batch once review-service
+ * accepted it. Only the instance holding the outbox lease (OutboxLease) relays, renewing it
+ * before every batch, so instances never deliver the outbox side by side.
+ *
+ * A batch that fails on the network, times out or gets a 5xx stays at the head of the
+ * outbox and is retried with exponential backoff, so no later event overtakes it and
+ * events of one subject arrive in the order they were written. After
+ * festival.outbox.relay.max-attempts such failures its events are dead-lettered. A batch
+ * review-service rejects as invalid (4xx) is not retried as a whole: its events are sent
+ * one at a time and the one that is rejected on its own is dead-lettered right away.
+ * Dead-lettered events are skipped from then on. Delivery is at least once: a batch may
+ * be sent again if the delete fails or the lease changes hands mid-batch, and
+ * review-service ignores events older than the last one it applied for their subject.
+ *
+ * Metrics: festival.outbox.pending (events waiting), festival.outbox.lag (age of the
+ * oldest waiting event), festival.outbox.dead-lettered (events given up on),
+ * festival.outbox.events.delivered and festival.outbox.delivery.failures (throughput),
+ * festival.outbox.delivery.delay (time from the change to its delivery).
+ */
+@Component
+public class OutboxRelay {
+
+    static final String EVENTS_PATH = "/api/reviews/catalog-events";
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    // Client errors caused by the connection, credentials or load rather than the events
+    private static final Set<Integer> RETRYABLE_CLIENT_ERRORS = Set.of(401, 403, 404, 408, 429);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxLeaseRepository outboxLeaseRepository;
+    private final WebClient webClient;
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration timeout;
+    private final Duration lease;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+
+    // Lease owner id of this instance
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Counter deliveredEvents;
+    private final Counter failedDeliveries;
+    private final Timer deliveryDelay;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong deadLetteredEvents = new AtomicLong();
+
+    private volatile Instant oldestPendingAt;
+    private volatile Instant nextAttemptAt = Instant.MIN;
+    private int consecutiveFailures;
+
+    // Set after a rejected batch: events up to this id are sent one at a time
+    private Long isolateThroughId;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxLeaseRepository outboxLeaseRepository,
+                       WebClient.Builder webClientBuilder,
+                       MeterRegistry meterRegistry,
+                       @Value("${review.service.url:http://localhost:8080}") String reviewServiceUrl,
+                       @Value("${festival.outbox.relay.enabled:true}") boolean enabled,
+                       @Value("${festival.outbox.relay.batch-size:500}") int batchSize,
+                       @Value("${festival.outbox.relay.max-attempts:60}") int maxAttempts,
+                       @Value("${festival.outbox.relay.timeout:5s}") Duration timeout,
+                       @Value("${festival.outbox.relay.lease:30s}") Duration lease,
+                       @Value("${festival.outbox.relay.backoff.initial:1s}") Duration initialBackoff,
+                       @Value("${festival.outbox.relay.backoff.max:1m}") Duration maxBackoff) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxLeaseRepository = outboxLeaseRepository;
+        this.webClient = webClientBuilder.baseUrl(reviewServiceUrl).build();
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.timeout = timeout;
+        this.lease = lease;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+
+        this.deliveredEvents = Counter.builder("festival.outbox.events.delivered")
+                .description("Catalog events accepted by review-service")
+                .register(meterRegistry);
+        this.failedDeliveries = Counter.builder("festival.outbox.delivery.failures")
+                .description("Outbox batches review-service did not accept")
+                .register(meterRegistry);
+        this.deliveryDelay = Timer.builder("festival.outbox.delivery.delay")
+                .description("Time from a catalog change to its delivery to review-service")
+                .register(meterRegistry);
+        Gauge.builder("festival.outbox.pending", pendingEvents, AtomicLong::get)
+                .description("Catalog events waiting for delivery")
+                .register(meterRegistry);
+        Gauge.builder("festival.outbox.dead-lettered", deadLetteredEvents, AtomicLong::get)
+                .description("Catalog events the relay gave up on")
+                .register(meterRegistry);
+        Gauge.builder("festival.outbox.lag", this, OutboxRelay::lagSeconds)
+                .baseUnit("seconds")
+                .description("Age of the oldest catalog event waiting for delivery")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Creates the lease row missing from a fresh schema.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (outboxLeaseRepository.existsById(OutboxLease.RELAY)) {
+            return;
+        }
+        try {
+            outboxLeaseRepository.save(new OutboxLease(OutboxLease.RELAY, instanceId, Instant.EPOCH));
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created it first
+            logger.debug("Outbox lease already created");
+        }
+    }
+
+    /**
+     * Hands the lease on at shutdown, so another instance takes over without waiting for it to expire.
+     */
+    @PreDestroy
+    public void releaseLease() {
+        outboxLeaseRepository.release(OutboxLease.RELAY, instanceId, Instant.now());
+    }
+
+    /**
+     * Sends batches until the outbox is empty, a delivery fails or the lease is lost.
+     * Synchronized, so batches of this instance never overlap; the lease keeps other
+     * instances out.
+     */
+    @Scheduled(fixedDelayString = "${festival.outbox.relay.interval:PT1S}")
+    public synchronized void relay() {
+        if (!enabled || Instant.now().isBefore(nextAttemptAt)) {
+            return;
+        }
+        int requested;
+        int handled;
+        do {
+            if (!holdLease()) {
+                break;
+            }
+            requested = isolateThroughId != null ? 1 : batchSize;
+            handled = deliverBatch(requested);
+        } while (handled == requested);
+        pendingEvents.set(outboxEventRepository.countByDeadLetteredAtIsNull());
+        deadLetteredEvents.set(outboxEventRepository.countByDeadLetteredAtIsNotNull());
+    }
+
+    // Takes or renews the lease for one more batch
+    private boolean holdLease() {
+        Instant now = Instant.now();
+        return outboxLeaseRepository.acquire(OutboxLease.RELAY, instanceId, now, now.plus(lease)) == 1;
+    }
+
+    /**
+     * @return number of events delivered or dead-lettered, 0 if the outbox is empty,
+     *         -1 if the batch is to be retried later
+     */
+    private int deliverBatch(int size) {
+        List<OutboxEvent> batch = outboxEventRepository.findOldest(PageRequest.of(0, size));
+        if (batch.isEmpty()) {
+            oldestPendingAt = null;
+            isolateThroughId = null;
+            return 0;
+        }
+        oldestPendingAt = batch.get(0).getOccurredAt();
+        List<Long> ids = batch.stream().map(OutboxEvent::getId).toList();
+        Long lastId = ids.get(ids.size() - 1);
+
+        try {
+            webClient.post()
+                    .uri(EVENTS_PATH)
+                    .bodyValue(batch.stream().map(CatalogEvent::of).toList())
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(timeout)
+                    .block();
+        } catch (Exception e) {
+            failedDeliveries.increment();
+            if (e instanceof WebClientResponseException response && isRejected(response)) {
+                return rejected(batch, ids, truncate(response.getMessage()));
+            }
+            failed(batch, ids, truncate(e.getMessage()));
+            return -1;
+        }
+
+        outboxEventRepository.deleteAllByIdInBatch(ids);
+        oldestPendingAt = null;
+        consecutiveFailures = 0;
+        nextAttemptAt = Instant.MIN;
+        afterHandled(lastId);
+        deliveredEvents.increment(batch.size());
+        Instant now = Instant.now();
+        batch.forEach(event -> deliveryDelay.record(Duration.between(event.getOccurredAt(), now)));
+        return batch.size();
+    }
+
+    /**
+     * A rejected batch of several events is marked for one-at-a-time delivery; a single
+     * rejected event is dead-lettered.
+     */
+    private int rejected(List<OutboxEvent> batch, List<Long> ids, String error) {
+        Long lastId = ids.get(ids.size() - 1);
+        if (batch.size() > 1) {
+            isolateThroughId = lastId;
+            outboxEventRepository.recordFailedAttempt(ids, error);
+            logger.warn("Review service rejected {} catalog events, sending them one at a time: {}",
+                    batch.size(), error);
+            return -1;
+        }
+        outboxEventRepository.deadLetter(ids, error, Instant.now());
+        logger.error("Review service rejected catalog event {}, dead-lettered: {}", lastId, error);
+        afterHandled(lastId);
+        return batch.size();
+    }
+
+    /**
+     * A transient failure backs off; events that reached maxAttempts are dead-lettered.
+     */
+    private void failed(List<OutboxEvent> batch, List<Long> ids, String error) {
+        consecutiveFailures++;
+        Duration backoff = backoff(consecutiveFailures);
+        nextAttemptAt = Instant.now().plus(backoff);
+        List<Long> exhausted = batch.stream()
+                .filter(event -> event.getAttempts() + 1 >= maxAttempts)
+                .map(OutboxEvent::getId)
+                .toList();
+        List<Long> retried = ids.stream().filter(id -> !exhausted.contains(id)).toList();
+        if (!retried.isEmpty()) {
+            outboxEventRepository.recordFailedAttempt(retried, error);
+        }
+        if (!exhausted.isEmpty()) {
+            outboxEventRepository.deadLetter(exhausted, error, Instant.now());
+            logger.error("Dead-lettered {} catalog events after {} failed attempts: {}",
+                    exhausted.size(), maxAttempts, error);
+        }
+        logger.warn("Delivering {} catalog events failed (attempt {}), retrying in {}: {}",
+                batch.size(), consecutiveFailures, backoff, error);
+    }
+
+    // Back to full batches once every event of a rejected batch was delivered or dead-lettered
+    private void afterHandled(Long lastId) {
+        if (isolateThroughId != null && lastId >= isolateThroughId) {
+            isolateThroughId = null;
+        }
+    }
+
+    private static boolean isRejected(WebClientResponseException e) {
+        return e.getStatusCode().is4xxClientError() && !RETRYABLE_CLIENT_ERRORS.contains(e.getStatusCode().value());
+    }
+
+    private static String truncate(String message) {
+        String error = String.valueOf(message);
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    // initialBackoff, doubled per further failure, capped at maxBackoff
+    private Duration backoff(int failures) {
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(failures - 1, 20));
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private double lagSeconds() {
+        Instant oldest = oldestPendingAt;
+        return oldest != null ? Duration.between(oldest, Instant.now()).toMillis() / 1000.0 : 0;
+    }
+}
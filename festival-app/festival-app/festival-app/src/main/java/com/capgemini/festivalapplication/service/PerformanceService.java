@@ -1,8 +1,16 @@
 package com.capgemini.festivalapplication.service;
 
+import com.capgemini.festivalapplication.dto.CursorPage;
+import com.capgemini.festivalapplication.dto.PerformanceConflict;
 import com.capgemini.festivalapplication.dto.PerformanceDto;
+import com.capgemini.festivalapplication.dto.PerformanceView;
+import com.capgemini.festivalapplication.dto.ResourceVersion;
 import com.capgemini.festivalapplication.entity.Performance;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface PerformanceService {
@@ -10,6 +18,13 @@ public interface PerformanceService {
     Performance update(String id, PerformanceDto dto);
     void delete(String id);
     Performance getById(String id);
-    List<Performance> getAll();
-    List<Performance> getByDjId(String djId);
+    ResourceVersion getVersion(String id);
+    ResourceVersion getCatalogVersion();
+    List<PerformanceView> getAll();
+    CursorPage<PerformanceView> getPage(String cursor, Integer size);
+    List<PerformanceView> getByDjId(String djId);
+    List<PerformanceConflict> getConflictsForDj(String djId);
+    List<PerformanceView> getPlayingAt(LocalDateTime at);
+    List<PerformanceView> getUpcoming(LocalDateTime from, Duration window);
+    void exportAll(OutputStream outputStream) throws IOException;
 }
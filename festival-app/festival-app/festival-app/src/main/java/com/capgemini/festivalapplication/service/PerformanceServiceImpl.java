@@ -1,14 +1,41 @@
 package com.capgemini.festivalapplication.service;
 
+import com.capgemini.festivalapplication.config.MetricsConfig;
+import com.capgemini.festivalapplication.dto.CursorPage;
+import com.capgemini.festivalapplication.dto.PerformanceConflict;
 import com.capgemini.festivalapplication.dto.PerformanceDto;
+import com.capgemini.festivalapplication.dto.PerformanceSlot;
+import com.capgemini.festivalapplication.dto.PerformanceView;
+import com.capgemini.festivalapplication.dto.ResourceVersion;
+import com.capgemini.festivalapplication.entity.CatalogVersion;
+import com.capgemini.festivalapplication.entity.OutboxEvent;
 import com.capgemini.festivalapplication.entity.Performance;
 import com.capgemini.festivalapplication.exception.BadRequestException;
 import com.capgemini.festivalapplication.exception.ResourceNotFoundException;
 import com.capgemini.festivalapplication.mapper.PerformanceMapper;
 import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Service implementation for Performance business logic.
@@ -18,29 +45,61 @@ import java.util.List;
  * - DTO to Entity conversion using PerformanceMapper
  * - DJ relationship validation
  * - Performance timing validation
+ * - Double-booking prevention through the in-memory DjScheduleIndex
+ * - Read-only list queries that return flat views instead of entities
+ * - Version stamps for conditional GETs; every write bumps the performance catalog counter
+ * - Catalog change events in the outbox, written in the same transaction as the change
  * - Exception handling for various error scenarios
  */
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class PerformanceServiceImpl implements PerformanceService {
 
+    // Rows written between explicit flushes of the export stream
+    private static final int EXPORT_FLUSH_INTERVAL = 500;
+
+    // Longest look-ahead for /upcoming; the whole festival fits comfortably
+    private static final Duration MAX_UPCOMING_WINDOW = Duration.ofDays(14);
+
     private final PerformanceRepository performanceRepository;
     private final PerformanceMapper performanceMapper;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final DjScheduleIndex scheduleIndex;
+    private final PerformanceTimeline timeline;
+    private final CatalogVersions catalogVersions;
+    private final CatalogOutbox catalogOutbox;
 
-    public PerformanceServiceImpl(PerformanceRepository performanceRepository, PerformanceMapper performanceMapper) {
+    public PerformanceServiceImpl(PerformanceRepository performanceRepository,
+                                  PerformanceMapper performanceMapper,
+                                  EntityManager entityManager,
+                                  ObjectMapper objectMapper,
+                                  DjScheduleIndex scheduleIndex,
+                                  PerformanceTimeline timeline,
+                                  CatalogVersions catalogVersions,
+                                  CatalogOutbox catalogOutbox) {
         this.performanceRepository = performanceRepository;
         this.performanceMapper = performanceMapper;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.scheduleIndex = scheduleIndex;
+        this.timeline = timeline;
+        this.catalogVersions = catalogVersions;
+        this.catalogOutbox = catalogOutbox;
     }
 
     @Override
+    @Transactional
     public Performance create(PerformanceDto performanceDto) {
         // Convert DTO to Entity using mapper (includes DJ validation and timing validation)
         Performance performance = performanceMapper.toEntity(performanceDto);
         
-        // Save and return the persisted entity
-        return performanceRepository.save(performance);
+        // Reserve the slot before writing; rejects overlaps with the DJ's other performances
+        return saveBooked(performance, OutboxEvent.Type.CREATED);
     }
 
     @Override
+    @Transactional
     public Performance update(String id, PerformanceDto performanceDto) {
         // Check if Performance exists
         Performance existingPerformance = performanceRepository.findById(id)
@@ -52,17 +111,81 @@ public class PerformanceServiceImpl implements PerformanceService {
         // Update entity using mapper (includes DJ validation and timing validation)
         Performance updatedPerformance = performanceMapper.updateEntity(existingPerformance, performanceDto);
         
-        // Save and return the updated entity
-        return performanceRepository.save(updatedPerformance);
+        // Move the slot in the schedule index, then save
+        return saveBooked(updatedPerformance, OutboxEvent.Type.UPDATED);
     }
 
     @Override
+    @Transactional
     public void delete(String id) {
         Performance performance = performanceRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(
                     "Performance with id " + id + " not found. Cannot delete non-existing performance."
                 ));
         performanceRepository.delete(performance);
+        catalogOutbox.record(CatalogOutbox.PERFORMANCE, id, OutboxEvent.Type.DELETED);
+        catalogVersions.bump(CatalogVersion.PERFORMANCES);
+        afterCommit(() -> {
+            scheduleIndex.release(id);
+            timeline.remove(id);
+        });
+    }
+
+    @Override
+    public List<PerformanceConflict> getConflictsForDj(String djId) {
+        return scheduleIndex.conflictsFor(djId);
+    }
+
+    @Override
+    public List<PerformanceView> getPlayingAt(LocalDateTime at) {
+        return timeline.playingAt(at);
+    }
+
+    @Override
+    public List<PerformanceView> getUpcoming(LocalDateTime from, Duration window) {
+        if (window.isNegative() || window.compareTo(MAX_UPCOMING_WINDOW) > 0) {
+            throw new BadRequestException(
+                "Upcoming window must be between 0 and " + MAX_UPCOMING_WINDOW.toDays() + " days, got " + window + "."
+            );
+        }
+        return timeline.startingWithin(from, window);
+    }
+
+    /**
+     * Books the performance's slot in the schedule index and saves it, recording the
+     * change in the outbox. If the transaction does not commit, whether the save or the
+     * commit fails, the index is put back to the state before the booking.
+     * Once committed the performance timeline is updated as well.
+     */
+    private Performance saveBooked(Performance performance, OutboxEvent.Type eventType) {
+        // The slot is keyed by id, so a new performance draws its id before the save
+        performance.assignId();
+        PerformanceSlot slot = new PerformanceSlot(
+            performance.getId(), performance.getDj().getId(), performance.getStartTime(), performance.getEndTime()
+        );
+        PerformanceSlot previous = scheduleIndex.book(slot);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    scheduleIndex.restore(performance.getId(), previous);
+                }
+            }
+        });
+        Performance saved = performanceRepository.save(performance);
+        catalogOutbox.record(CatalogOutbox.PERFORMANCE, saved.getId(), eventType);
+        catalogVersions.bump(CatalogVersion.PERFORMANCES);
+        afterCommit(() -> timeline.put(performanceMapper.toView(saved)));
+        return saved;
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
     @Override
@@ -74,13 +197,57 @@ public class PerformanceServiceImpl implements PerformanceService {
     }
 
     @Override
-    public List<Performance> getAll() {
-        return performanceRepository.findAll();
+    public ResourceVersion getVersion(String id) {
+        return performanceRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(
+                    "Performance with id " + id + " not found."
+                ));
     }
 
     @Override
-    public List<Performance> getByDjId(String djId) {
-        List<Performance> performances = performanceRepository.findByDj_Id(djId);
+    public ResourceVersion getCatalogVersion() {
+        return catalogVersions.current(CatalogVersion.PERFORMANCES);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PerformanceView> getAll() {
+        return performanceRepository.findAllViews();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PerformanceView> getPage(String cursor, Integer size) {
+        int pageSize = KeysetCursor.pageSize(size);
+        // Fetch one extra row to find out whether another page follows
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<PerformanceView> performances;
+        if (cursor == null || cursor.isEmpty()) {
+            performances = performanceRepository.findFirstPage(limit);
+        } else {
+            String[] key = KeysetCursor.decode(cursor);
+            LocalDateTime startTime;
+            try {
+                startTime = LocalDateTime.parse(key[0]);
+            } catch (DateTimeParseException e) {
+                throw new BadRequestException("Invalid pagination cursor: " + cursor, e);
+            }
+            performances = performanceRepository.findPageAfter(startTime, key[1], limit);
+        }
+
+        if (performances.size() <= pageSize) {
+            return new CursorPage<>(performances, null);
+        }
+        List<PerformanceView> page = performances.subList(0, pageSize);
+        PerformanceView last = page.get(pageSize - 1);
+        return new CursorPage<>(page, KeysetCursor.encode(last.startTime().toString(), last.id()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<PerformanceView> getByDjId(String djId) {
+        List<PerformanceView> performances = performanceRepository.findViewsByDjId(djId);
         if (performances.isEmpty()) {
             throw new ResourceNotFoundException(
                 "No performances found for DJ with id: " + djId
@@ -88,4 +255,44 @@ public class PerformanceServiceImpl implements PerformanceService {
         }
         return performances;
     }
-}
\ No newline at end of file
+
+    /**
+     * Writes every performance as one JSON document per line (NDJSON).
+     *
+     * Rows are read through a database cursor and each entity is detached as soon
+     * as it has been written, so the persistence context never grows and heap use
+     * stays flat regardless of how many performances are exported.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(OutputStream outputStream) throws IOException {
+        // writeValue would otherwise flush the generator after every row
+        ObjectWriter writer = objectMapper.writerFor(PerformanceDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        // A full-table stream would otherwise put every row into the second-level cache
+        // and evict the hot entries. Query hints are not applied to streamed loads.
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.IGNORE);
+        try (Stream<Performance> performances = performanceRepository.streamAllOrderedByStartTime()) {
+            Iterator<Performance> iterator = performances.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                Performance performance = iterator.next();
+                writer.writeValue(generator, performanceMapper.toDto(performance));
+                generator.writeRaw('\n');
+                entityManager.detach(performance);
+
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+        } finally {
+            session.setCacheMode(previousCacheMode);
+        }
+        generator.flush();
+    }
+}
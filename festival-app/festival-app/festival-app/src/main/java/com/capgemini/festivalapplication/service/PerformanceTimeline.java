@@ -0,0 +1,125 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.dto.PerformanceView;
+import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * In-memory timeline of all performances, answering "what is playing now" and
+ * "what starts next" without touching the database.
+ *
+ * Performances are kept in a concurrent skip list ordered by (startTime, id), so
+ * polling reads never block. A performance playing at time t started no earlier
+ * than t - longestPerformance, which bounds the "now playing" lookup to a short
+ * range scan; "up next" is a range scan over the requested window.
+ *
+ * The timeline is loaded once the application is ready and then updated by the
+ * services after every performance write, DJ delete and lineup import.
+ */
+@Component
+public class PerformanceTimeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceTimeline.class);
+
+    private static final Comparator<PerformanceView> START_ORDER =
+            Comparator.comparing(PerformanceView::startTime).thenComparing(PerformanceView::id);
+
+    private final PerformanceRepository performanceRepository;
+    private final NavigableSet<PerformanceView> byStart = new ConcurrentSkipListSet<>(START_ORDER);
+    private final Map<String, PerformanceView> byId = new ConcurrentHashMap<>();
+
+    // Only grows; a too-wide window costs a few comparisons, never correctness
+    private volatile Duration longestPerformance = Duration.ZERO;
+
+    public PerformanceTimeline(PerformanceRepository performanceRepository) {
+        this.performanceRepository = performanceRepository;
+    }
+
+    /**
+     * Loads all performances from the database, replacing the current contents.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        List<PerformanceView> performances = performanceRepository.findAllViews();
+        byStart.clear();
+        byId.clear();
+        longestPerformance = Duration.ZERO;
+        performances.forEach(this::put);
+        logger.info("Performance timeline loaded with {} performances", performances.size());
+    }
+
+    /**
+     * Adds a performance, or replaces it after an update.
+     */
+    public synchronized void put(PerformanceView performance) {
+        PerformanceView previous = byId.put(performance.id(), performance);
+        if (previous != null) {
+            byStart.remove(previous);
+        }
+        byStart.add(performance);
+
+        Duration length = Duration.between(performance.startTime(), performance.endTime());
+        if (length.compareTo(longestPerformance) > 0) {
+            longestPerformance = length;
+        }
+    }
+
+    public synchronized void remove(String performanceId) {
+        PerformanceView previous = byId.remove(performanceId);
+        if (previous != null) {
+            byStart.remove(previous);
+        }
+    }
+
+    /**
+     * Removes all performances of a DJ, e.g. after the DJ was deleted with its performances.
+     */
+    public synchronized void removeDj(String djId) {
+        byId.values().removeIf(performance -> {
+            if (djId.equals(performance.djId())) {
+                byStart.remove(performance);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    /**
+     * Performances running at the given time (start inclusive, end exclusive), by start time.
+     */
+    public List<PerformanceView> playingAt(LocalDateTime at) {
+        List<PerformanceView> playing = new ArrayList<>();
+        for (PerformanceView performance : byStart.subSet(probe(at.minus(longestPerformance)), true, probe(at.plusNanos(1)), false)) {
+            if (performance.endTime().isAfter(at)) {
+                playing.add(performance);
+            }
+        }
+        return playing;
+    }
+
+    /**
+     * Performances starting after the given time and at most window later, by start time.
+     */
+    public List<PerformanceView> startingWithin(LocalDateTime from, Duration window) {
+        return new ArrayList<>(byStart.subSet(probe(from.plusNanos(1)), true, probe(from.plus(window).plusNanos(1)), false));
+    }
+
+    private static PerformanceView probe(LocalDateTime time) {
+        // Empty id sorts before every real id starting at the same instant
+        return new PerformanceView("", null, null, time, time, null);
+    }
+}
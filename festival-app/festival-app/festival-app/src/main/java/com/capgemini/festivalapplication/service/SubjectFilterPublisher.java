@@ -0,0 +1,119 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.dto.ResourceVersion;
+import com.capgemini.festivalapplication.dto.SubjectFilter;
+import com.capgemini.festivalapplication.entity.CatalogVersion;
+import com.capgemini.festivalapplication.repository.DjRepository;
+import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Builds the Bloom filter of all DJ and performance ids that review-service uses
+ * to reject reviews for unknown subjects without calling this application.
+ *
+ * The filter is versioned by the DJ and performance catalog counters. A request
+ * reads the two counters (primary key lookups) and gets the last built filter if
+ * neither changed; otherwise the ids are scanned once and a new filter is built.
+ * The counters are read before the ids, so a filter never misses a subject its
+ * version covers; a write in between only makes the version older than the content.
+ *
+ * Size and expected false-positive rate are published as subject.filter.* gauges.
+ */
+@Component
+public class SubjectFilterPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubjectFilterPublisher.class);
+
+    private final DjRepository djRepository;
+    private final PerformanceRepository performanceRepository;
+    private final CatalogVersions catalogVersions;
+    private final double falsePositiveRate;
+    private final long maxBits;
+
+    private volatile SubjectFilter current;
+
+    public SubjectFilterPublisher(DjRepository djRepository,
+                                  PerformanceRepository performanceRepository,
+                                  CatalogVersions catalogVersions,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${festival.subject-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${festival.subject-filter.max-size:1MB}") DataSize maxSize) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("festival.subject-filter.false-positive-rate must be between 0 and 1");
+        }
+        this.djRepository = djRepository;
+        this.performanceRepository = performanceRepository;
+        this.catalogVersions = catalogVersions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.maxBits = maxSize.toBytes() * Byte.SIZE;
+
+        Gauge.builder("subject.filter.size", this, publisher -> publisher.gauge(SubjectFilter::sizeBytes))
+                .baseUnit("bytes")
+                .description("Size of the published subject filter")
+                .register(meterRegistry);
+        Gauge.builder("subject.filter.subjects", this, publisher -> publisher.gauge(SubjectFilter::subjectCount))
+                .description("DJs and performances in the published subject filter")
+                .register(meterRegistry);
+        Gauge.builder("subject.filter.false.positive.rate", this, publisher -> publisher.gauge(SubjectFilter::falsePositiveRate))
+                .description("Expected false-positive rate of the published subject filter")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the filter for the current catalog versions, building it if they changed.
+     */
+    public SubjectFilter current() {
+        String version = version();
+        SubjectFilter filter = current;
+        if (filter != null && filter.version().equals(version)) {
+            return filter;
+        }
+        return rebuild(version);
+    }
+
+    private synchronized SubjectFilter rebuild(String version) {
+        SubjectFilter filter = current;
+        if (filter != null && filter.version().equals(version)) {
+            return filter;
+        }
+
+        long started = System.nanoTime();
+        List<String> djIds = djRepository.findAllIds();
+        List<String> performanceIds = performanceRepository.findAllIds();
+        int subjects = djIds.size() + performanceIds.size();
+
+        SubjectBloomFilter bloomFilter = SubjectBloomFilter.create(subjects, falsePositiveRate, maxBits);
+        djIds.forEach(id -> bloomFilter.put("DJ", id));
+        performanceIds.forEach(id -> bloomFilter.put("PERFORMANCE", id));
+
+        filter = new SubjectFilter(version, subjects, bloomFilter.getBitCount(), bloomFilter.getHashFunctions(),
+                bloomFilter.getSizeBytes(), bloomFilter.falsePositiveRate(subjects), bloomFilter.toBase64());
+        current = filter;
+        logger.info("Subject filter {} built with {} subjects in {} bytes (expected false-positive rate {}) in {} ms",
+                version, subjects, filter.sizeBytes(), String.format("%.4f", filter.falsePositiveRate()),
+                (System.nanoTime() - started) / 1_000_000);
+        return filter;
+    }
+
+    private String version() {
+        ResourceVersion djs = catalogVersions.current(CatalogVersion.DJS);
+        ResourceVersion performances = catalogVersions.current(CatalogVersion.PERFORMANCES);
+        // Timestamps keep versions unique when the counters start over on a fresh schema
+        return djs.version() + "." + performances.version() + "-"
+                + djs.lastModifiedMillis() + "." + performances.lastModifiedMillis();
+    }
+
+    private double gauge(ToDoubleFunction<SubjectFilter> value) {
+        SubjectFilter filter = current;
+        return filter != null ? value.applyAsDouble(filter) : Double.NaN;
+    }
+}
@@ -0,0 +1,57 @@
+package com.capgemini.festivalapplication.controller;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveTimeout.
+ */
+class AdaptiveTimeoutTest {
+
+    private final AdaptiveTimeout timeout = new AdaptiveTimeout(Duration.ofMillis(100), Duration.ofSeconds(5));
+
+    /**
+     * Verifies: the maximum applies until enough latencies have been recorded
+     */
+    @Test
+    void current_ShouldBeMaximumWithoutEnoughSamples() {
+        for (int i = 0; i < 10; i++) {
+            timeout.record(Duration.ofMillis(50));
+        }
+        assertEquals(Duration.ofSeconds(5), timeout.current());
+    }
+
+    /**
+     * Verifies: the timeout is twice the p99 latency, bounded by minimum and maximum
+     */
+    @Test
+    void current_ShouldBeTwiceP99WithinBounds() {
+        record(Duration.ofMillis(300), 256);
+        assertEquals(Duration.ofMillis(600), timeout.current());
+
+        record(Duration.ofMillis(10), 256);
+        assertEquals(Duration.ofMillis(100), timeout.current());
+
+        record(Duration.ofSeconds(4), 256);
+        assertEquals(Duration.ofSeconds(5), timeout.current());
+    }
+
+    /**
+     * Verifies: a few slow outliers above the 99th percentile do not move the timeout
+     */
+    @Test
+    void current_ShouldIgnoreOutliersAboveP99() {
+        record(Duration.ofMillis(200), 254);
+        record(Duration.ofSeconds(3), 2);
+        assertEquals(Duration.ofMillis(400), timeout.current());
+    }
+
+    private void record(Duration latency, int times) {
+        for (int i = 0; i < times; i++) {
+            timeout.record(latency);
+        }
+    }
+}
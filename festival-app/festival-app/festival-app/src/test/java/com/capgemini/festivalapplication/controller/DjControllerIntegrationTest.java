@@ -18,6 +18,8 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.util.List;
+
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -114,6 +116,60 @@ class DjControllerIntegrationTest {
                 .andExpect(jsonPath("$.timestamp", notNullValue()));
     }
 
+    /**
+     * Test GET /api/djs/{id} - Conditional GET with If-None-Match
+     * Verifies: ETag on HTTP 200, HTTP 304 without body for the current tag, new tag after an update
+     */
+    @Test
+    void getDjById_WithMatchingETag_ShouldReturnHttp304() throws Exception {
+        String eTag = mockMvc.perform(get("/api/djs/{id}", testDj.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(eTag);
+        assertFalse(eTag.startsWith("W/"));
+
+        mockMvc.perform(get("/api/djs/{id}", testDj.getId()).header("If-None-Match", eTag))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        Dj dj = djRepository.findById(testDj.getId()).orElseThrow();
+        dj.setGenre("Techno");
+        djRepository.save(dj);
+
+        mockMvc.perform(get("/api/djs/{id}", testDj.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.genre", is("Techno")));
+    }
+
+    /**
+     * Test GET /api/djs - Conditional GET on the collection
+     * Verifies: HTTP 304 for the current tag, HTTP 200 with a new tag once a DJ is created
+     */
+    @Test
+    void getAllDjs_WithMatchingETag_ShouldReturnHttp304UntilCatalogChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/api/djs"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(eTag);
+
+        mockMvc.perform(get("/api/djs").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/djs")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(testDjDto)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/djs").header("If-None-Match", eTag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
     /**
      * Test POST /api/djs - Create new DJ
      * Verifies: HTTP 201, correct JSON response, database persistence
@@ -310,6 +366,90 @@ class DjControllerIntegrationTest {
                 .andExpect(jsonPath("$[0].name", is("Very Long DJ Name")));
     }
 
+    /**
+     * Test POST /api/djs/bulk - Bulk import with mixed rows
+     * Verifies: HTTP 200, per-row report, only valid and unique rows persisted
+     */
+    @Test
+    void bulkCreateDjs_ShouldCreateValidRowsAndReportRejected_WithHttp200() throws Exception {
+        DjDto duplicateOfExisting = new DjDto();
+        duplicateOfExisting.setName("Copycat");
+        duplicateOfExisting.setGenre("House");
+        duplicateOfExisting.setEmail("testdj@example.com");
+
+        DjDto invalid = new DjDto();
+        invalid.setName("");
+        invalid.setGenre("House");
+        invalid.setEmail("not-an-email");
+
+        DjDto duplicateInBatch = new DjDto();
+        duplicateInBatch.setName("New DJ Again");
+        duplicateInBatch.setGenre("House");
+        duplicateInBatch.setEmail("newdj@example.com");
+
+        String djJson = objectMapper.writeValueAsString(
+                List.of(testDjDto, duplicateOfExisting, invalid, duplicateInBatch));
+
+        mockMvc.perform(post("/api/djs/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(djJson))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(4)))
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.rejected", is(3)))
+                .andExpect(jsonPath("$.rows[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.rows[0].id", notNullValue()))
+                .andExpect(jsonPath("$.rows[1].message", containsString("already exists")))
+                .andExpect(jsonPath("$.rows[2].message", containsString("email")))
+                .andExpect(jsonPath("$.rows[3].message", containsString("already exists")));
+
+        assertEquals(2, djRepository.count()); // Original + one imported DJ
+    }
+
+    /**
+     * Test GET /api/djs/page - Keyset pagination
+     * Verifies: HTTP 200, pages follow (name, id) order, last page has no cursor
+     */
+    @Test
+    void getDjPage_ShouldWalkAllDjsInNameOrder_WithHttp200() throws Exception {
+        djRepository.save(new Dj("Armin", "Trance", "armin@example.com"));
+        djRepository.save(new Dj("Zedd", "EDM", "zedd@example.com"));
+
+        MvcResult firstPage = mockMvc.perform(get("/api/djs/page").param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].name", is("Armin")))
+                .andExpect(jsonPath("$.items[1].name", is("Test DJ")))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andReturn();
+
+        String cursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/djs/page").param("size", "2").param("cursor", cursor))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].name", is("Zedd")))
+                .andExpect(jsonPath("$.nextCursor", nullValue()))
+                .andExpect(jsonPath("$.hasNext", is(false)));
+    }
+
+    /**
+     * Test GET /api/djs/page - Tampered cursor
+     * Verifies: HTTP 400, proper error response
+     */
+    @Test
+    void getDjPage_WithInvalidCursor_ShouldReturnHttp400() throws Exception {
+        mockMvc.perform(get("/api/djs/page").param("cursor", "not a cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)))
+                .andExpect(jsonPath("$.message", containsString("Invalid pagination cursor")));
+    }
+
     /**
      * Test malformed JSON request
      * Verifies: HTTP 400, proper error handling
@@ -0,0 +1,272 @@
+package com.capgemini.festivalapplication.controller;
+
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.entity.Performance;
+import com.capgemini.festivalapplication.repository.DjRepository;
+import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.StringJoiner;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the DJ endpoints backed by review-service:
+ * GET /api/djs/{id}/profile, GET /api/djs/{id}/reviews and GET /api/djs?withRatings=true.
+ * A stub review service with adjustable delays stands in for review-service, so the
+ * tests can check that branches run in parallel and that a late branch is left out.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "festival.profile.deadline=" + DjProfileIntegrationTest.DEADLINE_MILLIS + "ms")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class DjProfileIntegrationTest {
+
+    static final long DEADLINE_MILLIS = 1_000;
+
+    private static volatile long reviewsDelayMillis;
+    private static volatile long statsDelayMillis;
+    private static final AtomicInteger batchRequests = new AtomicInteger();
+    private static volatile String lastReviewsQuery;
+    private static boolean warmedUp;
+
+    private static final HttpServer reviewService = startReviewService();
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private DjRepository djRepository;
+
+    @Autowired
+    private PerformanceRepository performanceRepository;
+
+    private MockMvc mockMvc;
+    private Dj testDj;
+
+    @DynamicPropertySource
+    static void reviewServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("review.service.url", () -> "http://localhost:" + reviewService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopReviewService() {
+        reviewService.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        performanceRepository.deleteAll();
+        djRepository.deleteAll();
+
+        testDj = djRepository.save(new Dj("Profile DJ", "House", "profile@example.com"));
+        LocalDateTime start = LocalDateTime.of(2025, 7, 1, 20, 0);
+        performanceRepository.save(new Performance("Profile Set", "Main stage", start, start.plusHours(2), testDj));
+
+        reviewsDelayMillis = 0;
+        statsDelayMillis = 0;
+        batchRequests.set(0);
+
+        // The first WebClient call pays for Netty start-up, keep it out of the timings
+        if (!warmedUp) {
+            mockMvc.perform(get("/api/djs/{id}/profile", testDj.getId()));
+            warmedUp = true;
+        }
+    }
+
+    /**
+     * Test GET /api/djs/{id}/profile - all branches answer in time
+     * Verifies: HTTP 200, DJ, performances, reviews, rating and count in one response
+     */
+    @Test
+    void getDjProfile_ShouldCombineAllParts_WithHttp200() throws Exception {
+        mockMvc.perform(get("/api/djs/{id}/profile", testDj.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dj.id", is(testDj.getId())))
+                .andExpect(jsonPath("$.performances", hasSize(1)))
+                .andExpect(jsonPath("$.performances[0].title", is("Profile Set")))
+                .andExpect(jsonPath("$.reviews", hasSize(1)))
+                .andExpect(jsonPath("$.reviews[0].rating", is(4)))
+                .andExpect(jsonPath("$.averageRating", is(4.0)))
+                .andExpect(jsonPath("$.reviewCount", is(1)))
+                .andExpect(jsonPath("$.unavailable", empty()));
+    }
+
+    /**
+     * Test GET /api/djs/{id}/profile - review calls run in parallel
+     * Verifies: two calls of 400 ms each take about 400 ms together, not 800 ms
+     */
+    @Test
+    void getDjProfile_ShouldFetchReviewPartsInParallel() throws Exception {
+        reviewsDelayMillis = 400;
+        statsDelayMillis = 400;
+
+        long started = System.nanoTime();
+        mockMvc.perform(get("/api/djs/{id}/profile", testDj.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unavailable", empty()));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertTrue(elapsed.toMillis() < 750, "Took " + elapsed);
+    }
+
+    /**
+     * Test GET /api/djs/{id}/profile - one branch misses the deadline
+     * Verifies: HTTP 200 after about the deadline, stats left out and reported, the rest present
+     */
+    @Test
+    void getDjProfile_WithSlowStats_ShouldReturnPartialProfile_WithHttp200() throws Exception {
+        statsDelayMillis = 3_000;
+
+        long started = System.nanoTime();
+        mockMvc.perform(get("/api/djs/{id}/profile", testDj.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.dj.name", is("Profile DJ")))
+                .andExpect(jsonPath("$.reviews", hasSize(1)))
+                .andExpect(jsonPath("$.averageRating", nullValue()))
+                .andExpect(jsonPath("$.reviewCount", nullValue()))
+                .andExpect(jsonPath("$.unavailable", contains("stats")));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertTrue(elapsed.toMillis() < DEADLINE_MILLIS + 1_000, "Took " + elapsed);
+    }
+
+    /**
+     * Test GET /api/djs/{id}/profile - unknown DJ
+     * Verifies: HTTP 404
+     */
+    @Test
+    void getDjProfile_WithNonExistingId_ShouldReturnHttp404() throws Exception {
+        mockMvc.perform(get("/api/djs/{id}/profile", "non-existing-id"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.status", is(404)));
+    }
+
+    /**
+     * Test GET /api/djs/{id}/reviews - paging through the DJ's reviews
+     * Verifies: HTTP 200, cursor and limit passed on, review-service's {items, next} page returned
+     */
+    @Test
+    void getDjReviews_ShouldPassPagingThrough_WithHttp200() throws Exception {
+        mockMvc.perform(get("/api/djs/{id}/reviews", testDj.getId()).param("cursor", "page-2").param("limit", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].reviewerName", is("Sam")))
+                .andExpect(jsonPath("$.next", is("page-3")));
+
+        assertEquals("cursor=page-2&limit=10", lastReviewsQuery);
+    }
+
+    /**
+     * Test GET /api/djs/{id}/reviews - cursor review-service cannot decode
+     * Verifies: HTTP 400 instead of an empty fallback page
+     */
+    @Test
+    void getDjReviews_WithInvalidCursor_ShouldReturnHttp400() throws Exception {
+        mockMvc.perform(get("/api/djs/{id}/reviews", testDj.getId()).param("cursor", "garbage"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("cursor")));
+    }
+
+    /**
+     * Test GET /api/djs?withRatings=true - DJ list with review statistics
+     * Verifies: HTTP 200, every DJ carries rating and count, one batch call for the whole list
+     */
+    @Test
+    void getAllDjsWithRatings_ShouldUseOneBatchCall_WithHttp200() throws Exception {
+        djRepository.save(new Dj("Second DJ", "Techno", "second@example.com"));
+
+        mockMvc.perform(get("/api/djs").param("withRatings", "true"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[*].averageRating", contains(4.5, 4.5)))
+                .andExpect(jsonPath("$[*].reviewCount", contains(2, 2)));
+
+        assertEquals(1, batchRequests.get());
+    }
+
+    private static HttpServer startReviewService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/api/reviews/subject/", exchange -> {
+                String query = exchange.getRequestURI().getQuery();
+                lastReviewsQuery = query;
+                if (query != null && query.contains("cursor=garbage")) {
+                    exchange.sendResponseHeaders(400, -1);
+                    exchange.close();
+                    return;
+                }
+                String next = query != null && query.contains("cursor=page-2") ? "\"page-3\"" : "null";
+                respond(exchange, reviewsDelayMillis,
+                        "{\"items\":[{\"id\":\"review-1\",\"subjectType\":\"DJ\",\"reviewerName\":\"Sam\",\"rating\":4}],\"next\":" + next + "}");
+            });
+            server.createContext("/api/reviews/stats/", exchange -> respond(exchange, statsDelayMillis,
+                    "{\"subjectType\":\"DJ\",\"averageRating\":4.0,\"reviewCount\":1}"));
+            // Answers every requested subject with the same statistics
+            server.createContext("/api/reviews/stats/batch", exchange -> {
+                batchRequests.incrementAndGet();
+                JsonNode subjects = new ObjectMapper().readTree(exchange.getRequestBody());
+                StringJoiner stats = new StringJoiner(",", "[", "]");
+                subjects.forEach(subject -> stats.add("{\"subjectType\":\"DJ\",\"subjectId\":\"" +
+                        subject.get("subjectId").asText() + "\",\"averageRating\":4.5,\"reviewCount\":2}"));
+                respond(exchange, 0, stats.toString());
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, long delayMillis, String json) throws IOException {
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,464 @@
+package com.capgemini.festivalapplication.controller;
+
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.entity.Performance;
+import com.capgemini.festivalapplication.repository.DjRepository;
+import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import com.capgemini.festivalapplication.service.DjScheduleIndex;
+import com.capgemini.festivalapplication.service.PerformanceTimeline;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for PerformanceController.
+ * Tests the bulk read and write paths (export, keyset pages, CSV import), double-booking checks
+ * and the now/upcoming timeline on top of a small seeded lineup.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.properties")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class PerformanceControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DjRepository djRepository;
+
+    @Autowired
+    private PerformanceRepository performanceRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DjScheduleIndex scheduleIndex;
+
+    @Autowired
+    private PerformanceTimeline timeline;
+
+    private Dj testDj;
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        // Setup MockMvc
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        // Clear database before each test
+        performanceRepository.deleteAll();
+        djRepository.deleteAll();
+
+        // Create test data
+        testDj = djRepository.save(new Dj("Lineup DJ", "Techno", "lineup@example.com"));
+        baseTime = LocalDateTime.of(2025, 7, 1, 20, 0);
+        performanceRepository.save(new Performance("Late Set", "Closing", baseTime.plusHours(4), baseTime.plusHours(6), testDj));
+        performanceRepository.save(new Performance("Early Set", "Opening", baseTime, baseTime.plusHours(2), testDj));
+
+        // Seed data bypasses the services, so reload the in-memory indexes from the database
+        scheduleIndex.rebuild();
+        timeline.rebuild();
+    }
+
+    /**
+     * Test GET /api/performances/export - NDJSON export
+     * Verifies: HTTP 200, one JSON document per line, start time order
+     */
+    @Test
+    void exportPerformances_ShouldStreamNdjsonInStartTimeOrder_WithHttp200() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/api/performances/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(2, lines.length);
+
+        JsonNode first = objectMapper.readTree(lines[0]);
+        JsonNode second = objectMapper.readTree(lines[1]);
+        assertEquals("Early Set", first.get("title").asText());
+        assertEquals(testDj.getId(), first.get("djId").asText());
+        assertEquals("Late Set", second.get("title").asText());
+    }
+
+    /**
+     * Test GET /api/performances/page - Keyset pagination
+     * Verifies: HTTP 200, pages follow (startTime, id) order, sets starting together are split without loss
+     */
+    @Test
+    void getPerformancePage_ShouldWalkAllPerformancesInStartTimeOrder_WithHttp200() throws Exception {
+        Dj secondDj = djRepository.save(new Dj("Second DJ", "House", "second@example.com"));
+        Dj thirdDj = djRepository.save(new Dj("Third DJ", "House", "third@example.com"));
+        // Same start time as "Early Set"; ids are time-ordered, so these sort after it
+        performanceRepository.save(new Performance("Second Stage Set", null, baseTime, baseTime.plusHours(1), secondDj));
+        performanceRepository.save(new Performance("Third Stage Set", null, baseTime, baseTime.plusHours(1), thirdDj));
+
+        MvcResult firstPage = mockMvc.perform(get("/api/performances/page").param("size", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].title", is("Early Set")))
+                .andExpect(jsonPath("$.items[1].title", is("Second Stage Set")))
+                .andExpect(jsonPath("$.hasNext", is(true)))
+                .andReturn();
+
+        String cursor = objectMapper.readTree(firstPage.getResponse().getContentAsString())
+                .get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/performances/page").param("size", "2").param("cursor", cursor))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].title", is("Third Stage Set")))
+                .andExpect(jsonPath("$.items[1].title", is("Late Set")))
+                .andExpect(jsonPath("$.nextCursor", nullValue()))
+                .andExpect(jsonPath("$.hasNext", is(false)));
+    }
+
+    /**
+     * Test GET /api/performances/page - cursor that decodes but carries no start time
+     * Verifies: HTTP 400, proper error response
+     */
+    @Test
+    void getPerformancePage_WithNonDateCursorKey_ShouldReturnHttp400() throws Exception {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("Armin\u001Fsome-id".getBytes(StandardCharsets.UTF_8));
+
+        mockMvc.perform(get("/api/performances/page").param("cursor", cursor))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status", is(400)))
+                .andExpect(jsonPath("$.message", containsString("Invalid pagination cursor")));
+    }
+
+    /**
+     * Test POST /api/performances/import - CSV lineup import
+     * Verifies: HTTP 200, valid rows persisted, unknown DJ and bad timing reported per line
+     */
+    @Test
+    void importLineup_ShouldPersistValidRowsAndReportRejected_WithHttp200() throws Exception {
+        String csv = "title,description,startTime,endTime,djId\n" +
+                "Sunrise Set,\"Warm-up, then peak time\",2025-07-02T05:00:00,2025-07-02T07:00:00," + testDj.getId() + "\n" +
+                "Ghost Set,,2025-07-02T08:00:00,2025-07-02T09:00:00,unknown-dj\n" +
+                "Backwards Set,,2025-07-02T10:00:00,2025-07-02T09:00:00," + testDj.getId() + "\n";
+
+        mockMvc.perform(post("/api/performances/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(1)))
+                .andExpect(jsonPath("$.rejected", is(2)))
+                .andExpect(jsonPath("$.errors[0].line", is(3)))
+                .andExpect(jsonPath("$.errors[0].message", containsString("not found")))
+                .andExpect(jsonPath("$.errors[1].line", is(4)))
+                .andExpect(jsonPath("$.errors[1].message", containsString("start time cannot be after end time")));
+
+        assertEquals(3, performanceRepository.count()); // Two seeded + one imported
+    }
+
+    /**
+     * Test POST /api/performances/import - row reusing the id of an existing performance
+     * Verifies: HTTP 200, the whole chunk rolled back and every row of it reported
+     */
+    @Test
+    void importLineup_WithDuplicateId_ShouldRejectChunk_WithHttp200() throws Exception {
+        Performance early = performanceRepository.findAll().stream()
+                .filter(p -> p.getTitle().equals("Early Set"))
+                .findFirst().orElseThrow();
+        String csv = "title,description,startTime,endTime,djId,id\n" +
+                "Sunrise Set,,2025-07-02T05:00:00,2025-07-02T07:00:00," + testDj.getId() + ",\n" +
+                "Copied Set,,2025-07-02T08:00:00,2025-07-02T09:00:00," + testDj.getId() + "," + early.getId() + "\n";
+
+        mockMvc.perform(post("/api/performances/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported", is(0)))
+                .andExpect(jsonPath("$.rejected", is(2)))
+                .andExpect(jsonPath("$.errors[0].line", is(2)))
+                .andExpect(jsonPath("$.errors[0].message", startsWith("Chunk rolled back: ")))
+                .andExpect(jsonPath("$.errors[1].line", is(3)));
+
+        assertEquals(2, performanceRepository.count());
+        assertEquals("Early Set", performanceRepository.findById(early.getId()).orElseThrow().getTitle());
+    }
+
+    /**
+     * Test POST /api/performances after a rejected import chunk
+     * Verifies: the chunk's slots are free again (HTTP 201), the existing performance keeps its slot (HTTP 409)
+     */
+    @Test
+    void createPerformance_AfterRejectedImportChunk_ShouldSeeOriginalBookings() throws Exception {
+        Performance early = performanceRepository.findAll().stream()
+                .filter(p -> p.getTitle().equals("Early Set"))
+                .findFirst().orElseThrow();
+        String csv = "title,description,startTime,endTime,djId,id\n" +
+                "Sunrise Set,,2025-07-02T05:00:00,2025-07-02T07:00:00," + testDj.getId() + ",\n" +
+                "Copied Set,,2025-07-02T08:00:00,2025-07-02T09:00:00," + testDj.getId() + "," + early.getId() + "\n";
+        mockMvc.perform(post("/api/performances/import")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rejected", is(2)));
+
+        String sunrise = "{\"title\":\"Sunrise Set\",\"startTime\":\"2025-07-02T05:00:00\"," +
+                "\"endTime\":\"2025-07-02T07:00:00\",\"djId\":\"" + testDj.getId() + "\"}";
+        mockMvc.perform(post("/api/performances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(sunrise))
+                .andDo(print())
+                .andExpect(status().isCreated());
+
+        String overlapsEarly = "{\"title\":\"Double Booked\",\"startTime\":\"" + baseTime.plusHours(1) +
+                "\",\"endTime\":\"" + baseTime.plusHours(3) + "\",\"djId\":\"" + testDj.getId() + "\"}";
+        mockMvc.perform(post("/api/performances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(overlapsEarly))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", containsString(early.getId())));
+    }
+
+    /**
+     * Test POST /api/performances/import - CSV without required columns
+     * Verifies: HTTP 400, nothing imported
+     */
+    @Test
+    void importLineup_WithMissingColumns_ShouldReturnHttp400() throws Exception {
+        mockMvc.perform(post("/api/performances/import")
+                        .contentType("text/csv")
+                        .content("title,startTime\nOnly Title,2025-07-02T05:00:00\n"))
+                .andDo(print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("missing column")));
+
+        assertEquals(2, performanceRepository.count());
+    }
+
+    /**
+     * Test POST /api/performances - DJ already booked in that slot
+     * Verifies: HTTP 409, nothing saved
+     */
+    @Test
+    void createPerformance_OverlappingDjSlot_ShouldReturnHttp409() throws Exception {
+        String json = "{\"title\":\"Double Booked\",\"startTime\":\"" + baseTime.plusHours(1) +
+                "\",\"endTime\":\"" + baseTime.plusHours(3) + "\",\"djId\":\"" + testDj.getId() + "\"}";
+
+        mockMvc.perform(post("/api/performances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status", is(409)))
+                .andExpect(jsonPath("$.message", containsString("already booked")));
+
+        assertEquals(2, performanceRepository.count());
+    }
+
+    /**
+     * Test POST /api/performances - slot starts exactly when the previous set ends
+     * Verifies: HTTP 201, back-to-back sets are not a conflict
+     */
+    @Test
+    void createPerformance_BackToBackSlot_ShouldReturnHttp201() throws Exception {
+        String json = "{\"title\":\"Middle Set\",\"startTime\":\"" + baseTime.plusHours(2) +
+                "\",\"endTime\":\"" + baseTime.plusHours(4) + "\",\"djId\":\"" + testDj.getId() + "\"}";
+
+        mockMvc.perform(post("/api/performances")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andDo(print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.title", is("Middle Set")));
+
+        assertEquals(3, performanceRepository.count());
+    }
+
+    /**
+     * Test GET /api/djs/{id}/conflicts - overlaps that predate the booking check
+     * Verifies: HTTP 200, each overlapping pair listed once, earlier set first
+     */
+    @Test
+    void getDjConflicts_WithLegacyOverlap_ShouldListPair_WithHttp200() throws Exception {
+        performanceRepository.save(new Performance("Legacy Set", "Imported before checks", baseTime.plusHours(1), baseTime.plusHours(3), testDj));
+        scheduleIndex.rebuild();
+
+        mockMvc.perform(get("/api/djs/{id}/conflicts", testDj.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].performance.startTime", is("2025-07-01T20:00:00")))
+                .andExpect(jsonPath("$[0].conflictsWith.startTime", is("2025-07-01T21:00:00")))
+                .andExpect(jsonPath("$[0].conflictsWith.djId", is(testDj.getId())));
+    }
+
+    /**
+     * Test GET /api/performances/now - performances running at a given time
+     * Verifies: HTTP 200, only the set that has started and not yet ended
+     */
+    @Test
+    void getPlayingNow_ShouldReturnRunningPerformance_WithHttp200() throws Exception {
+        mockMvc.perform(get("/api/performances/now").param("at", "2025-07-01T21:00:00"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].title", is("Early Set")))
+                .andExpect(jsonPath("$[0].djId", is(testDj.getId())));
+
+        // End time is exclusive: nothing plays between the two sets
+        mockMvc.perform(get("/api/performances/now").param("at", "2025-07-01T22:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    /**
+     * Test GET /api/performances/upcoming - performances starting within a window
+     * Verifies: HTTP 200, window bounds respected, new bookings visible without a reload
+     */
+    @Test
+    void getUpcoming_ShouldReturnPerformancesStartingInWindow_WithHttp200() throws Exception {
+        mockMvc.perform(get("/api/performances/upcoming").param("at", "2025-07-01T21:00:00").param("window", "2h"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+
+        String json = "{\"title\":\"Middle Set\",\"startTime\":\"" + baseTime.plusHours(2) +
+                "\",\"endTime\":\"" + baseTime.plusHours(4) + "\",\"djId\":\"" + testDj.getId() + "\"}";
+        mockMvc.perform(post("/api/performances").contentType(MediaType.APPLICATION_JSON).content(json))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/performances/upcoming").param("at", "2025-07-01T21:00:00").param("window", "PT4H"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title", is("Middle Set")))
+                .andExpect(jsonPath("$[1].title", is("Late Set")));
+    }
+
+    /**
+     * Test GET /api/performances/upcoming - window beyond the limit
+     * Verifies: HTTP 400
+     */
+    @Test
+    void getUpcoming_WithTooLongWindow_ShouldReturnHttp400() throws Exception {
+        mockMvc.perform(get("/api/performances/upcoming").param("window", "30d"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    /**
+     * Test GET /api/performances/{id} - Conditional GET with If-None-Match
+     * Verifies: HTTP 304 for the current tag, HTTP 200 with a new tag after PUT
+     */
+    @Test
+    void getPerformanceById_WithMatchingETag_ShouldReturnHttp304UntilUpdated() throws Exception {
+        Performance early = performanceRepository.findAll().stream()
+                .filter(p -> p.getTitle().equals("Early Set"))
+                .findFirst().orElseThrow();
+        String eTag = mockMvc.perform(get("/api/performances/{id}", early.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(eTag);
+
+        mockMvc.perform(get("/api/performances/{id}", early.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        String json = "{\"title\":\"Warm-up Set\",\"startTime\":\"" + baseTime +
+                "\",\"endTime\":\"" + baseTime.plusHours(2) + "\",\"djId\":\"" + testDj.getId() + "\"}";
+        mockMvc.perform(put("/api/performances/{id}", early.getId())
+                        .contentType(MediaType.APPLICATION_JSON).content(json))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/performances/{id}", early.getId()).header("If-None-Match", eTag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.title", is("Warm-up Set")));
+    }
+
+    /**
+     * Test HEAD /api/performances/{id} and HEAD /api/djs/{id} - Existence checks
+     * Verifies: HTTP 200 with the GET ETag and no body, HTTP 404 for unknown ids
+     */
+    @Test
+    void headPerformanceAndDj_ShouldAnswerExistenceWithoutBody() throws Exception {
+        Performance early = performanceRepository.findAll().stream()
+                .filter(p -> p.getTitle().equals("Early Set"))
+                .findFirst().orElseThrow();
+        String eTag = mockMvc.perform(get("/api/performances/{id}", early.getId()))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(head("/api/performances/{id}", early.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+        mockMvc.perform(head("/api/djs/{id}", testDj.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(head("/api/performances/{id}", "missing-performance"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(head("/api/djs/{id}", "missing-dj"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Test GET /api/performances - Conditional GET on the collection
+     * Verifies: HTTP 304 for the current tag, HTTP 200 with a new tag after a delete
+     */
+    @Test
+    void getAllPerformances_WithMatchingETag_ShouldReturnHttp304UntilCatalogChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/api/performances"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title", is("Early Set")))
+                .andReturn().getResponse().getHeader("ETag");
+        assertNotNull(eTag);
+
+        mockMvc.perform(get("/api/performances").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        Performance late = performanceRepository.findAll().stream()
+                .filter(p -> p.getTitle().equals("Late Set"))
+                .findFirst().orElseThrow();
+        mockMvc.perform(delete("/api/performances/{id}", late.getId()))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/performances").header("If-None-Match", eTag))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$", hasSize(1)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.capgemini.festivalapplication.controller;
+
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.repository.DjRepository;
+import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for the latency timers published on /actuator/prometheus.
+ */
+@SpringBootTest
+@AutoConfigureObservability(tracing = false)
+@TestPropertySource(locations = "classpath:application-test.properties")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class PrometheusEndpointIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private DjRepository djRepository;
+
+    @Autowired
+    private PerformanceRepository performanceRepository;
+
+    private MockMvc mockMvc;
+    private Dj testDj;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        performanceRepository.deleteAll();
+        djRepository.deleteAll();
+        testDj = djRepository.save(new Dj("Metrics DJ", "Techno", "metrics@example.com"));
+    }
+
+    /**
+     * Test GET /actuator/prometheus
+     * Verifies: service and repository calls are timed with operation and outcome tags, histogram and SLO buckets
+     */
+    @Test
+    void prometheus_ShouldExposeServiceAndRepositoryHistograms() throws Exception {
+        mockMvc.perform(get("/api/djs/{id}", testDj.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/djs/{id}", "missing-dj")).andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        matchesPattern("(?s).*festival_service_seconds_bucket\\{[^}]*operation=\"DjServiceImpl\\.getById\",outcome=\"SUCCESS\".*"),
+                        matchesPattern("(?s).*festival_service_seconds_count\\{[^}]*exception=\"ResourceNotFoundException\",operation=\"DjServiceImpl\\.getVersion\",outcome=\"ERROR\".*"),
+                        matchesPattern("(?s).*spring_data_repository_invocations_seconds_bucket\\{[^}]*operation=\"DjRepository\\.[a-zA-Z]+\",outcome=\"SUCCESS\".*"),
+                        // SLO boundary, not one of the default histogram buckets
+                        matchesPattern("(?s).*festival_service_seconds_bucket\\{[^}]*le=\"0\\.025\".*"),
+                        containsString("application=\"festival-application\""))));
+    }
+}
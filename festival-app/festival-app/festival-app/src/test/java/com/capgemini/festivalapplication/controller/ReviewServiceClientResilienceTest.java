@@ -0,0 +1,194 @@
+package com.capgemini.festivalapplication.controller;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the circuit breakers, bulkhead and adaptive timeouts of ReviewServiceClient.
+ * A stub review service with adjustable latency and status stands in for review-service;
+ * the client is built directly with small limits so each test trips them quickly.
+ */
+class ReviewServiceClientResilienceTest {
+
+    private static final int MAX_CONCURRENT_CALLS = 2;
+
+    private static volatile long delayMillis;
+    private static volatile int status;
+    private static final AtomicInteger requests = new AtomicInteger();
+
+    private static final HttpServer reviewService = startReviewService();
+
+    private MeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private ReviewServiceClient client;
+
+    @AfterAll
+    static void stopReviewService() {
+        reviewService.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        delayMillis = 0;
+        status = 200;
+        requests.set(0);
+
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(MAX_CONCURRENT_CALLS)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        client = new ReviewServiceClient(WebClient.builder(), "http://localhost:" + reviewService.getAddress().getPort(),
+                circuitBreakerRegistry, bulkheadRegistry, meterRegistry,
+                Duration.ofMillis(200), Duration.ofSeconds(5));
+    }
+
+    /**
+     * Verifies: failing calls open the breaker, after which callers get the fallback
+     * at once without reaching the review service, and the rejections are counted
+     */
+    @Test
+    void openBreaker_ShouldFailFastWithFallback() {
+        status = 500;
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0.0, client.getAverageRatingForDJ("dj-001"));
+        }
+        CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker(ReviewServiceClient.STATS);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        status = 200;
+        delayMillis = 2_000;
+        long started = System.nanoTime();
+        assertEquals(0.0, client.getAverageRatingForDJ("dj-001"));
+        assertThrows(CallNotPermittedException.class, () -> client.fetchStats("DJ", "dj-001").block());
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 500);
+        assertEquals(4, requests.get());
+        assertEquals(2.0, rejected(ReviewServiceClient.STATS, "circuit_open"));
+        // Other operations keep their own breaker
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker(ReviewServiceClient.REVIEWS).getState());
+    }
+
+    /**
+     * Verifies: not-found answers do not count against the breaker
+     */
+    @Test
+    void notFound_ShouldNotOpenBreaker() {
+        status = 404;
+        for (int i = 0; i < 6; i++) {
+            assertEquals(ReviewServiceClient.EMPTY_REVIEW_PAGE, client.getReviewsForDJ("dj-001", null, null));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker(ReviewServiceClient.REVIEWS).getState());
+        assertEquals(6, requests.get());
+    }
+
+    /**
+     * Verifies: calls beyond the bulkhead limit are rejected immediately instead of queueing
+     */
+    @Test
+    void fullBulkhead_ShouldRejectExcessCalls() {
+        delayMillis = 500;
+
+        List<String> outcomes = Flux.range(0, 6)
+                .flatMap(i -> client.fetchStats("DJ", "dj-" + i)
+                        .map(stats -> "ok")
+                        .onErrorResume(BulkheadFullException.class, e -> Mono.just("rejected")))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertEquals(MAX_CONCURRENT_CALLS, outcomes.stream().filter("ok"::equals).count());
+        assertEquals(6 - MAX_CONCURRENT_CALLS, outcomes.stream().filter("rejected"::equals).count());
+        assertEquals(MAX_CONCURRENT_CALLS, requests.get());
+        assertEquals(6.0 - MAX_CONCURRENT_CALLS, rejected(ReviewServiceClient.STATS, "bulkhead_full"));
+    }
+
+    /**
+     * Verifies: after fast calls the timeout shrinks towards the minimum, so a slow call
+     * is cut off long before the maximum; timed-out calls raise the timeout again
+     */
+    @Test
+    void adaptiveTimeout_ShouldFollowObservedLatency() {
+        assertEquals(Duration.ofSeconds(5), client.currentTimeout(ReviewServiceClient.REVIEWS));
+        // Enough calls that the slow first one (connection set-up) falls above the p99
+        for (int i = 0; i < 128; i++) {
+            client.getReviewsForDJ("dj-001", null, null);
+        }
+        Duration learned = client.currentTimeout(ReviewServiceClient.REVIEWS);
+        assertTrue(learned.compareTo(Duration.ofSeconds(1)) < 0, "timeout should shrink, was " + learned);
+        assertEquals(Duration.ofSeconds(5), client.currentTimeout(ReviewServiceClient.STATS));
+
+        delayMillis = 3_000;
+        long started = System.nanoTime();
+        assertEquals(ReviewServiceClient.EMPTY_REVIEW_PAGE, client.getReviewsForDJ("dj-001", null, null));
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() < 2_000);
+    }
+
+    private double rejected(String operation, String reason) {
+        var counter = meterRegistry.find("review.client.rejected")
+                .tag("operation", operation)
+                .tag("reason", reason)
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static HttpServer startReviewService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/reviews/subject/", exchange -> respond(exchange, "{\"items\":[{\"rating\":5}],\"next\":null}"));
+            server.createContext("/api/reviews/stats/", exchange -> respond(exchange, "{\"averageRating\":4.5,\"reviewCount\":2}"));
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, String body) throws IOException {
+        requests.incrementAndGet();
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = (status == 200 ? body : "{}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
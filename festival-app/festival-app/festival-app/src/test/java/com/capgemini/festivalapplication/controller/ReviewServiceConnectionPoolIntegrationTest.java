@@ -0,0 +1,139 @@
+package com.capgemini.festivalapplication.controller;
+
+import com.capgemini.festivalapplication.config.WebClientConfig;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the pooled WebClient used by ReviewServiceClient.
+ * A stub review service records the client port of every request, which tells
+ * apart requests sent over a reused connection from those that opened a new one.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "webclient.pool.max-connections=" + ReviewServiceConnectionPoolIntegrationTest.MAX_CONNECTIONS)
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class ReviewServiceConnectionPoolIntegrationTest {
+
+    static final int MAX_CONNECTIONS = 4;
+
+    private static final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+    private static final HttpServer reviewService = startReviewService();
+
+    @Autowired
+    private ReviewServiceClient reviewServiceClient;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @DynamicPropertySource
+    static void reviewServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("review.service.url", () -> "http://localhost:" + reviewService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopReviewService() {
+        reviewService.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        clientPorts.clear();
+    }
+
+    /**
+     * Verifies: a burst larger than the pool queues for connections instead of opening
+     * more, and a second burst reuses the same keep-alive connections
+     */
+    @Test
+    void burst_ShouldReuseBoundedPoolOfConnections() {
+        assertEquals(16, burst(16).size());
+        Set<Integer> firstBurst = Set.copyOf(clientPorts);
+        assertTrue(firstBurst.size() <= MAX_CONNECTIONS, "opened " + firstBurst.size() + " connections");
+
+        assertEquals(16, burst(16).size());
+        assertEquals(firstBurst, clientPorts);
+    }
+
+    /**
+     * Verifies: pool gauges are published to Micrometer under the pool name
+     */
+    @Test
+    void pool_ShouldPublishMetrics() {
+        burst(4);
+
+        Gauge maxConnections = meterRegistry.find("reactor.netty.connection.provider.max.connections")
+                .tag("name", WebClientConfig.POOL_NAME)
+                .gauge();
+        assertNotNull(maxConnections);
+        assertEquals(MAX_CONNECTIONS, maxConnections.value());
+        assertNotNull(meterRegistry.find("reactor.netty.connection.provider.active.connections")
+                .tag("name", WebClientConfig.POOL_NAME).gauge());
+        assertNotNull(meterRegistry.find("reactor.netty.connection.provider.idle.connections")
+                .tag("name", WebClientConfig.POOL_NAME).gauge());
+        assertNotNull(meterRegistry.find("reactor.netty.connection.provider.pending.connections")
+                .tag("name", WebClientConfig.POOL_NAME).gauge());
+    }
+
+    private List<?> burst(int calls) {
+        return Flux.range(0, calls)
+                .flatMap(i -> reviewServiceClient.fetchStats("DJ", "dj-" + i))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+    }
+
+    private static HttpServer startReviewService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext("/api/reviews/stats/", ReviewServiceConnectionPoolIntegrationTest::respond);
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange) throws IOException {
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        try {
+            Thread.sleep(100);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        byte[] bytes = "{\"averageRating\":4.5,\"reviewCount\":2}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.capgemini.festivalapplication.controller;
+
+import com.capgemini.festivalapplication.dto.DjDto;
+import com.capgemini.festivalapplication.dto.PerformanceDto;
+import com.capgemini.festivalapplication.dto.SubjectFilter;
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.entity.Performance;
+import com.capgemini.festivalapplication.repository.DjRepository;
+import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import com.capgemini.festivalapplication.service.DjScheduleIndex;
+import com.capgemini.festivalapplication.service.DjService;
+import com.capgemini.festivalapplication.service.PerformanceService;
+import com.capgemini.festivalapplication.service.SubjectBloomFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration tests for SubjectFilterController.
+ * Tests that the published filter covers every DJ and performance and is
+ * revalidated with If-None-Match until either catalog changes.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class SubjectFilterControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DjRepository djRepository;
+
+    @Autowired
+    private PerformanceRepository performanceRepository;
+
+    @Autowired
+    private DjService djService;
+
+    @Autowired
+    private PerformanceService performanceService;
+
+    @Autowired
+    private DjScheduleIndex scheduleIndex;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Dj testDj;
+    private Performance testPerformance;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+
+        performanceRepository.deleteAll();
+        djRepository.deleteAll();
+        scheduleIndex.rebuild();
+
+        // Created through the services, which bump the catalog versions
+        testDj = djService.create(djDto("Filter DJ", "filter@example.com"));
+        PerformanceDto performanceDto = new PerformanceDto();
+        performanceDto.setTitle("Filter Set");
+        performanceDto.setStartTime(LocalDateTime.of(2025, 7, 1, 20, 0));
+        performanceDto.setEndTime(LocalDateTime.of(2025, 7, 1, 22, 0));
+        performanceDto.setDjId(testDj.getId());
+        testPerformance = performanceService.create(performanceDto);
+    }
+
+    /**
+     * Test GET /api/subjects/filter - Filter contents
+     * Verifies: every DJ and performance id is in the filter, unknown ids are not
+     */
+    @Test
+    void getSubjectFilter_ShouldContainAllSubjects() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/subjects/filter"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn();
+
+        SubjectFilter filter = objectMapper.readValue(result.getResponse().getContentAsString(), SubjectFilter.class);
+        SubjectBloomFilter bloomFilter = SubjectBloomFilter.fromBits(filter.bits(), filter.hashFunctions());
+
+        assertEquals(2, filter.subjectCount());
+        assertEquals(filter.eTag(), result.getResponse().getHeader("ETag"));
+        assertTrue(bloomFilter.mightContain("DJ", testDj.getId()));
+        assertTrue(bloomFilter.mightContain("PERFORMANCE", testPerformance.getId()));
+        assertFalse(bloomFilter.mightContain("DJ", testPerformance.getId()));
+        assertFalse(bloomFilter.mightContain("DJ", "missing-dj"));
+    }
+
+    /**
+     * Test GET /api/subjects/filter - Conditional GET
+     * Verifies: HTTP 304 while the catalogs are unchanged, a new version after a DJ is created
+     */
+    @Test
+    void getSubjectFilter_ShouldRevalidateUntilCatalogChanges() throws Exception {
+        String eTag = mockMvc.perform(get("/api/subjects/filter"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/subjects/filter").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified());
+
+        Dj newDj = djService.create(djDto("Late Addition", "late@example.com"));
+
+        MvcResult result = mockMvc.perform(get("/api/subjects/filter").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andReturn();
+        SubjectFilter filter = objectMapper.readValue(result.getResponse().getContentAsString(), SubjectFilter.class);
+        assertNotEquals(eTag, filter.eTag());
+        assertEquals(3, filter.subjectCount());
+        assertTrue(SubjectBloomFilter.fromBits(filter.bits(), filter.hashFunctions()).mightContain("DJ", newDj.getId()));
+    }
+
+    private static DjDto djDto(String name, String email) {
+        DjDto dto = new DjDto();
+        dto.setName(name);
+        dto.setGenre("Techno");
+        dto.setEmail(email);
+        return dto;
+    }
+}
@@ -0,0 +1,137 @@
+package com.capgemini.festivalapplication.controller;
+
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.repository.DjRepository;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load test for the virtual-thread request mode.
+ * Tomcat is limited to a handful of worker threads while a stub review service
+ * answers every call slowly; with virtual threads the number of requests waiting
+ * on the stub at the same time must go well beyond that limit.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+        "spring.threads.virtual.enabled=true",
+        "server.tomcat.threads.max=" + VirtualThreadLoadIntegrationTest.TOMCAT_THREADS,
+        "server.tomcat.threads.min-spare=1"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class VirtualThreadLoadIntegrationTest {
+
+    static final int TOMCAT_THREADS = 4;
+    private static final int REQUESTS = 48;
+    private static final Duration REVIEW_DELAY = Duration.ofMillis(500);
+
+    private static final AtomicInteger inFlight = new AtomicInteger();
+    private static final AtomicInteger peakInFlight = new AtomicInteger();
+
+    // Started before the context so its port can be passed in as review.service.url
+    private static final HttpServer reviewService = startSlowReviewService();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DjRepository djRepository;
+
+    @DynamicPropertySource
+    static void reviewServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("review.service.url", () -> "http://localhost:" + reviewService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopReviewService() {
+        reviewService.stop(0);
+    }
+
+    /**
+     * Test GET /api/djs/{id}/rating - many concurrent requests against a slow review service
+     * Verifies: all succeed, concurrency at the review service exceeds Tomcat's thread limit,
+     * total time stays below what TOMCAT_THREADS platform threads would need
+     */
+    @Test
+    void getDjRating_WithSlowReviewService_ShouldServeBeyondTomcatThreadLimit() {
+        Dj dj = new Dj("Load DJ", "Techno", "load@example.com");
+        dj.setId("1001");
+        djRepository.save(dj);
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/djs/1001/rating")).build();
+
+        long started = System.nanoTime();
+        List<CompletableFuture<HttpResponse<String>>> responses = IntStream.range(0, REQUESTS)
+                .mapToObj(i -> client.sendAsync(request, HttpResponse.BodyHandlers.ofString()))
+                .toList();
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.join().statusCode());
+            assertEquals("4.5", response.join().body());
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertTrue(peakInFlight.get() > 2 * TOMCAT_THREADS,
+                "Peak concurrency at the review service was " + peakInFlight.get());
+        Duration platformThreadBound = REVIEW_DELAY.multipliedBy(REQUESTS / TOMCAT_THREADS);
+        assertTrue(elapsed.compareTo(platformThreadBound) < 0,
+                "Took " + elapsed + ", " + TOMCAT_THREADS + " platform threads need at least " + platformThreadBound);
+    }
+
+    private static HttpServer startSlowReviewService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+            server.createContext("/", exchange -> {
+                peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(REVIEW_DELAY.toMillis());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                byte[] body = "{\"averageRating\":4.5,\"reviewCount\":2}".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.capgemini.festivalapplication.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for TimeOrderedId.
+ */
+class TimeOrderedIdTest {
+
+    /**
+     * Verifies: ids parse as version 7 UUIDs with the IETF variant and carry the current time
+     */
+    @Test
+    void next_ShouldReturnUuidVersion7WithCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UUID.fromString(TimeOrderedId.next());
+
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        long millis = uuid.getMostSignificantBits() >>> 16;
+        assertTrue(millis >= before && millis <= System.currentTimeMillis() + 1);
+    }
+
+    /**
+     * Verifies: ids are unique and strictly increasing in string order, even within one millisecond
+     */
+    @Test
+    void next_ShouldBeUniqueAndStrictlyIncreasing() {
+        Set<String> seen = new HashSet<>();
+        String previous = TimeOrderedId.next();
+        for (int i = 0; i < 10_000; i++) {
+            String id = TimeOrderedId.next();
+            assertTrue(id.compareTo(previous) > 0, id + " should sort after " + previous);
+            assertTrue(seen.add(id));
+            assertEquals(TimeOrderedId.LENGTH, id.length());
+            previous = id;
+        }
+    }
+
+    /**
+     * Verifies: a new entity has no id until it is persisted, and an id set by the caller is kept
+     */
+    @Test
+    void assignId_ShouldDrawIdOnlyWhenNoneIsSet() {
+        Dj dj = new Dj("Any DJ", "House", "any@example.com");
+        assertNull(dj.getId());
+
+        dj.assignId();
+        String drawn = dj.getId();
+        assertEquals(7, UUID.fromString(drawn).version());
+        dj.assignId();
+        assertEquals(drawn, dj.getId());
+
+        Performance performance = new Performance();
+        performance.setId("perf-101");
+        performance.assignId();
+        assertEquals("perf-101", performance.getId());
+    }
+}
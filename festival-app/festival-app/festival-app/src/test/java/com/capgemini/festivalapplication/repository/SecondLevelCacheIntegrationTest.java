@@ -0,0 +1,131 @@
+package com.capgemini.festivalapplication.repository;
+
+import com.capgemini.festivalapplication.config.SecondLevelCacheConfig;
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.entity.Performance;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the Hibernate second-level and query cache.
+ * Every repository call runs in its own persistence context, so hits can only
+ * come from the shared cache regions; Hibernate statistics tell them apart.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private DjRepository djRepository;
+
+    @Autowired
+    private PerformanceRepository performanceRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Dj testDj;
+    private Performance testPerformance;
+
+    @BeforeEach
+    void setUp() {
+        performanceRepository.deleteAll();
+        djRepository.deleteAll();
+
+        testDj = djRepository.save(new Dj("Cached DJ", "Trance", "l2@example.com"));
+        LocalDateTime start = LocalDateTime.of(2025, 7, 1, 20, 0);
+        testPerformance = performanceRepository.save(new Performance("Cached Set", "Main stage", start, start.plusHours(2), testDj));
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    /**
+     * Verifies: loading a DJ by id is served from the entity region without SQL
+     */
+    @Test
+    void findDjById_ShouldHitEntityRegion() {
+        djRepository.findById(testDj.getId());
+        djRepository.findById(testDj.getId());
+
+        assertEquals(2, statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.DJ_REGION).getHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    /**
+     * Verifies: an updated DJ is read back with the new values, not the cached ones
+     */
+    @Test
+    void findDjById_AfterUpdate_ShouldReturnUpdatedDj() {
+        Dj dj = djRepository.findById(testDj.getId()).orElseThrow();
+        dj.setName("Renamed DJ");
+        djRepository.save(dj);
+
+        assertEquals("Renamed DJ", djRepository.findById(testDj.getId()).orElseThrow().getName());
+    }
+
+    /**
+     * Verifies: repeated findByDj_Id is answered from the query cache
+     */
+    @Test
+    void findByDjId_ShouldHitQueryCache() {
+        performanceRepository.findByDj_Id(testDj.getId());
+        performanceRepository.findByDj_Id(testDj.getId());
+
+        assertEquals(1, statistics.getQueryCacheMissCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    /**
+     * Verifies: writing a performance invalidates cached query results that read the table
+     */
+    @Test
+    void findByDjId_AfterUpdate_ShouldMissQueryCacheAndReturnFreshData() {
+        performanceRepository.findByDj_Id(testDj.getId());
+
+        Performance performance = performanceRepository.findById(testPerformance.getId()).orElseThrow();
+        performance.setTitle("Renamed Set");
+        performanceRepository.save(performance);
+        statistics.clear();
+
+        List<Performance> performances = performanceRepository.findByDj_Id(testDj.getId());
+
+        assertEquals(0, statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getQueryCacheMissCount());
+        assertEquals("Renamed Set", performances.get(0).getTitle());
+    }
+
+    /**
+     * Verifies: findByStartTimeBetween results are cached and dropped on insert
+     */
+    @Test
+    void findByStartTimeBetween_ShouldBeInvalidatedByInsert() {
+        LocalDateTime from = LocalDateTime.of(2025, 7, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 7, 2, 0, 0);
+        performanceRepository.findByStartTimeBetween(from, to);
+        assertEquals(1, performanceRepository.findByStartTimeBetween(from, to).size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        LocalDateTime start = LocalDateTime.of(2025, 7, 1, 23, 0);
+        performanceRepository.save(new Performance("Late Set", null, start, start.plusHours(1), testDj));
+
+        assertEquals(2, performanceRepository.findByStartTimeBetween(from, to).size());
+    }
+}
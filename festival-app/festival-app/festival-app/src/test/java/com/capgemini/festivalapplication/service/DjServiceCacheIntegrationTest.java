@@ -0,0 +1,114 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.config.CacheConfig;
+import com.capgemini.festivalapplication.dto.DjDto;
+import com.capgemini.festivalapplication.dto.DjView;
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.exception.ResourceNotFoundException;
+import com.capgemini.festivalapplication.repository.DjRepository;
+import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the DJ query result caches in DjServiceImpl.
+ * Runs with caching switched on (the shared test profile switches it off)
+ * and verifies reads are served from the cache and writes evict precisely.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties", properties = "spring.cache.type=caffeine")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class DjServiceCacheIntegrationTest {
+
+    @Autowired
+    private DjService djService;
+
+    @Autowired
+    private DjRepository djRepository;
+
+    @Autowired
+    private PerformanceRepository performanceRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Dj testDj;
+
+    @BeforeEach
+    void setUp() {
+        performanceRepository.deleteAll();
+        djRepository.deleteAll();
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        testDj = djRepository.save(new Dj("Cached DJ", "Trance", "cached@example.com"));
+    }
+
+    /**
+     * Verifies: getById hands out independent instances, a caller's change never reaches the next caller
+     */
+    @Test
+    void getById_ShouldReturnIndependentInstances_AndSeeUpdate() {
+        Dj first = djService.getById(testDj.getId());
+        first.setName("Changed by caller");
+
+        Dj second = djService.getById(testDj.getId());
+        assertNotSame(first, second);
+        assertEquals("Cached DJ", second.getName());
+
+        djService.update(testDj.getId(), dto("Renamed DJ", "Trance", "cached@example.com"));
+
+        assertEquals("Renamed DJ", djService.getById(testDj.getId()).getName());
+    }
+
+    /**
+     * Verifies: a created DJ evicts the cached result of its genre, other genres stay cached
+     */
+    @Test
+    void create_ShouldEvictOnlyMatchingGenreResult() {
+        djRepository.save(new Dj("House DJ", "House", "house@example.com"));
+        assertEquals(1, djService.getByGenre("Trance").size());
+        assertEquals(1, djService.getByGenre("House").size());
+
+        djService.create(dto("Second Trance", "Trance", "trance2@example.com"));
+
+        Cache byGenre = cacheManager.getCache(CacheConfig.DJS_BY_GENRE);
+        assertNull(byGenre.get("Trance"));
+        assertNotNull(byGenre.get("House"));
+        List<DjView> trance = djService.getByGenre("Trance");
+        assertEquals(2, trance.size());
+    }
+
+    /**
+     * Verifies: delete removes the DJ and evicts its long-name query result
+     */
+    @Test
+    void delete_ShouldEvictDjAndQueryResults() {
+        djService.getById(testDj.getId());
+        assertEquals(1, djService.getDjsWithLongNames().size());
+
+        djService.delete(testDj.getId());
+
+        assertThrows(ResourceNotFoundException.class, () -> djService.getById(testDj.getId()));
+        assertTrue(djService.getDjsWithLongNames().isEmpty());
+    }
+
+    private static DjDto dto(String name, String genre, String email) {
+        DjDto dto = new DjDto();
+        dto.setName(name);
+        dto.setGenre(genre);
+        dto.setEmail(email);
+        return dto;
+    }
+}
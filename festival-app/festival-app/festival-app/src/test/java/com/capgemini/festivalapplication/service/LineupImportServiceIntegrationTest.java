@@ -0,0 +1,85 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.dto.PerformanceDto;
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.repository.DjRepository;
+import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for LineupImportServiceImpl on inputs the HTTP layer cannot produce,
+ * such as an upload that breaks off while it is being read.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class LineupImportServiceIntegrationTest {
+
+    @Autowired
+    private LineupImportService lineupImportService;
+
+    @Autowired
+    private PerformanceService performanceService;
+
+    @Autowired
+    private DjRepository djRepository;
+
+    @Autowired
+    private PerformanceRepository performanceRepository;
+
+    @Autowired
+    private DjScheduleIndex scheduleIndex;
+
+    private Dj testDj;
+
+    @BeforeEach
+    void setUp() {
+        performanceRepository.deleteAll();
+        djRepository.deleteAll();
+        testDj = djRepository.save(new Dj("Import DJ", "Techno", "import@example.com"));
+        scheduleIndex.rebuild();
+    }
+
+    /**
+     * Verifies: rows read before the upload broke off are not imported and leave their slots free
+     */
+    @Test
+    void importCsv_WhenReadFailsMidway_ShouldReleaseBookingsOfUnsavedRows() {
+        String csv = "title,description,startTime,endTime,djId\n" +
+                "Sunrise Set,,2025-07-02T05:00:00,2025-07-02T07:00:00," + testDj.getId() + "\n";
+        InputStream broken = new SequenceInputStream(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Connection reset");
+                    }
+                });
+
+        assertThrows(IOException.class, () -> lineupImportService.importCsv(broken));
+
+        assertEquals(0, performanceRepository.count());
+        PerformanceDto sunrise = new PerformanceDto();
+        sunrise.setTitle("Sunrise Set");
+        sunrise.setStartTime(LocalDateTime.of(2025, 7, 2, 5, 0));
+        sunrise.setEndTime(LocalDateTime.of(2025, 7, 2, 7, 0));
+        sunrise.setDjId(testDj.getId());
+        assertNotNull(performanceService.create(sunrise).getId());
+    }
+}
@@ -0,0 +1,292 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.dto.DjDto;
+import com.capgemini.festivalapplication.dto.PerformanceDto;
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.entity.OutboxEvent;
+import com.capgemini.festivalapplication.entity.OutboxLease;
+import com.capgemini.festivalapplication.entity.Performance;
+import com.capgemini.festivalapplication.repository.DjRepository;
+import com.capgemini.festivalapplication.repository.OutboxEventRepository;
+import com.capgemini.festivalapplication.repository.OutboxLeaseRepository;
+import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the catalog outbox and OutboxRelay.
+ * A stub review service records the delivered batches; the relay is switched on
+ * but triggered by the tests, its schedule is too slow to interfere.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+        "festival.outbox.relay.enabled=true",
+        "festival.outbox.relay.interval=PT1H",
+        "festival.outbox.relay.backoff.initial=0s",
+        "festival.outbox.relay.max-attempts=3"
+})
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class OutboxRelayIntegrationTest {
+
+    private static volatile int status = 200;
+    // Batches containing this subject id are answered with 400
+    private static volatile String rejectedSubjectId;
+    private static final List<String> batches = new CopyOnWriteArrayList<>();
+
+    private static final HttpServer reviewService = startReviewService();
+
+    @DynamicPropertySource
+    static void reviewServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("review.service.url", () -> "http://localhost:" + reviewService.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void stopReviewService() {
+        reviewService.stop(0);
+    }
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxLeaseRepository outboxLeaseRepository;
+
+    @Autowired
+    private DjService djService;
+
+    @Autowired
+    private PerformanceService performanceService;
+
+    @Autowired
+    private DjRepository djRepository;
+
+    @Autowired
+    private PerformanceRepository performanceRepository;
+
+    @Autowired
+    private DjScheduleIndex scheduleIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        performanceRepository.deleteAll();
+        djRepository.deleteAll();
+        scheduleIndex.rebuild();
+        outboxEventRepository.deleteAll();
+        outboxLeaseRepository.save(new OutboxLease(OutboxLease.RELAY, "expired", Instant.EPOCH));
+        batches.clear();
+        status = 200;
+        rejectedSubjectId = null;
+    }
+
+    /**
+     * Verifies: creates, updates and deletes (including the cascade) are delivered in
+     * write order in one batch, then removed from the outbox
+     */
+    @Test
+    void relay_ShouldDeliverChangesInOrder() throws Exception {
+        Dj dj = djService.create(djDto("Outbox DJ", "outbox@example.com"));
+        djService.update(dj.getId(), djDto("Outbox DJ Renamed", "outbox@example.com"));
+        Performance performance = performanceService.create(performanceDto(dj.getId()));
+        djService.delete(dj.getId());
+        double delivered = meterRegistry.get("festival.outbox.events.delivered").counter().count();
+
+        outboxRelay.relay();
+
+        assertEquals(1, batches.size());
+        List<String> events = new ArrayList<>();
+        for (JsonNode event : objectMapper.readTree(batches.get(0))) {
+            events.add(event.get("type").asText() + " " + event.get("subjectType").asText() + " " + event.get("subjectId").asText());
+        }
+        assertEquals(List.of(
+                "CREATED DJ " + dj.getId(),
+                "UPDATED DJ " + dj.getId(),
+                "CREATED PERFORMANCE " + performance.getId(),
+                "DELETED PERFORMANCE " + performance.getId(),
+                "DELETED DJ " + dj.getId()), events);
+        assertEquals(0, outboxEventRepository.count());
+        assertEquals(delivered + 5, meterRegistry.get("festival.outbox.events.delivered").counter().count());
+        assertEquals(0, meterRegistry.get("festival.outbox.pending").gauge().value());
+    }
+
+    /**
+     * Verifies: a change that rolls back leaves no event behind
+     */
+    @Test
+    void rolledBackChange_ShouldNotBeRecorded() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            djService.create(djDto("Rolled Back DJ", "rollback@example.com"));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, djRepository.count());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    /**
+     * Verifies: a rejected batch stays in the outbox with its attempt recorded and is delivered on retry
+     */
+    @Test
+    void failedDelivery_ShouldBeRetried() {
+        djService.create(djDto("Retry DJ", "retry@example.com"));
+        status = 503;
+        double failures = meterRegistry.get("festival.outbox.delivery.failures").counter().count();
+
+        outboxRelay.relay();
+
+        OutboxEvent pending = outboxEventRepository.findAll().get(0);
+        assertEquals(1, pending.getAttempts());
+        assertNotNull(pending.getLastError());
+        assertEquals(failures + 1, meterRegistry.get("festival.outbox.delivery.failures").counter().count());
+        assertEquals(1, meterRegistry.get("festival.outbox.pending").gauge().value());
+
+        status = 200;
+        outboxRelay.relay();
+
+        assertEquals(2, batches.size());
+        assertEquals(0, outboxEventRepository.count());
+        assertEquals(0, meterRegistry.get("festival.outbox.lag").gauge().value());
+    }
+
+    /**
+     * Verifies: a rejected batch is split up, the event rejected on its own is dead-lettered
+     * and the others are delivered
+     */
+    @Test
+    void rejectedEvent_ShouldBeDeadLetteredAndOthersDelivered() {
+        Dj first = djService.create(djDto("First DJ", "first@example.com"));
+        Dj rejected = djService.create(djDto("Rejected DJ", "rejected@example.com"));
+        Dj last = djService.create(djDto("Last DJ", "last@example.com"));
+        rejectedSubjectId = rejected.getId();
+
+        outboxRelay.relay();
+        assertEquals(3, outboxEventRepository.count());
+
+        outboxRelay.relay();
+
+        List<OutboxEvent> remaining = outboxEventRepository.findAll();
+        assertEquals(1, remaining.size());
+        assertEquals(rejected.getId(), remaining.get(0).getSubjectId());
+        assertNotNull(remaining.get(0).getDeadLetteredAt());
+        assertTrue(batches.get(batches.size() - 1).contains(last.getId()));
+        assertTrue(batches.stream().anyMatch(batch -> batch.contains(first.getId()) && !batch.contains(rejected.getId())));
+        assertEquals(0, meterRegistry.get("festival.outbox.pending").gauge().value());
+        assertEquals(1, meterRegistry.get("festival.outbox.dead-lettered").gauge().value());
+    }
+
+    /**
+     * Verifies: an event that keeps failing is dead-lettered after max-attempts and no longer sent
+     */
+    @Test
+    void failingEvent_ShouldBeDeadLetteredAfterMaxAttempts() {
+        djService.create(djDto("Failing DJ", "failing@example.com"));
+        status = 503;
+
+        outboxRelay.relay();
+        outboxRelay.relay();
+        assertNull(outboxEventRepository.findAll().get(0).getDeadLetteredAt());
+        outboxRelay.relay();
+
+        OutboxEvent deadLettered = outboxEventRepository.findAll().get(0);
+        assertEquals(3, deadLettered.getAttempts());
+        assertNotNull(deadLettered.getDeadLetteredAt());
+
+        status = 200;
+        outboxRelay.relay();
+        assertEquals(3, batches.size());
+        assertEquals(0, meterRegistry.get("festival.outbox.pending").gauge().value());
+    }
+
+    /**
+     * Verifies: nothing is delivered while another instance holds the lease, and the
+     * outbox is delivered once that lease expired
+     */
+    @Test
+    void leaseHeldByOtherInstance_ShouldBlockDelivery() {
+        djService.create(djDto("Leased DJ", "leased@example.com"));
+        outboxLeaseRepository.save(new OutboxLease(OutboxLease.RELAY, "other-instance", Instant.now().plusSeconds(60)));
+
+        outboxRelay.relay();
+
+        assertTrue(batches.isEmpty());
+        assertEquals(1, outboxEventRepository.count());
+
+        outboxLeaseRepository.save(new OutboxLease(OutboxLease.RELAY, "other-instance", Instant.now().minusSeconds(1)));
+        outboxRelay.relay();
+
+        assertEquals(1, batches.size());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    private static DjDto djDto(String name, String email) {
+        DjDto dto = new DjDto();
+        dto.setName(name);
+        dto.setGenre("Techno");
+        dto.setEmail(email);
+        return dto;
+    }
+
+    private static PerformanceDto performanceDto(String djId) {
+        PerformanceDto dto = new PerformanceDto();
+        dto.setTitle("Outbox Set");
+        dto.setStartTime(LocalDateTime.of(2025, 7, 1, 20, 0));
+        dto.setEndTime(LocalDateTime.of(2025, 7, 1, 22, 0));
+        dto.setDjId(djId);
+        return dto;
+    }
+
+    private static HttpServer startReviewService() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+            server.createContext(OutboxRelay.EVENTS_PATH, exchange -> {
+                String batch = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                batches.add(batch);
+                String rejected = rejectedSubjectId;
+                exchange.sendResponseHeaders(rejected != null && batch.contains(rejected) ? 400 : status, -1);
+                exchange.close();
+            });
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
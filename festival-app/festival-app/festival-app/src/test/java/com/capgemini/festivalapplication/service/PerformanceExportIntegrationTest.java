@@ -0,0 +1,100 @@
+package com.capgemini.festivalapplication.service;
+
+import com.capgemini.festivalapplication.config.SecondLevelCacheConfig;
+import com.capgemini.festivalapplication.entity.Dj;
+import com.capgemini.festivalapplication.entity.Performance;
+import com.capgemini.festivalapplication.repository.DjRepository;
+import com.capgemini.festivalapplication.repository.PerformanceRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the NDJSON export in PerformanceServiceImpl.
+ * Checks what the HTTP test cannot see: how often the output is flushed
+ * and that the export leaves the second-level cache alone.
+ */
+@SpringBootTest
+@TestPropertySource(locations = "classpath:application-test.properties",
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class PerformanceExportIntegrationTest {
+
+    private static final int PERFORMANCES = 3;
+
+    @Autowired
+    private PerformanceService performanceService;
+
+    @Autowired
+    private DjRepository djRepository;
+
+    @Autowired
+    private PerformanceRepository performanceRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        performanceRepository.deleteAll();
+        djRepository.deleteAll();
+
+        Dj dj = djRepository.save(new Dj("Export DJ", "Techno", "export@example.com"));
+        LocalDateTime start = LocalDateTime.of(2025, 7, 1, 20, 0);
+        for (int i = 0; i < PERFORMANCES; i++) {
+            performanceRepository.save(new Performance("Set " + i, null, start.plusHours(i), start.plusHours(i + 1), dj));
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    /**
+     * Verifies: rows are written without a flush each, only at the flush interval and the end
+     */
+    @Test
+    void exportAll_ShouldNotFlushAfterEveryRow() throws Exception {
+        FlushCountingStream out = new FlushCountingStream();
+
+        performanceService.exportAll(out);
+
+        assertEquals(PERFORMANCES, out.toString(StandardCharsets.UTF_8).split("\n").length);
+        assertEquals(1, out.flushes);
+    }
+
+    /**
+     * Verifies: streamed performances are not put into the second-level cache
+     */
+    @Test
+    void exportAll_ShouldBypassSecondLevelCache() throws Exception {
+        performanceService.exportAll(new ByteArrayOutputStream());
+
+        assertEquals(0, statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.PERFORMANCE_REGION).getPutCount());
+    }
+
+    private static final class FlushCountingStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.capgemini.festivalapplication.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SubjectBloomFilter.
+ */
+class SubjectBloomFilterTest {
+
+    // Bits of {DJ:dj-001, PERFORMANCE:perf-101}; the same vector is checked in review-service
+    private static final String WIRE_FORMAT_BITS = "zOuZ1zOuZlQ=";
+
+    /**
+     * Verifies: every added subject is found and the measured false-positive rate stays near the configured one
+     */
+    @Test
+    void mightContain_ShouldHaveNoFalseNegativesAndBoundedFalsePositives() {
+        SubjectBloomFilter filter = SubjectBloomFilter.create(10_000, 0.01, Long.MAX_VALUE);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("DJ", "dj-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("DJ", "dj-" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("PERFORMANCE", "dj-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < 1_500, falsePositives + " false positives");
+        assertEquals(0.01, filter.falsePositiveRate(10_000), 0.002);
+    }
+
+    /**
+     * Verifies: a filter capped by its maximum size keeps its bound and reports the higher rate
+     */
+    @Test
+    void create_ShouldCapSizeAndReportHigherRate() {
+        SubjectBloomFilter filter = SubjectBloomFilter.create(10_000, 0.01, 8 * 1024 * 8);
+
+        assertEquals(8 * 1024, filter.getSizeBytes());
+        assertTrue(filter.falsePositiveRate(10_000) > 0.01);
+    }
+
+    /**
+     * Verifies: the serialized bits are stable, review-service decodes the same format
+     */
+    @Test
+    void toBase64_ShouldMatchWireFormat() {
+        SubjectBloomFilter filter = SubjectBloomFilter.create(2, 0.01, Long.MAX_VALUE);
+        filter.put("DJ", "dj-001");
+        filter.put("performance", "perf-101");
+
+        assertEquals(WIRE_FORMAT_BITS, filter.toBase64());
+        SubjectBloomFilter decoded = SubjectBloomFilter.fromBits(filter.toBase64(), filter.getHashFunctions());
+        assertTrue(decoded.mightContain("dj", "dj-001"));
+        assertTrue(decoded.mightContain("PERFORMANCE", "perf-101"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.capgemini.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sends requests at a constant arrival rate (open model): request i is due at
+ * start + i / rate no matter how many earlier requests are still waiting, the way
+ * independent festival visitors arrive. A closed loop of N users would instead slow
+ * down with the server and hide queueing.
+ *
+ * Latency is measured from the due time, not the send time, so a stalled scheduler
+ * or a saturated client still shows up in the numbers (no coordinated omission).
+ */
+class ArrivalRateRunner {
+
+    // Highest latency the histograms track before clamping: ten minutes in microseconds
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final LoadTestConfig config;
+    private final Targets targets;
+    private final HttpClient httpClient;
+    private final Map<String, EndpointStats> stats = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+
+    ArrivalRateRunner(LoadTestConfig config, Targets targets, HttpClient httpClient) {
+        this.config = config;
+        this.targets = targets;
+        this.httpClient = httpClient;
+    }
+
+    Result run() throws InterruptedException {
+        NavigableMap<Integer, Scenario> scenarios = cumulativeWeights(config.mix());
+        int totalWeight = scenarios.lastKey();
+        Random random = new Random(config.seed());
+        long intervalNanos = 1_000_000_000L / config.rate();
+        long total = config.totalRequests();
+        long warmupNanos = config.warmup().toNanos();
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long due = start + i * intervalNanos;
+                Scenario scenario = scenarios.higherEntry(random.nextInt(totalWeight)).getValue();
+                Scenario.Request request = scenario.next(targets, random);
+                boolean measured = due - start >= warmupNanos;
+
+                long wait = due - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (inFlight.incrementAndGet() > config.maxInFlight()) {
+                    inFlight.decrementAndGet();
+                    if (measured) {
+                        dropped.incrementAndGet();
+                    }
+                    continue;
+                }
+                executor.execute(() -> send(request, due, measured));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - start - warmupNanos;
+        return new Result(new TreeMap<>(stats), dropped.get(), elapsedNanos / 1e9);
+    }
+
+    private void send(Scenario.Request request, long due, boolean measured) {
+        boolean ok;
+        try {
+            HttpResponse<Void> response = httpClient.send(request.httpRequest(), HttpResponse.BodyHandlers.discarding());
+            ok = response.statusCode() < 400;
+        } catch (Exception e) {
+            ok = false;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+        if (measured) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - due);
+            EndpointStats endpoint = stats.computeIfAbsent(request.endpoint(), name -> new EndpointStats());
+            endpoint.latency.recordValue(Math.min(Math.max(micros, 1), HIGHEST_TRACKABLE_MICROS));
+            if (!ok) {
+                endpoint.errors.increment();
+            }
+        }
+    }
+
+    private static NavigableMap<Integer, Scenario> cumulativeWeights(Map<Scenario, Integer> mix) {
+        NavigableMap<Integer, Scenario> cumulative = new TreeMap<>();
+        int sum = 0;
+        for (Map.Entry<Scenario, Integer> entry : mix.entrySet()) {
+            sum += entry.getValue();
+            cumulative.put(sum, entry.getKey());
+        }
+        return cumulative;
+    }
+
+    /**
+     * Latencies in microseconds and failed requests of one endpoint.
+     */
+    static final class EndpointStats {
+        final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    /**
+     * Outcome of the measured part of a run.
+     *
+     * @param endpoints statistics by endpoint label
+     * @param dropped arrivals not sent because max-in-flight requests were open
+     * @param elapsedSeconds wall time of the measured part, including the final drain
+     */
+    record Result(NavigableMap<String, EndpointStats> endpoints, long dropped, double elapsedSeconds) {
+    }
+}
@@ -0,0 +1,92 @@
+package com.capgemini.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the festival app with a lineup through its own bulk endpoints before a run,
+ * so the load test exercises the same data paths as production imports.
+ *
+ * Performance i belongs to DJ i % djs and takes that DJ's (i / djs)-th one-hour slot,
+ * so the lineup has no double bookings and every DJ has about the same number of sets.
+ */
+class LineupSeeder {
+
+    static final LocalDateTime FESTIVAL_START = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+    // DjController rejects bulk requests above this size
+    private static final int BULK_BATCH = 10_000;
+
+    private static final String[] GENRES = {"Techno", "House", "Trance", "Drum and Bass", "Ambient"};
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String festivalUrl;
+
+    LineupSeeder(HttpClient httpClient, String festivalUrl) {
+        this.httpClient = httpClient;
+        this.festivalUrl = festivalUrl;
+    }
+
+    Targets seed(int djs, int performances, String reviewServiceUrl) throws IOException, InterruptedException {
+        List<String> djIds = new ArrayList<>(djs);
+        for (int from = 0; from < djs; from += BULK_BATCH) {
+            ArrayNode batch = objectMapper.createArrayNode();
+            for (int i = from; i < Math.min(djs, from + BULK_BATCH); i++) {
+                batch.addObject()
+                        .put("name", "Load Test DJ " + i)
+                        .put("genre", GENRES[i % GENRES.length])
+                        .put("email", "dj" + i + "@loadtest.example.com");
+            }
+            JsonNode result = send(HttpRequest.newBuilder(URI.create(festivalUrl + "/api/djs/bulk"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(batch))));
+            for (JsonNode row : result.get("rows")) {
+                if ("CREATED".equals(row.get("status").asText())) {
+                    djIds.add(row.get("id").asText());
+                }
+            }
+        }
+        if (djIds.size() != djs) {
+            throw new IllegalStateException("Seeded " + djIds.size() + " of " + djs + " DJs");
+        }
+
+        List<String> performanceIds = new ArrayList<>(performances);
+        StringBuilder csv = new StringBuilder("id,title,description,startTime,endTime,djId\n");
+        for (int i = 0; i < performances; i++) {
+            String id = "lt-perf-" + i;
+            LocalDateTime start = FESTIVAL_START.plusHours(i / djs);
+            csv.append(id).append(",Set ").append(i).append(",Load test set,")
+                    .append(start).append(',').append(start.plusMinutes(50)).append(',')
+                    .append(djIds.get(i % djs)).append('\n');
+            performanceIds.add(id);
+        }
+        JsonNode imported = send(HttpRequest.newBuilder(URI.create(festivalUrl + "/api/performances/import"))
+                .header("Content-Type", "text/csv")
+                .POST(HttpRequest.BodyPublishers.ofString(csv.toString())));
+        if (imported.get("rejected").asInt() > 0) {
+            throw new IllegalStateException("Lineup import rejected rows: " + imported.get("errors"));
+        }
+
+        int festivalMinutes = Math.max(60, (performances + djs - 1) / djs * 60);
+        return new Targets(festivalUrl, reviewServiceUrl, djIds, performanceIds, festivalMinutes);
+    }
+
+    private JsonNode send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Seeding failed with HTTP " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
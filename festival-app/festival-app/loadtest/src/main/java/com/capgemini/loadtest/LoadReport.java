@@ -0,0 +1,129 @@
+package com.capgemini.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Writes the results of a run to a new timestamped directory:
+ * - summary.txt: one line per endpoint with throughput, errors and latency percentiles
+ * - summary.json: the same numbers plus the run settings, for comparing runs
+ * - one .hgrm file per endpoint, the full HdrHistogram percentile distribution,
+ *   which can be plotted with the HdrHistogram plotter
+ *
+ * Latencies are reported in milliseconds.
+ */
+class LoadReport {
+
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+    private static final String LINE_FORMAT = "%-34s %9s %7s %9s %9s %9s %9s %9s %9s%n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    Path write(LoadTestConfig config, ArrivalRateRunner.Result result, PrintStream console) throws IOException {
+        Path directory = config.output().resolve(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")));
+        Files.createDirectories(directory);
+
+        ObjectNode summary = objectMapper.createObjectNode();
+        ObjectNode settings = summary.putObject("config");
+        settings.put("rate", config.rate());
+        settings.put("warmup", config.warmup().toString());
+        settings.put("duration", config.duration().toString());
+        settings.put("mix", config.mix().toString());
+        settings.put("djs", config.djs());
+        settings.put("performances", config.performances());
+        settings.put("stubLatency", config.reviewServiceUrl() == null ? config.stubLatency().toString() : null);
+        settings.put("reviewServiceUrl", config.reviewServiceUrl());
+        settings.put("seed", config.seed());
+        summary.put("elapsedSeconds", result.elapsedSeconds());
+        summary.put("dropped", result.dropped());
+        ObjectNode endpoints = summary.putObject("endpoints");
+
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(LINE_FORMAT, "endpoint", "requests", "errors", "req/s", "p50", "p90", "p99", "p99.9", "max"));
+        for (Map.Entry<String, ArrivalRateRunner.EndpointStats> entry : result.endpoints().entrySet()) {
+            Histogram latency = entry.getValue().latency;
+            long errors = entry.getValue().errors.sum();
+            double throughput = latency.getTotalCount() / result.elapsedSeconds();
+
+            ObjectNode endpoint = endpoints.putObject(entry.getKey());
+            endpoint.put("requests", latency.getTotalCount());
+            endpoint.put("errors", errors);
+            endpoint.put("throughput", round(throughput));
+            for (double percentile : PERCENTILES) {
+                endpoint.put("p" + label(percentile), millis(latency.getValueAtPercentile(percentile)));
+            }
+            endpoint.put("max", millis(latency.getMaxValue()));
+
+            text.append(String.format(LINE_FORMAT, entry.getKey(), latency.getTotalCount(), errors, format(throughput),
+                    format(millis(latency.getValueAtPercentile(50.0))), format(millis(latency.getValueAtPercentile(90.0))),
+                    format(millis(latency.getValueAtPercentile(99.0))), format(millis(latency.getValueAtPercentile(99.9))),
+                    format(millis(latency.getMaxValue()))));
+
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(directory.resolve(fileName(entry.getKey()) + ".hgrm")))) {
+                latency.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+        text.append(String.format("dropped arrivals: %d, measured for %.1fs%n", result.dropped(), result.elapsedSeconds()));
+
+        if (config.compare() != null) {
+            text.append(compare(endpoints, objectMapper.readTree(config.compare().toFile()).path("endpoints")));
+        }
+
+        Files.writeString(directory.resolve("summary.txt"), text);
+        objectMapper.writeValue(directory.resolve("summary.json").toFile(), summary);
+        console.print(text);
+        return directory;
+    }
+
+    /**
+     * Changes of p50 and p99 against an earlier summary.json, per endpoint both runs share.
+     */
+    private static String compare(JsonNode current, JsonNode previous) {
+        StringBuilder text = new StringBuilder(String.format("%nchange against previous run:%n"));
+        current.fieldNames().forEachRemaining(name -> {
+            JsonNode before = previous.path(name);
+            if (!before.isMissingNode()) {
+                text.append(String.format("%-34s p50 %s   p99 %s%n", name,
+                        delta(before.path("p50").asDouble(), current.path(name).path("p50").asDouble()),
+                        delta(before.path("p99").asDouble(), current.path(name).path("p99").asDouble())));
+            }
+        });
+        return text.toString();
+    }
+
+    private static String delta(double before, double after) {
+        double percent = before == 0 ? 0 : (after - before) / before * 100;
+        return String.format("%8.2f -> %8.2f ms (%+.1f%%)", before, after, percent);
+    }
+
+    private static String label(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((int) percentile) : String.valueOf(percentile);
+    }
+
+    private static String fileName(String endpoint) {
+        return endpoint.replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "");
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static String format(double value) {
+        return String.format("%.2f", value);
+    }
+}
@@ -0,0 +1,108 @@
+package com.capgemini.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Settings of one load test run, read from --name=value arguments.
+ *
+ * @param rate requests started per second, whatever the response times
+ * @param warmup time at the start whose requests are sent but not recorded
+ * @param duration measured time after the warmup
+ * @param mix relative weight of each scenario
+ * @param djs number of DJs seeded before the run
+ * @param performances number of performances seeded before the run
+ * @param stubLatency delay of every response of the review service stub
+ * @param reviewServiceUrl running review-service to use instead of the stub, or null
+ * @param output directory the report directory is created in
+ * @param compare summary.json of an earlier run to compare with, or null
+ * @param seed seed of the request sequence, the same seed sends the same requests
+ * @param maxInFlight requests in flight before new arrivals are dropped and counted
+ */
+public record LoadTestConfig(
+        int rate,
+        Duration warmup,
+        Duration duration,
+        Map<Scenario, Integer> mix,
+        int djs,
+        int performances,
+        Duration stubLatency,
+        String reviewServiceUrl,
+        Path output,
+        Path compare,
+        long seed,
+        int maxInFlight) {
+
+    static final String USAGE = """
+            Usage: java -jar loadtest.jar [--name=value ...]
+              --rate=50                          requests per second (open model, constant arrival rate)
+              --warmup=30s                       unrecorded warmup (JIT, pools, caches)
+              --duration=60s                     measured time
+              --mix=browse:60,profile:30,review:10  scenario weights
+              --djs=200 --performances=2000      seeded lineup size
+              --stub-latency=5ms                 latency of the review service stub
+              --review-service-url=http://...    use a running review-service instead of the stub
+              --output=target/loadtest           report directory
+              --compare=path/to/summary.json     compare with an earlier run
+              --seed=42                          request sequence seed
+              --max-in-flight=10000              drop arrivals beyond this many open requests
+            """;
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got '" + arg + "'");
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        LoadTestConfig config = new LoadTestConfig(
+                Integer.parseInt(values.getOrDefault("rate", "50")),
+                DurationStyle.detectAndParse(values.getOrDefault("warmup", "30s")),
+                DurationStyle.detectAndParse(values.getOrDefault("duration", "60s")),
+                parseMix(values.getOrDefault("mix", "browse:60,profile:30,review:10")),
+                Integer.parseInt(values.getOrDefault("djs", "200")),
+                Integer.parseInt(values.getOrDefault("performances", "2000")),
+                DurationStyle.detectAndParse(values.getOrDefault("stub-latency", "5ms")),
+                values.get("review-service-url"),
+                Path.of(values.getOrDefault("output", "target/loadtest")),
+                values.containsKey("compare") ? Path.of(values.get("compare")) : null,
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Integer.parseInt(values.getOrDefault("max-in-flight", "10000")));
+        if (config.rate <= 0 || config.djs <= 0 || config.performances < 0 || config.duration.isZero()) {
+            throw new IllegalArgumentException("rate, djs and duration must be positive");
+        }
+        return config;
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new EnumMap<>(Scenario.class);
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected scenario:weight in --mix but got '" + entry + "'");
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Scenario.fromName(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("--mix needs at least one scenario with a positive weight");
+        }
+        return weights;
+    }
+
+    /**
+     * Requests sent during warmup and measurement together.
+     */
+    public long totalRequests() {
+        return rate * (warmup.toNanos() + duration.toNanos()) / 1_000_000_000L;
+    }
+}
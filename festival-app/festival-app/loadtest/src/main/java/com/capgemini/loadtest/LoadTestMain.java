@@ -0,0 +1,62 @@
+package com.capgemini.loadtest;
+
+import com.capgemini.festivalapplication.FestivalApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Runs an end-to-end load test on one machine without network access: boots the
+ * festival app in this JVM on an in-memory database, starts a review-service stub
+ * (unless --review-service-url points at a real one), seeds a lineup, replays the
+ * configured scenario mix at a constant arrival rate and writes a report.
+ *
+ * See LoadTestConfig for the arguments.
+ */
+public class LoadTestMain {
+
+    public static void main(String[] args) throws Exception {
+        if (Arrays.asList(args).contains("--help")) {
+            System.out.print(LoadTestConfig.USAGE);
+            return;
+        }
+        LoadTestConfig config;
+        try {
+            config = LoadTestConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LoadTestConfig.USAGE);
+            System.exit(2);
+            return;
+        }
+
+        ReviewServiceStub stub = config.reviewServiceUrl() == null ? new ReviewServiceStub(config.stubLatency()) : null;
+        String reviewServiceUrl = stub != null ? stub.url() : config.reviewServiceUrl();
+
+        try (stub;
+             ConfigurableApplicationContext festivalApp = new SpringApplicationBuilder(FestivalApplication.class)
+                     .profiles("loadtest")
+                     .properties("review.service.url=" + reviewServiceUrl)
+                     .run()) {
+            String festivalUrl = "http://127.0.0.1:" + festivalApp.getEnvironment().getProperty("local.server.port");
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .build();
+
+            System.out.printf("Seeding %d DJs and %d performances%n", config.djs(), config.performances());
+            Targets targets = new LineupSeeder(httpClient, festivalUrl).seed(config.djs(), config.performances(), reviewServiceUrl);
+
+            System.out.printf("Sending %d req/s for %s (+%s warmup), mix %s%n",
+                    config.rate(), config.duration(), config.warmup(), config.mix());
+            ArrivalRateRunner.Result result = new ArrivalRateRunner(config, targets, httpClient).run();
+
+            Path report = new LoadReport().write(config, result, System.out);
+            System.out.println("Report written to " + report.toAbsolutePath());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.capgemini.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-memory stand-in for review-service, so a load test needs neither MongoDB nor a
+ * second JVM. It answers the endpoints festival-app calls and the review POST of the
+ * review scenario, after a fixed delay that models the network hop and database time.
+ */
+class ReviewServiceStub implements AutoCloseable {
+
+    private static final String PREFIX = "/api/reviews/";
+    private static final int PAGE_LIMIT = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, List<JsonNode>> reviewsBySubject = new ConcurrentHashMap<>();
+    private final Duration latency;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    ReviewServiceStub(Duration latency) throws IOException {
+        this.latency = latency;
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/actuator/health", exchange -> respond(exchange, 200, "{\"status\":\"UP\"}"));
+        server.createContext("/api/reviews", this::handle);
+        server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            sleep();
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            if ("POST".equals(method) && path.equals("/api/reviews")) {
+                create(exchange);
+            } else if ("POST".equals(method) && path.equals(PREFIX + "stats/batch")) {
+                statsBatch(exchange);
+            } else if ("GET".equals(method) && path.startsWith(PREFIX + "subject/")) {
+                String[] subject = path.substring((PREFIX + "subject/").length()).split("/");
+                respond(exchange, 200, objectMapper.writeValueAsString(firstPage(reviews(subject[0], subject[1]))));
+            } else if ("GET".equals(method) && path.startsWith(PREFIX + "stats/")) {
+                String[] subject = path.substring((PREFIX + "stats/").length()).split("/");
+                respond(exchange, 200, objectMapper.writeValueAsString(stats(subject[0], subject[1])));
+            } else {
+                respond(exchange, 404, "{\"message\":\"Not found\"}");
+            }
+        } catch (RuntimeException e) {
+            respond(exchange, 400, "{\"message\":\"Bad request\"}");
+        }
+    }
+
+    private void create(HttpExchange exchange) throws IOException {
+        ObjectNode review = (ObjectNode) objectMapper.readTree(exchange.getRequestBody());
+        review.put("id", UUID.randomUUID().toString());
+        review.put("createdAt", Instant.now().toString());
+        reviews(review.get("subjectType").asText(), review.get("subjectId").asText()).add(review);
+        respond(exchange, 201, objectMapper.writeValueAsString(review));
+    }
+
+    private void statsBatch(HttpExchange exchange) throws IOException {
+        ArrayNode response = objectMapper.createArrayNode();
+        for (JsonNode subject : objectMapper.readTree(exchange.getRequestBody())) {
+            String type = subject.get("subjectType").asText();
+            String id = subject.get("subjectId").asText();
+            response.add(stats(type, id).put("subjectType", type).put("subjectId", id));
+        }
+        respond(exchange, 200, objectMapper.writeValueAsString(response));
+    }
+
+    // Newest reviews first, like review-service's feeds; the stub never returns a next page
+    private ObjectNode firstPage(List<JsonNode> reviews) {
+        ObjectNode page = objectMapper.createObjectNode();
+        ArrayNode items = page.putArray("items");
+        for (int i = reviews.size() - 1; i >= Math.max(0, reviews.size() - PAGE_LIMIT); i--) {
+            items.add(reviews.get(i));
+        }
+        page.putNull("next");
+        return page;
+    }
+
+    private List<JsonNode> reviews(String subjectType, String subjectId) {
+        return reviewsBySubject.computeIfAbsent(subjectType + ":" + subjectId, key -> new CopyOnWriteArrayList<>());
+    }
+
+    private ObjectNode stats(String subjectType, String subjectId) {
+        List<JsonNode> reviews = reviews(subjectType, subjectId);
+        ObjectNode stats = objectMapper.createObjectNode();
+        stats.put("reviewCount", reviews.size());
+        stats.put("averageRating", reviews.stream().mapToInt(review -> review.get("rating").asInt()).average().orElse(0.0));
+        return stats;
+    }
+
+    private void sleep() {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,99 @@
+package com.capgemini.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * User journeys the load test mixes. Each picks one request per arrival; the endpoint
+ * label it returns groups latencies in the report, so ids never end up in a label.
+ */
+public enum Scenario {
+
+    /**
+     * Browsing the lineup: what's on next, paging through the schedule, opening a DJ.
+     */
+    BROWSE("browse") {
+        @Override
+        Request next(Targets targets, Random random) {
+            switch (random.nextInt(3)) {
+                case 0: {
+                    LocalDateTime at = LineupSeeder.FESTIVAL_START.plusMinutes(random.nextInt(targets.festivalMinutes()));
+                    return get("GET /api/performances/upcoming",
+                            targets.festivalUrl() + "/api/performances/upcoming?window=3h&at=" + at);
+                }
+                case 1:
+                    return get("GET /api/performances/page", targets.festivalUrl() + "/api/performances/page?size=50");
+                default:
+                    return get("GET /api/djs/{id}", targets.festivalUrl() + "/api/djs/" + targets.randomDj(random));
+            }
+        }
+    },
+
+    /**
+     * Opening a DJ profile: DJ, performances, reviews and rating in one call.
+     */
+    PROFILE("profile") {
+        @Override
+        Request next(Targets targets, Random random) {
+            return get("GET /api/djs/{id}/profile",
+                    targets.festivalUrl() + "/api/djs/" + targets.randomDj(random) + "/profile");
+        }
+    },
+
+    /**
+     * Posting a review of a DJ or a performance to the review service.
+     */
+    REVIEW("review") {
+        @Override
+        Request next(Targets targets, Random random) {
+            boolean dj = random.nextInt(3) > 0;
+            String subjectId = dj ? targets.randomDj(random) : targets.randomPerformance(random);
+            String body = """
+                    {"subjectId":"%s","subjectType":"%s","reviewerName":"Load Tester %d","rating":%d,\
+                    "comment":"Solid set, great crowd and sound. Would see again."}\
+                    """.formatted(subjectId, dj ? "DJ" : "PERFORMANCE", random.nextInt(1000), 1 + random.nextInt(5));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(targets.reviewServiceUrl() + "/api/reviews"))
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            return new Request("POST /api/reviews", request);
+        }
+    };
+
+    static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final String name;
+
+    Scenario(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    abstract Request next(Targets targets, Random random);
+
+    static Scenario fromName(String name) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.name.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario '" + name + "', expected one of "
+                        + Arrays.stream(values()).map(Scenario::getName).toList()));
+    }
+
+    private static Request get(String endpoint, String url) {
+        return new Request(endpoint, HttpRequest.newBuilder(URI.create(url)).timeout(REQUEST_TIMEOUT).GET().build());
+    }
+
+    /**
+     * One request to send, with the endpoint it is reported under.
+     */
+    record Request(String endpoint, HttpRequest httpRequest) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.capgemini.loadtest;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Where requests go and which seeded ids they may use.
+ */
+record Targets(String festivalUrl, String reviewServiceUrl, List<String> djIds, List<String> performanceIds,
+               int festivalMinutes) {
+
+    String randomDj(Random random) {
+        return djIds.get(random.nextInt(djIds.size()));
+    }
+
+    String randomPerformance(Random random) {
+        return performanceIds.isEmpty() ? randomDj(random) : performanceIds.get(random.nextInt(performanceIds.size()));
+    }
+}
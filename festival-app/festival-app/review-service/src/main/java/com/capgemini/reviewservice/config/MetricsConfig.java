@@ -0,0 +1,60 @@
+package com.capgemini.reviewservice.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Function;
+
+/**
+ * Latency timers for the service layer and Spring Data repositories.
+ *
+ * Service classes annotated with @Timed(MetricsConfig.SERVICE_TIMER) are timed per
+ * method; Spring Boot times every repository call as spring.data.repository.invocations.
+ * Both get an operation tag (Class.method) and an outcome tag (SUCCESS or ERROR), so
+ * they line up with the outcome of http.server.requests and http.client.requests.
+ * Percentile histograms and SLO buckets are switched on per timer in application.properties.
+ */
+@Configuration(proxyBeanMethods = false)
+public class MetricsConfig {
+
+    public static final String SERVICE_TIMER = "review.service";
+
+    static final String REPOSITORY_TIMER = "spring.data.repository.invocations";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        Function<ProceedingJoinPoint, Iterable<Tag>> operation = joinPoint -> Tags.of("operation",
+                joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName());
+        return new TimedAspect(meterRegistry, operation);
+    }
+
+    /**
+     * Derives operation and outcome from the tags TimedAspect and Spring Data record:
+     * the exception tag is "none" on success, the repository state is SUCCESS or ERROR.
+     */
+    @Bean
+    public MeterFilter operationOutcomeTags() {
+        return new MeterFilter() {
+            @Override
+            public Meter.Id map(Meter.Id id) {
+                if (SERVICE_TIMER.equals(id.getName())) {
+                    String exception = id.getTag(TimedAspect.EXCEPTION_TAG);
+                    return id.withTag(Tag.of("outcome", exception == null || "none".equals(exception) ? "SUCCESS" : "ERROR"));
+                }
+                if (REPOSITORY_TIMER.equals(id.getName()) && id.getTag("repository") != null) {
+                    return id.withTags(Tags.of(
+                            Tag.of("operation", id.getTag("repository") + "." + id.getTag("method")),
+                            Tag.of("outcome", String.valueOf(id.getTag("state")))));
+                }
+                return id;
+            }
+        };
+    }
+}
@@ -0,0 +1,13 @@
+package com.capgemini.reviewservice.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled maintenance jobs such as SubjectStatsRebuildJob.
+ * Individual jobs are switched off by setting their cron property to "-".
+ */
+@Configuration(proxyBeanMethods = false)
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,47 @@
+package com.capgemini.reviewservice.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+
+import java.util.concurrent.Executors;
+
+/**
+ * Runs blocking request work on Java 21 virtual threads.
+ *
+ * Tomcat hands every request to a new virtual thread instead of its bounded worker
+ * pool, so a request parked in a WebClient .block() or a repository call no longer
+ * holds one of server.tomcat.threads.max platform threads. The application task
+ * executor (used for @Async and async MVC such as StreamingResponseBody) gets a
+ * virtual thread per task as well.
+ *
+ * Switched on with spring.threads.virtual.enabled=true, the property Spring Boot 3.2
+ * uses for the same purpose; this class can go once the build moves to 3.2.
+ * Start the JVM with -Djdk.tracePinnedThreads=short to log code that pins a virtual
+ * thread to its carrier (e.g. blocking inside synchronized).
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("http-vt-", 0).factory()));
+    }
+
+    // Replaces Boot's pooled applicationTaskExecutor; also the default @Async executor
+    @Bean(name = {
+        TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+        AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(
+                Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-vt-", 0).factory()));
+    }
+}
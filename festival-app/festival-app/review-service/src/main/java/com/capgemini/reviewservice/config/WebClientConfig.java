@@ -1,21 +1,65 @@
 package com.capgemini.reviewservice.config;
 
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 /**
  * Configuration for WebClient used to communicate with external services.
+ *
+ * Spring Boot applies the ClientHttpConnector bean below to every WebClient.Builder it
+ * injects, so calls to the festival application share one bounded pool of keep-alive
+ * connections with connect and response timeouts. Callers beyond
+ * webclient.pool.max-connections wait in a bounded queue for a free connection.
+ *
+ * The pool publishes reactor.netty.connection.provider.* metrics (total, active, idle
+ * and pending connections, pending acquire time) tagged with the pool name.
  */
-@Configuration
+@Configuration(proxyBeanMethods = false)
 public class WebClientConfig {
 
-    /**
-     * Create a WebClient.Builder bean for dependency injection.
-     * This allows for easy testing and configuration of WebClient instances.
-     */
+    public static final String POOL_NAME = "festivalService";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider webClientConnectionProvider(
+            @Value("${webclient.pool.max-connections:100}") int maxConnections,
+            @Value("${webclient.pool.pending-acquire-max-count:500}") int pendingAcquireMaxCount,
+            @Value("${webclient.pool.pending-acquire-timeout:2s}") Duration pendingAcquireTimeout,
+            @Value("${webclient.pool.max-idle-time:30s}") Duration maxIdleTime,
+            @Value("${webclient.pool.max-life-time:5m}") Duration maxLifeTime,
+            @Value("${webclient.pool.evict-in-background:30s}") Duration evictInBackground) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(evictInBackground)
+                // Hand out the most recently used connection, so surplus ones go idle and get evicted
+                .lifo()
+                .metrics(true)
+                .build();
+    }
+
     @Bean
-    public WebClient.Builder webClientBuilder() {
-        return WebClient.builder();
+    public ClientHttpConnector webClientHttpConnector(
+            ConnectionProvider webClientConnectionProvider,
+            @Value("${webclient.timeout.connection:2s}") Duration connectTimeout,
+            @Value("${webclient.timeout.response:10s}") Duration responseTimeout,
+            @Value("${webclient.compression:true}") boolean compression) {
+        HttpClient httpClient = HttpClient.create(webClientConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .responseTimeout(responseTimeout)
+                .keepAlive(true)
+                .compress(compression);
+        return new ReactorClientHttpConnector(httpClient);
     }
 }
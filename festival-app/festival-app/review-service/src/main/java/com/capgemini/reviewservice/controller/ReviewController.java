@@ -1,6 +1,13 @@
 package com.capgemini.reviewservice.controller;
 
+import com.capgemini.reviewservice.dto.CatalogEvent;
+import com.capgemini.reviewservice.dto.CatalogEventsResult;
+import com.capgemini.reviewservice.dto.CursorPage;
+import com.capgemini.reviewservice.dto.RatingDistribution;
 import com.capgemini.reviewservice.dto.ReviewDto;
+import com.capgemini.reviewservice.dto.SubjectRef;
+import com.capgemini.reviewservice.dto.SubjectStats;
+import com.capgemini.reviewservice.entity.RatingSummary;
 import com.capgemini.reviewservice.entity.Review;
 import com.capgemini.reviewservice.service.ReviewService;
 import jakarta.validation.Valid;
@@ -64,63 +71,82 @@ public class ReviewController {
     }
 
     /**
-     * Get all reviews.
+     * Get all reviews, newest first.
+     * Every list endpoint returns one page of at most limit (default 50, max 200) reviews;
+     * pass the returned next token as cursor to read the following page.
      */
     @GetMapping
-    public ResponseEntity<List<Review>> getAllReviews() {
-        List<Review> reviews = reviewService.getAll();
+    public ResponseEntity<CursorPage<Review>> getAllReviews(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<Review> reviews = reviewService.getAll(cursor, limit);
         return ResponseEntity.ok(reviews);
     }
 
     /**
-     * Get reviews for a specific subject (DJ or Performance).
+     * Get reviews for a specific subject (DJ or Performance), newest first.
      */
     @GetMapping("/subject/{subjectType}/{subjectId}")
-    public ResponseEntity<List<Review>> getReviewsForSubject(
+    public ResponseEntity<CursorPage<Review>> getReviewsForSubject(
             @PathVariable String subjectType,
-            @PathVariable String subjectId) {
-        List<Review> reviews = reviewService.getReviewsForSubject(subjectId, subjectType.toUpperCase());
+            @PathVariable String subjectId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<Review> reviews = reviewService.getReviewsForSubject(subjectId, subjectType.toUpperCase(), cursor, limit);
         return ResponseEntity.ok(reviews);
     }
 
     /**
-     * Get reviews by subject type (all DJ reviews or all Performance reviews).
+     * Get reviews by subject type (all DJ reviews or all Performance reviews), newest first.
      */
     @GetMapping("/type/{subjectType}")
-    public ResponseEntity<List<Review>> getReviewsBySubjectType(@PathVariable String subjectType) {
-        List<Review> reviews = reviewService.getReviewsBySubjectType(subjectType.toUpperCase());
+    public ResponseEntity<CursorPage<Review>> getReviewsBySubjectType(
+            @PathVariable String subjectType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<Review> reviews = reviewService.getReviewsBySubjectType(subjectType.toUpperCase(), cursor, limit);
         return ResponseEntity.ok(reviews);
     }
 
     /**
-     * Get reviews by reviewer name.
+     * Get reviews by reviewer name, newest first.
      */
     @GetMapping("/reviewer/{reviewerName}")
-    public ResponseEntity<List<Review>> getReviewsByReviewer(@PathVariable String reviewerName) {
-        List<Review> reviews = reviewService.getReviewsByReviewer(reviewerName);
+    public ResponseEntity<CursorPage<Review>> getReviewsByReviewer(
+            @PathVariable String reviewerName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<Review> reviews = reviewService.getReviewsByReviewer(reviewerName, cursor, limit);
         return ResponseEntity.ok(reviews);
     }
 
     /**
-     * Get reviews by rating.
+     * Get reviews by rating, newest first.
      */
     @GetMapping("/rating/{rating}")
-    public ResponseEntity<List<Review>> getReviewsByRating(@PathVariable Integer rating) {
-        List<Review> reviews = reviewService.getReviewsByRating(rating);
+    public ResponseEntity<CursorPage<Review>> getReviewsByRating(
+            @PathVariable Integer rating,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<Review> reviews = reviewService.getReviewsByRating(rating, cursor, limit);
         return ResponseEntity.ok(reviews);
     }
 
     /**
-     * Get reviews with minimum rating.
+     * Get reviews with minimum rating, newest first.
      */
     @GetMapping("/rating/min/{minRating}")
-    public ResponseEntity<List<Review>> getReviewsWithMinRating(@PathVariable Integer minRating) {
-        List<Review> reviews = reviewService.getReviewsWithMinRating(minRating);
+    public ResponseEntity<CursorPage<Review>> getReviewsWithMinRating(
+            @PathVariable Integer minRating,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        CursorPage<Review> reviews = reviewService.getReviewsWithMinRating(minRating, cursor, limit);
         return ResponseEntity.ok(reviews);
     }
 
     /**
-     * Get statistics for a specific subject.
+     * Get statistics for a specific subject: average, count and reviews per star rating.
+     * Read from the subject's stored rating summary, so the cost does not grow with its reviews.
      */
     @GetMapping("/stats/{subjectType}/{subjectId}")
     public ResponseEntity<Map<String, Object>> getSubjectStats(
@@ -128,18 +154,59 @@ public class ReviewController {
             @PathVariable String subjectId) {
         
         String upperSubjectType = subjectType.toUpperCase();
-        Double averageRating = reviewService.getAverageRating(subjectId, upperSubjectType);
-        long reviewCount = reviewService.getReviewCount(subjectId, upperSubjectType);
+        RatingSummary summary = reviewService.getRatingSummary(subjectId, upperSubjectType);
         
         Map<String, Object> stats = new HashMap<>();
         stats.put("subjectId", subjectId);
         stats.put("subjectType", upperSubjectType);
-        stats.put("averageRating", Math.round(averageRating * 100.0) / 100.0); // Round to 2 decimal places
-        stats.put("reviewCount", reviewCount);
+        stats.put("averageRating", Math.round(summary.getAverageRating() * 100.0) / 100.0); // Round to 2 decimal places
+        stats.put("reviewCount", summary.getCount());
+        stats.put("ratingHistogram", summary.getHistogram());
         
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * Get the 1-5 star histogram, median and p90 rating of a subject,
+     * without sending its reviews over the wire.
+     */
+    @GetMapping("/distribution/{subjectType}/{subjectId}")
+    public ResponseEntity<RatingDistribution> getRatingDistribution(
+            @PathVariable String subjectType,
+            @PathVariable String subjectId) {
+        RatingDistribution distribution = reviewService.getRatingDistribution(subjectId, subjectType.toUpperCase());
+        return ResponseEntity.ok(distribution);
+    }
+
+    /**
+     * Get the festival-wide rating distribution, one entry per subject type (DJ, PERFORMANCE).
+     */
+    @GetMapping("/distribution")
+    public ResponseEntity<List<RatingDistribution>> getRatingDistributionsBySubjectType() {
+        List<RatingDistribution> distributions = reviewService.getRatingDistributionsBySubjectType();
+        return ResponseEntity.ok(distributions);
+    }
+
+    /**
+     * Get statistics for many subjects at once, e.g. for a list page.
+     * Counts and averages are read from the stored summaries in one query instead of one request per subject.
+     */
+    @PostMapping("/stats/batch")
+    public ResponseEntity<List<SubjectStats>> getSubjectStatsBatch(@RequestBody List<SubjectRef> subjects) {
+        List<SubjectStats> stats = reviewService.getStatsForSubjects(subjects);
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * Apply a batch of DJ and performance changes pushed by the Festival Application's outbox relay.
+     * Reviews of deleted subjects are purged; the batch may be a redelivery.
+     */
+    @PostMapping("/catalog-events")
+    public ResponseEntity<CatalogEventsResult> applyCatalogEvents(@RequestBody List<CatalogEvent> events) {
+        CatalogEventsResult result = reviewService.applyCatalogEvents(events);
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * Health check endpoint.
      */
@@ -0,0 +1,14 @@
+package com.capgemini.reviewservice.dto;
+
+import java.time.Instant;
+
+/**
+ * DJ or performance change published by the Festival Application's outbox.
+ * Events arrive in batches in sequence order and may be delivered more than once.
+ */
+public record CatalogEvent(long sequence, String subjectType, String subjectId, String type, Instant occurredAt) {
+
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+}
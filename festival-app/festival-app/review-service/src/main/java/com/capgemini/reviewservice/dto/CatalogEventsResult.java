@@ -0,0 +1,8 @@
+package com.capgemini.reviewservice.dto;
+
+/**
+ * Outcome of applying one batch of catalog events; skippedEvents were duplicates or
+ * older than a change already applied to their subject.
+ */
+public record CatalogEventsResult(int events, int skippedEvents, long purgedReviews) {
+}
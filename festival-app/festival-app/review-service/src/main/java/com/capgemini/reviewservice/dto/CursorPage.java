@@ -0,0 +1,17 @@
+package com.capgemini.reviewservice.dto;
+
+import java.util.List;
+
+/**
+ * One page of a newest-first review feed.
+ *
+ * next is an opaque continuation token: clients pass it back unchanged as the
+ * cursor parameter to fetch the following page and must not try to parse it.
+ * It is null on the last page.
+ */
+public record CursorPage<T>(List<T> items, String next) {
+
+    public boolean isHasNext() {
+        return next != null;
+    }
+}
@@ -0,0 +1,50 @@
+package com.capgemini.reviewservice.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Star rating distribution of one subject, or of all subjects of a type when subjectId is null.
+ *
+ * Median and p90 use the nearest-rank method on the 1-5 histogram: the lowest rating
+ * that at least 50% (90%) of the reviews are at or below. They are 0 without reviews.
+ */
+public record RatingDistribution(String subjectType, String subjectId, long reviewCount, double averageRating,
+                                 Map<Integer, Long> histogram, int median, int p90) {
+
+    /**
+     * Build a distribution from reviews per star rating.
+     *
+     * @param histogram reviews per rating from 1 to 5, ratings without reviews may be absent
+     */
+    public static RatingDistribution of(String subjectType, String subjectId, Map<Integer, Long> histogram) {
+        Map<Integer, Long> stars = new LinkedHashMap<>();
+        long count = 0;
+        long sum = 0;
+        for (int rating = 1; rating <= 5; rating++) {
+            long reviews = histogram.getOrDefault(rating, 0L);
+            stars.put(rating, reviews);
+            count += reviews;
+            sum += rating * reviews;
+        }
+        double average = count > 0 ? Math.round(sum * 100.0 / count) / 100.0 : 0.0;
+        return new RatingDistribution(subjectType, subjectId, count, average, stars,
+                percentile(stars, count, 50), percentile(stars, count, 90));
+    }
+
+    private static int percentile(Map<Integer, Long> stars, long count, int percent) {
+        if (count == 0) {
+            return 0;
+        }
+        // 1-based rank of the percentile review, ceil(count * percent / 100)
+        long rank = (count * percent + 99) / 100;
+        long seen = 0;
+        for (Map.Entry<Integer, Long> entry : stars.entrySet()) {
+            seen += entry.getValue();
+            if (seen >= rank) {
+                return entry.getKey();
+            }
+        }
+        return 5;
+    }
+}
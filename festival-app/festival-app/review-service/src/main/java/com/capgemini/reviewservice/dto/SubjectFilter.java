@@ -0,0 +1,14 @@
+package com.capgemini.reviewservice.dto;
+
+/**
+ * Bloom filter of all DJ and performance ids as published by the Festival Application
+ * (GET /api/subjects/filter). Its version is also the ETag, see SubjectFilterReplica.
+ */
+public record SubjectFilter(String version,
+                            int subjectCount,
+                            long bitCount,
+                            int hashFunctions,
+                            int sizeBytes,
+                            double falsePositiveRate,
+                            String bits) {
+}
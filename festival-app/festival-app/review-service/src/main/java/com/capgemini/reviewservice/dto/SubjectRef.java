@@ -0,0 +1,7 @@
+package com.capgemini.reviewservice.dto;
+
+/**
+ * Reference to a reviewed subject, used to ask for statistics of many subjects at once.
+ */
+public record SubjectRef(String subjectType, String subjectId) {
+}
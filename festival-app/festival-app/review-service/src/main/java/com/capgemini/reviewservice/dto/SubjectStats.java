@@ -0,0 +1,8 @@
+package com.capgemini.reviewservice.dto;
+
+/**
+ * Review count and average rating of one subject.
+ * Subjects without reviews have a count of 0 and an average of 0.0.
+ */
+public record SubjectStats(String subjectType, String subjectId, Double averageRating, long reviewCount) {
+}
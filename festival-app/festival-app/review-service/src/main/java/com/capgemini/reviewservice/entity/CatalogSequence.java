@@ -0,0 +1,52 @@
+package com.capgemini.reviewservice.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Sequence of the last catalog event applied for one subject, kept in catalog_sequences.
+ *
+ * The Festival Application numbers its catalog events in the order they were written.
+ * An event at or below the recorded sequence is a redelivery or arrived after a newer
+ * change of the same subject, and is skipped. Entries of deleted subjects are kept, so a
+ * late duplicate of an old event cannot act on a subject recreated under the same id.
+ */
+@Document(collection = "catalog_sequences")
+public class CatalogSequence {
+
+    @Id
+    private String id;
+
+    private long sequence;
+
+    public CatalogSequence() {
+    }
+
+    public CatalogSequence(String id, long sequence) {
+        this.id = id;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Document id of a subject's entry, e.g. "DJ:dj-001".
+     */
+    public static String key(String subjectType, String subjectId) {
+        return subjectType + ":" + subjectId;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+}
@@ -0,0 +1,121 @@
+package com.capgemini.reviewservice.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Running rating totals of one subject, kept next to its reviews in subject_stats.
+ *
+ * Every review write adjusts the counters with $inc (see RatingSummaryCounters), so
+ * average, count and the star histogram are read from one document by _id instead of
+ * scanning the subject's reviews. SubjectStatsRebuildJob recomputes them from the
+ * reviews to repair any drift.
+ */
+@Document(collection = "subject_stats")
+public class RatingSummary {
+
+    // Highest star rating; stars maps "1".."5" to the number of reviews with that rating
+    public static final int MAX_RATING = 5;
+
+    @Id
+    private String id;
+
+    private String subjectType;
+
+    private String subjectId;
+
+    private long count;
+
+    private long sum;
+
+    private Map<String, Long> stars = new HashMap<>();
+
+    public RatingSummary() {
+    }
+
+    public RatingSummary(String subjectType, String subjectId) {
+        this.id = key(subjectType, subjectId);
+        this.subjectType = subjectType;
+        this.subjectId = subjectId;
+    }
+
+    /**
+     * Document id of a subject's summary, e.g. "DJ:dj-001".
+     */
+    public static String key(String subjectType, String subjectId) {
+        return subjectType + ":" + subjectId;
+    }
+
+    public void add(int rating, long reviews) {
+        count += reviews;
+        sum += rating * reviews;
+        stars.merge(String.valueOf(rating), reviews, Long::sum);
+    }
+
+    public double getAverageRating() {
+        return count > 0 ? (double) sum / count : 0.0;
+    }
+
+    /**
+     * Reviews per star rating from 1 to 5, including ratings nobody gave.
+     */
+    public Map<Integer, Long> getHistogram() {
+        Map<Integer, Long> histogram = new LinkedHashMap<>();
+        for (int rating = 1; rating <= MAX_RATING; rating++) {
+            histogram.put(rating, stars.getOrDefault(String.valueOf(rating), 0L));
+        }
+        return histogram;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getSubjectType() {
+        return subjectType;
+    }
+
+    public void setSubjectType(String subjectType) {
+        this.subjectType = subjectType;
+    }
+
+    public String getSubjectId() {
+        return subjectId;
+    }
+
+    public void setSubjectId(String subjectId) {
+        this.subjectId = subjectId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public void setSum(long sum) {
+        this.sum = sum;
+    }
+
+    public Map<String, Long> getStars() {
+        return stars;
+    }
+
+    public void setStars(Map<String, Long> stars) {
+        this.stars = stars;
+    }
+}
@@ -1,6 +1,8 @@
 package com.capgemini.reviewservice.entity;
 
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import jakarta.validation.constraints.*;
@@ -10,8 +12,19 @@ import java.util.Objects;
 /**
  * Review entity for MongoDB storage.
  * Represents a review for either a DJ or a Performance from the Festival Application.
+ *
+ * Each newest-first feed (see ReviewFeedRepository) has an index that ends in
+ * (createdAt desc, _id desc), so a page is a range scan without a sort stage. The
+ * subject index also serves the (subjectType, subjectId) lookups that subject_idx used to.
  */
 @Document(collection = "reviews")
+@CompoundIndexes({
+    @CompoundIndex(name = "feed_idx", def = "{'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "subject_feed_idx", def = "{'subjectType': 1, 'subjectId': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "type_feed_idx", def = "{'subjectType': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "reviewer_feed_idx", def = "{'reviewerName': 1, 'createdAt': -1, '_id': -1}"),
+    @CompoundIndex(name = "rating_feed_idx", def = "{'rating': 1, 'createdAt': -1, '_id': -1}")
+})
 public class Review {
 
     @Id
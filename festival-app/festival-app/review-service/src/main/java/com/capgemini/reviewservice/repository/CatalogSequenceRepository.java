@@ -0,0 +1,13 @@
+package com.capgemini.reviewservice.repository;
+
+import com.capgemini.reviewservice.entity.CatalogSequence;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * MongoDB repository for the last applied catalog event sequence per subject.
+ * Entries are looked up by CatalogSequence.key(subjectType, subjectId).
+ */
+@Repository
+public interface CatalogSequenceRepository extends MongoRepository<CatalogSequence, String>, CatalogSequenceUpdates {
+}
@@ -0,0 +1,17 @@
+package com.capgemini.reviewservice.repository;
+
+import java.util.Map;
+
+/**
+ * Monotonic updates of the applied catalog event sequences.
+ * Mixed into CatalogSequenceRepository as a repository fragment.
+ */
+public interface CatalogSequenceUpdates {
+
+    /**
+     * Raise each subject's sequence to the given one, never lowering it, creating entries as needed.
+     *
+     * @param sequences sequence of the last applied event by CatalogSequence key
+     */
+    void advance(Map<String, Long> sequences);
+}
@@ -0,0 +1,36 @@
+package com.capgemini.reviewservice.repository;
+
+import com.capgemini.reviewservice.entity.CatalogSequence;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Map;
+
+/**
+ * MongoTemplate implementation of CatalogSequenceUpdates.
+ *
+ * advance sends one unordered bulk of upserts with $max, so two deliveries of
+ * overlapping batches can only move a sequence forward, whichever is written last.
+ */
+public class CatalogSequenceUpdatesImpl implements CatalogSequenceUpdates {
+
+    private final MongoTemplate mongoTemplate;
+
+    public CatalogSequenceUpdatesImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void advance(Map<String, Long> sequences) {
+        if (sequences.isEmpty()) {
+            return;
+        }
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, CatalogSequence.class);
+        sequences.forEach((key, sequence) ->
+                bulk.upsert(Query.query(Criteria.where("_id").is(key)), new Update().max("sequence", sequence)));
+        bulk.execute();
+    }
+}
@@ -0,0 +1,38 @@
+package com.capgemini.reviewservice.repository;
+
+import com.capgemini.reviewservice.entity.RatingSummary;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Atomic counter updates, bulk replacement and roll-ups of rating summaries.
+ * Mixed into RatingSummaryRepository as a repository fragment.
+ */
+public interface RatingSummaryCounters {
+
+    /**
+     * Add or remove reviews with one rating in a single atomic $inc, creating the summary if needed.
+     *
+     * @param subjectType the subject type
+     * @param subjectId the subject ID
+     * @param rating the star rating (1-5)
+     * @param reviews +1 for a new review, -1 for a removed one
+     */
+    void increment(String subjectType, String subjectId, int rating, int reviews);
+
+    /**
+     * Replace all summaries with the given ones; summaries of other subjects are removed.
+     *
+     * @param summaries the complete set of summaries
+     * @return number of summaries removed because their subject has no reviews left
+     */
+    long replaceAll(Collection<RatingSummary> summaries);
+
+    /**
+     * Add up the summaries of all subjects per subject type in one aggregation.
+     *
+     * @return one summary per subject type with reviews, subjectId null
+     */
+    List<RatingSummary> sumBySubjectType();
+}
@@ -0,0 +1,108 @@
+package com.capgemini.reviewservice.repository;
+
+import com.capgemini.reviewservice.entity.RatingSummary;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * MongoTemplate implementation of RatingSummaryCounters.
+ *
+ * increment is one upsert with $inc on count, sum and stars.<rating>, so concurrent
+ * review writes never lose an update and no read-modify-write is needed.
+ * sumBySubjectType reads one small document per subject, not the reviews.
+ */
+public class RatingSummaryCountersImpl implements RatingSummaryCounters {
+
+    // Summaries written per bulk request during a rebuild
+    private static final int BULK_SIZE = 1000;
+
+    private final MongoTemplate mongoTemplate;
+
+    public RatingSummaryCountersImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void increment(String subjectType, String subjectId, int rating, int reviews) {
+        Query subject = Query.query(Criteria.where("_id").is(RatingSummary.key(subjectType, subjectId)));
+        Update update = new Update()
+                .setOnInsert("subjectType", subjectType)
+                .setOnInsert("subjectId", subjectId)
+                .inc("count", reviews)
+                .inc("sum", rating * reviews)
+                .inc("stars." + rating, reviews);
+        mongoTemplate.upsert(subject, update, RatingSummary.class);
+    }
+
+    @Override
+    public long replaceAll(Collection<RatingSummary> summaries) {
+        Set<String> keep = new HashSet<>();
+        List<RatingSummary> chunk = new ArrayList<>(BULK_SIZE);
+        for (RatingSummary summary : summaries) {
+            keep.add(summary.getId());
+            chunk.add(summary);
+            if (chunk.size() == BULK_SIZE) {
+                replace(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            replace(chunk);
+        }
+
+        List<String> stale = new ArrayList<>();
+        Query allIds = new Query();
+        allIds.fields().include("_id");
+        try (var ids = mongoTemplate.stream(allIds, Document.class, mongoTemplate.getCollectionName(RatingSummary.class))) {
+            ids.map(document -> document.getString("_id")).filter(id -> !keep.contains(id)).forEach(stale::add);
+        }
+        if (stale.isEmpty()) {
+            return 0;
+        }
+        return mongoTemplate.remove(Query.query(Criteria.where("_id").in(stale)), RatingSummary.class).getDeletedCount();
+    }
+
+    @Override
+    public List<RatingSummary> sumBySubjectType() {
+        GroupOperation group = Aggregation.group("subjectType");
+        for (int rating = 1; rating <= RatingSummary.MAX_RATING; rating++) {
+            group = group.sum("stars." + rating).as("stars" + rating);
+        }
+        Aggregation aggregation = Aggregation.newAggregation(group, Aggregation.sort(Sort.Direction.ASC, "_id"));
+
+        return mongoTemplate.aggregate(aggregation, RatingSummary.class, Document.class)
+                .getMappedResults().stream()
+                .map(result -> {
+                    RatingSummary total = new RatingSummary(result.getString("_id"), null);
+                    for (int rating = 1; rating <= RatingSummary.MAX_RATING; rating++) {
+                        total.add(rating, result.get("stars" + rating, Number.class).longValue());
+                    }
+                    return total;
+                })
+                .filter(total -> total.getCount() > 0)
+                .toList();
+    }
+
+    private void replace(List<RatingSummary> summaries) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, RatingSummary.class);
+        for (RatingSummary summary : summaries) {
+            bulk.replaceOne(Query.query(Criteria.where("_id").is(summary.getId())), summary,
+                    FindAndReplaceOptions.options().upsert());
+        }
+        bulk.execute();
+    }
+}
@@ -0,0 +1,13 @@
+package com.capgemini.reviewservice.repository;
+
+import com.capgemini.reviewservice.entity.RatingSummary;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * MongoDB repository for the per-subject rating summaries in subject_stats.
+ * Summaries are looked up by RatingSummary.key(subjectType, subjectId).
+ */
+@Repository
+public interface RatingSummaryRepository extends MongoRepository<RatingSummary, String>, RatingSummaryCounters {
+}
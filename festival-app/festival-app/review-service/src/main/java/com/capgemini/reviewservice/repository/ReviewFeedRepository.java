@@ -0,0 +1,42 @@
+package com.capgemini.reviewservice.repository;
+
+import com.capgemini.reviewservice.entity.Review;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * Newest-first review feeds, read one bounded slice at a time with keyset pagination.
+ * Mixed into ReviewRepository as a repository fragment.
+ *
+ * Every feed is ordered by (createdAt desc, _id desc) and has a matching compound
+ * index on Review, so a page is a bounded range scan of that index with no in-memory sort.
+ * after is the position of the last review of the previous page, null for the first page.
+ */
+public interface ReviewFeedRepository {
+
+    Slice<Review> findFeed(FeedPosition after, int limit);
+
+    Slice<Review> findFeedBySubject(String subjectType, String subjectId, FeedPosition after, int limit);
+
+    Slice<Review> findFeedBySubjectType(String subjectType, FeedPosition after, int limit);
+
+    Slice<Review> findFeedByReviewer(String reviewerName, FeedPosition after, int limit);
+
+    /**
+     * Reviews with any of the given ratings; pass all ratings from a minimum up to 5
+     * for a minimum-rating feed, so Mongo merges the per-rating index ranges in order.
+     */
+    Slice<Review> findFeedByRatings(Collection<Integer> ratings, FeedPosition after, int limit);
+
+    /**
+     * Sort key of a review in the feeds.
+     */
+    record FeedPosition(LocalDateTime createdAt, String id) {
+
+        public static FeedPosition of(Review review) {
+            return new FeedPosition(review.getCreatedAt(), review.getId());
+        }
+    }
+}
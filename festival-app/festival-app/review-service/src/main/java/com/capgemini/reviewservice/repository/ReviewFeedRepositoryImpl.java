@@ -0,0 +1,72 @@
+package com.capgemini.reviewservice.repository;
+
+import com.capgemini.reviewservice.entity.Review;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * MongoTemplate implementation of ReviewFeedRepository.
+ *
+ * The continuation predicate is createdAt < c OR (createdAt = c AND _id < id), which Mongo
+ * turns into index bounds on (createdAt, _id). One extra document is fetched to tell
+ * whether another page follows.
+ */
+public class ReviewFeedRepositoryImpl implements ReviewFeedRepository {
+
+    static final Sort FEED_ORDER = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "_id"));
+
+    private final MongoTemplate mongoTemplate;
+
+    public ReviewFeedRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Slice<Review> findFeed(FeedPosition after, int limit) {
+        return find(new Criteria(), after, limit);
+    }
+
+    @Override
+    public Slice<Review> findFeedBySubject(String subjectType, String subjectId, FeedPosition after, int limit) {
+        return find(Criteria.where("subjectType").is(subjectType).and("subjectId").is(subjectId), after, limit);
+    }
+
+    @Override
+    public Slice<Review> findFeedBySubjectType(String subjectType, FeedPosition after, int limit) {
+        return find(Criteria.where("subjectType").is(subjectType), after, limit);
+    }
+
+    @Override
+    public Slice<Review> findFeedByReviewer(String reviewerName, FeedPosition after, int limit) {
+        return find(Criteria.where("reviewerName").is(reviewerName), after, limit);
+    }
+
+    @Override
+    public Slice<Review> findFeedByRatings(Collection<Integer> ratings, FeedPosition after, int limit) {
+        return find(Criteria.where("rating").in(ratings), after, limit);
+    }
+
+    private Slice<Review> find(Criteria filter, FeedPosition after, int limit) {
+        Criteria criteria = filter;
+        if (after != null) {
+            Object lastId = ObjectId.isValid(after.id()) ? new ObjectId(after.id()) : after.id();
+            criteria = new Criteria().andOperator(filter, new Criteria().orOperator(
+                    Criteria.where("createdAt").lt(after.createdAt()),
+                    Criteria.where("createdAt").is(after.createdAt()).and("_id").lt(lastId)));
+        }
+        Query query = Query.query(criteria).with(FEED_ORDER).limit(limit + 1);
+
+        List<Review> reviews = mongoTemplate.find(query, Review.class);
+        boolean hasNext = reviews.size() > limit;
+        return new SliceImpl<>(hasNext ? reviews.subList(0, limit) : reviews, PageRequest.of(0, limit, FEED_ORDER), hasNext);
+    }
+}
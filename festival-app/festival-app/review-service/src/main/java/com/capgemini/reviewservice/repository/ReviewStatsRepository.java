@@ -0,0 +1,20 @@
+package com.capgemini.reviewservice.repository;
+
+import com.capgemini.reviewservice.entity.RatingSummary;
+
+import java.util.Collection;
+
+/**
+ * Aggregation queries on reviews that derived query methods cannot express.
+ * Mixed into ReviewRepository as a repository fragment.
+ */
+public interface ReviewStatsRepository {
+
+    /**
+     * Recompute the rating summary of every subject that has reviews, in one aggregation.
+     * Used to rebuild subject_stats; reads are served from the stored summaries.
+     *
+     * @return one summary per reviewed subject
+     */
+    Collection<RatingSummary> aggregateRatingSummaries();
+}
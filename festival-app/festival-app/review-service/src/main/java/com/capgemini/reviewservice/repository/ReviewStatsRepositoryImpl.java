@@ -0,0 +1,51 @@
+package com.capgemini.reviewservice.repository;
+
+import com.capgemini.reviewservice.entity.RatingSummary;
+import com.capgemini.reviewservice.entity.Review;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * MongoTemplate implementation of ReviewStatsRepository.
+ *
+ * A single $group by (subjectType, subjectId, rating) counts the reviews on the server,
+ * so at most five small documents per subject are sent back, not the reviews. They are
+ * folded into one RatingSummary per subject here.
+ */
+public class ReviewStatsRepositoryImpl implements ReviewStatsRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public ReviewStatsRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Collection<RatingSummary> aggregateRatingSummaries() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group("subjectType", "subjectId", "rating").count().as("reviews")
+        ).withOptions(Aggregation.newAggregationOptions().allowDiskUse(true).build());
+
+        Map<String, RatingSummary> summaries = new HashMap<>();
+        try (var results = mongoTemplate.aggregateStream(aggregation, Review.class, Document.class)) {
+            results.forEach(result -> {
+                Document id = result.get("_id", Document.class);
+                Number rating = id.get("rating", Number.class);
+                if (rating == null) {
+                    return;
+                }
+                String subjectType = id.getString("subjectType");
+                String subjectId = id.getString("subjectId");
+                summaries.computeIfAbsent(RatingSummary.key(subjectType, subjectId),
+                                key -> new RatingSummary(subjectType, subjectId))
+                        .add(rating.intValue(), result.get("reviews", Number.class).longValue());
+            });
+        }
+        return summaries.values();
+    }
+}
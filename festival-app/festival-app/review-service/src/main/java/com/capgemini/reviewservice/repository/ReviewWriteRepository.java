@@ -0,0 +1,31 @@
+package com.capgemini.reviewservice.repository;
+
+import com.capgemini.reviewservice.entity.Review;
+
+import java.util.Optional;
+
+/**
+ * Single-document review writes that return the review as it was before the write.
+ * Mixed into ReviewRepository as a repository fragment.
+ *
+ * The rating summary is adjusted from the returned document, so of two concurrent
+ * writes to one review each moves the counters away from the state it actually replaced.
+ */
+public interface ReviewWriteRepository {
+
+    /**
+     * Remove a review in one findAndModify.
+     *
+     * @param id the review ID
+     * @return the removed review, empty if it did not exist or another request removed it first
+     */
+    Optional<Review> removeById(String id);
+
+    /**
+     * Replace a stored review in one findAndModify; a review that no longer exists is not recreated.
+     *
+     * @param review the new state, with the ID of the review to replace
+     * @return the review as it was before the replacement, empty if it did not exist
+     */
+    Optional<Review> replace(Review review);
+}
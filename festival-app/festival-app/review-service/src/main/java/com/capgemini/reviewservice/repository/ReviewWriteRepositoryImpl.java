@@ -0,0 +1,35 @@
+package com.capgemini.reviewservice.repository;
+
+import com.capgemini.reviewservice.entity.Review;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Optional;
+
+/**
+ * MongoTemplate implementation of ReviewWriteRepository.
+ */
+public class ReviewWriteRepositoryImpl implements ReviewWriteRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public ReviewWriteRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Optional<Review> removeById(String id) {
+        return Optional.ofNullable(mongoTemplate.findAndRemove(byId(id), Review.class));
+    }
+
+    @Override
+    public Optional<Review> replace(Review review) {
+        // Without upsert, and returning the document before the replacement
+        return Optional.ofNullable(mongoTemplate.findAndReplace(byId(review.getId()), review));
+    }
+
+    private static Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+}
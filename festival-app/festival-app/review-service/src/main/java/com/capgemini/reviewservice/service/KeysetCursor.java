@@ -0,0 +1,72 @@
+package com.capgemini.reviewservice.service;
+
+import com.capgemini.reviewservice.exception.BadRequestException;
+import com.capgemini.reviewservice.repository.ReviewFeedRepository.FeedPosition;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Encodes and decodes the opaque continuation tokens of the review feeds.
+ *
+ * A cursor holds the (createdAt, id) of the last review of a page. The next page
+ * continues strictly after that key in (createdAt desc, _id desc) order, so Mongo
+ * seeks into the feed's index instead of skipping documents, and deep pages cost
+ * the same as the first one.
+ */
+final class KeysetCursor {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 200;
+
+    private static final char SEPARATOR = '\u001F';
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * Bounds a client-supplied limit to [1, MAX_LIMIT].
+     *
+     * @param limit requested page size, may be null
+     * @return the page size to use
+     */
+    static int limit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+
+    /**
+     * Builds a cursor from the position of the last review of a page.
+     */
+    static String encode(FeedPosition position) {
+        String raw = position.createdAt() + String.valueOf(SEPARATOR) + position.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Turns a cursor back into a feed position.
+     *
+     * @param cursor token previously returned by {@link #encode}, or null/empty for the first page
+     * @return the position to continue after, null for the first page
+     * @throws BadRequestException if the token was not produced by this API
+     */
+    static FeedPosition decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            return new FeedPosition(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid pagination cursor: " + cursor, e);
+        }
+    }
+}
@@ -1,6 +1,13 @@
 package com.capgemini.reviewservice.service;
 
+import com.capgemini.reviewservice.dto.CatalogEvent;
+import com.capgemini.reviewservice.dto.CatalogEventsResult;
+import com.capgemini.reviewservice.dto.CursorPage;
+import com.capgemini.reviewservice.dto.RatingDistribution;
 import com.capgemini.reviewservice.dto.ReviewDto;
+import com.capgemini.reviewservice.dto.SubjectRef;
+import com.capgemini.reviewservice.dto.SubjectStats;
+import com.capgemini.reviewservice.entity.RatingSummary;
 import com.capgemini.reviewservice.entity.Review;
 
 import java.util.List;
@@ -44,52 +51,64 @@ public interface ReviewService {
     Review getById(String id);
 
     /**
-     * Get all reviews.
+     * Get all reviews, newest first, one page at a time.
      *
-     * @return list of all reviews
+     * @param cursor continuation token of the previous page, null for the first page
+     * @param limit page size, default 50, capped at 200
+     * @return one page of reviews, newest first
      */
-    List<Review> getAll();
+    CursorPage<Review> getAll(String cursor, Integer limit);
 
     /**
-     * Get all reviews for a specific subject (DJ or Performance).
+     * Get the reviews for a specific subject (DJ or Performance), newest first.
      *
      * @param subjectId the subject ID
      * @param subjectType the subject type ("DJ" or "PERFORMANCE")
-     * @return list of reviews for the subject
+     * @param cursor continuation token of the previous page, null for the first page
+     * @param limit page size, default 50, capped at 200
+     * @return one page of reviews, newest first
      */
-    List<Review> getReviewsForSubject(String subjectId, String subjectType);
+    CursorPage<Review> getReviewsForSubject(String subjectId, String subjectType, String cursor, Integer limit);
 
     /**
-     * Get all reviews by subject type.
+     * Get the reviews of a subject type, newest first.
      *
      * @param subjectType the subject type ("DJ" or "PERFORMANCE")
-     * @return list of reviews for the subject type
+     * @param cursor continuation token of the previous page, null for the first page
+     * @param limit page size, default 50, capped at 200
+     * @return one page of reviews, newest first
      */
-    List<Review> getReviewsBySubjectType(String subjectType);
+    CursorPage<Review> getReviewsBySubjectType(String subjectType, String cursor, Integer limit);
 
     /**
-     * Get all reviews by a specific reviewer.
+     * Get the reviews by a specific reviewer, newest first.
      *
      * @param reviewerName the reviewer name
-     * @return list of reviews by the reviewer
+     * @param cursor continuation token of the previous page, null for the first page
+     * @param limit page size, default 50, capped at 200
+     * @return one page of reviews, newest first
      */
-    List<Review> getReviewsByReviewer(String reviewerName);
+    CursorPage<Review> getReviewsByReviewer(String reviewerName, String cursor, Integer limit);
 
     /**
-     * Get all reviews with a specific rating.
+     * Get the reviews with a specific rating, newest first.
      *
      * @param rating the rating (1-5)
-     * @return list of reviews with the specified rating
+     * @param cursor continuation token of the previous page, null for the first page
+     * @param limit page size, default 50, capped at 200
+     * @return one page of reviews, newest first
      */
-    List<Review> getReviewsByRating(Integer rating);
+    CursorPage<Review> getReviewsByRating(Integer rating, String cursor, Integer limit);
 
     /**
-     * Get all reviews with rating greater than or equal to specified value.
+     * Get the reviews with rating greater than or equal to specified value, newest first.
      *
      * @param rating the minimum rating
-     * @return list of reviews with rating >= specified value
+     * @param cursor continuation token of the previous page, null for the first page
+     * @param limit page size, default 50, capped at 200
+     * @return one page of reviews, newest first
      */
-    List<Review> getReviewsWithMinRating(Integer rating);
+    CursorPage<Review> getReviewsWithMinRating(Integer rating, String cursor, Integer limit);
 
     /**
      * Calculate average rating for a specific subject.
@@ -109,6 +128,39 @@ public interface ReviewService {
      */
     long getReviewCount(String subjectId, String subjectType);
 
+    /**
+     * Get review count, rating sum and star histogram of a subject from its stored summary.
+     *
+     * @param subjectId the subject ID
+     * @param subjectType the subject type
+     * @return the summary, empty if the subject has no reviews
+     */
+    RatingSummary getRatingSummary(String subjectId, String subjectType);
+
+    /**
+     * Get the star histogram, median and p90 rating of a subject.
+     *
+     * @param subjectId the subject ID
+     * @param subjectType the subject type
+     * @return the distribution, all zero if the subject has no reviews
+     */
+    RatingDistribution getRatingDistribution(String subjectId, String subjectType);
+
+    /**
+     * Get the festival-wide star histogram, median and p90 rating per subject type.
+     *
+     * @return one distribution per subject type with reviews
+     */
+    List<RatingDistribution> getRatingDistributionsBySubjectType();
+
+    /**
+     * Get review count and average rating for many subjects with one lookup.
+     *
+     * @param subjects the subjects, at most 1000
+     * @return statistics in request order, zero for subjects without reviews
+     */
+    List<SubjectStats> getStatsForSubjects(List<SubjectRef> subjects);
+
     /**
      * Validate if a subject exists in the Festival Application.
      *
@@ -117,4 +169,14 @@ public interface ReviewService {
      * @return true if subject exists, false otherwise
      */
     boolean validateSubjectExists(String subjectId, String subjectType);
+
+    /**
+     * Apply DJ and performance changes from the Festival Application: purge the reviews
+     * and rating summaries of deleted subjects and drop cached existence answers. Events
+     * not newer than the last one applied for their subject are skipped.
+     *
+     * @param events the changes, in sequence order
+     * @return number of events received and skipped, and reviews purged
+     */
+    CatalogEventsResult applyCatalogEvents(List<CatalogEvent> events);
 }
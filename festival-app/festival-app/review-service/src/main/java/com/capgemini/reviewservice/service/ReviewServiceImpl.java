@@ -1,49 +1,103 @@
 package com.capgemini.reviewservice.service;
 
+import com.capgemini.reviewservice.config.MetricsConfig;
+import com.capgemini.reviewservice.dto.CatalogEvent;
+import com.capgemini.reviewservice.dto.CatalogEventsResult;
+import com.capgemini.reviewservice.dto.CursorPage;
+import com.capgemini.reviewservice.dto.RatingDistribution;
 import com.capgemini.reviewservice.dto.ReviewDto;
+import com.capgemini.reviewservice.dto.SubjectRef;
+import com.capgemini.reviewservice.dto.SubjectStats;
+import com.capgemini.reviewservice.entity.CatalogSequence;
+import com.capgemini.reviewservice.entity.RatingSummary;
 import com.capgemini.reviewservice.entity.Review;
 import com.capgemini.reviewservice.exception.ResourceNotFoundException;
 import com.capgemini.reviewservice.exception.BadRequestException;
 import com.capgemini.reviewservice.mapper.ReviewMapper;
+import com.capgemini.reviewservice.repository.CatalogSequenceRepository;
+import com.capgemini.reviewservice.repository.RatingSummaryRepository;
+import com.capgemini.reviewservice.repository.ReviewFeedRepository.FeedPosition;
 import com.capgemini.reviewservice.repository.ReviewRepository;
 import com.capgemini.reviewservice.service.external.FestivalServiceClient;
+import com.capgemini.reviewservice.service.external.SubjectExistence;
+import com.capgemini.reviewservice.service.external.SubjectFilterReplica;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.OptionalDouble;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 /**
  * Service implementation for Review business logic.
  * Handles all review-related operations including validation and external service communication.
+ *
+ * Every review write also adjusts the subject's RatingSummary with an atomic $inc, so
+ * averages, counts and stats are read from one document per subject. Updates and deletes
+ * take the rating to move from the document they atomically replaced or removed, so
+ * concurrent writes to one review cannot count it twice. The review and the counter
+ * update are two writes; SubjectStatsRebuildJob repairs a summary if the second fails.
+ *
+ * Subjects are checked against the local SubjectFilterReplica first; only subjects it
+ * may contain are confirmed with the Festival Application. Catalog events pushed by the
+ * Festival Application purge the reviews of deleted subjects and refresh both checks;
+ * the last applied event sequence per subject keeps duplicates and stale events out.
  */
 @Service
+@Timed(MetricsConfig.SERVICE_TIMER)
 public class ReviewServiceImpl implements ReviewService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ReviewServiceImpl.class);
+
+    // Upper bound on subjects per stats batch, keeps the $in lists and the response small
+    static final int MAX_STATS_BATCH = 1000;
+
     private final ReviewRepository reviewRepository;
+    private final RatingSummaryRepository ratingSummaryRepository;
+    private final CatalogSequenceRepository catalogSequenceRepository;
     private final ReviewMapper reviewMapper;
     private final FestivalServiceClient festivalServiceClient;
+    private final SubjectFilterReplica subjectFilterReplica;
 
     public ReviewServiceImpl(ReviewRepository reviewRepository, 
+                           RatingSummaryRepository ratingSummaryRepository,
+                           CatalogSequenceRepository catalogSequenceRepository,
                            ReviewMapper reviewMapper,
-                           FestivalServiceClient festivalServiceClient) {
+                           FestivalServiceClient festivalServiceClient,
+                           SubjectFilterReplica subjectFilterReplica) {
         this.reviewRepository = reviewRepository;
+        this.ratingSummaryRepository = ratingSummaryRepository;
+        this.catalogSequenceRepository = catalogSequenceRepository;
         this.reviewMapper = reviewMapper;
         this.festivalServiceClient = festivalServiceClient;
+        this.subjectFilterReplica = subjectFilterReplica;
     }
 
     @Override
     public Review create(ReviewDto reviewDto) {
         // Validate that the subject exists in the Festival Application
         // Note: Validation is lenient - if validation service is unavailable, we allow the review
-        boolean subjectExists = validateSubjectExists(reviewDto.getSubjectId(), reviewDto.getSubjectType());
-        if (!subjectExists) {
+        SubjectExistence existence = lookupSubject(reviewDto.getSubjectId(), reviewDto.getSubjectType());
+        if (existence == SubjectExistence.NOT_FOUND) {
+            throw new BadRequestException("Subject with ID " + reviewDto.getSubjectId() +
+                                        " and type " + reviewDto.getSubjectType() + " does not exist");
+        }
+        if (existence == SubjectExistence.UNKNOWN) {
             System.out.println("Warning: Could not validate subject existence for " + 
                              reviewDto.getSubjectType() + " with ID " + reviewDto.getSubjectId() + 
                              ". Proceeding with review creation.");
         }
 
         Review review = reviewMapper.toEntity(reviewDto);
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        ratingSummaryRepository.increment(saved.getSubjectType(), saved.getSubjectId(), saved.getRating(), 1);
+        return saved;
     }
 
     @Override
@@ -61,15 +115,26 @@ public class ReviewServiceImpl implements ReviewService {
 
         reviewMapper.updateEntityFromDto(reviewDto, existingReview);
         existingReview.updateTimestamp();
-        return reviewRepository.save(existingReview);
+        // The replaced document, not the read above: a concurrent update may have changed it since
+        Review previous = reviewRepository.replace(existingReview)
+                .orElseThrow(() -> new ResourceNotFoundException("Review not found with ID: " + id));
+        Review saved = existingReview;
+
+        // Move the review between star buckets (or subjects) only if it changed
+        if (!previous.getRating().equals(saved.getRating()) || !previous.getSubjectType().equals(saved.getSubjectType())
+                || !previous.getSubjectId().equals(saved.getSubjectId())) {
+            ratingSummaryRepository.increment(previous.getSubjectType(), previous.getSubjectId(), previous.getRating(), -1);
+            ratingSummaryRepository.increment(saved.getSubjectType(), saved.getSubjectId(), saved.getRating(), 1);
+        }
+        return saved;
     }
 
     @Override
     public void delete(String id) {
-        if (!reviewRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Review not found with ID: " + id);
-        }
-        reviewRepository.deleteById(id);
+        // Only the request that actually removed the review decrements its summary
+        Review removed = reviewRepository.removeById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Review not found with ID: " + id));
+        ratingSummaryRepository.increment(removed.getSubjectType(), removed.getSubjectId(), removed.getRating(), -1);
     }
 
     @Override
@@ -79,63 +144,200 @@ public class ReviewServiceImpl implements ReviewService {
     }
 
     @Override
-    public List<Review> getAll() {
-        return reviewRepository.findAll();
+    public CursorPage<Review> getAll(String cursor, Integer limit) {
+        return page(reviewRepository.findFeed(KeysetCursor.decode(cursor), KeysetCursor.limit(limit)));
     }
 
     @Override
-    public List<Review> getReviewsForSubject(String subjectId, String subjectType) {
-        return reviewRepository.findBySubjectIdAndSubjectType(subjectId, subjectType);
+    public CursorPage<Review> getReviewsForSubject(String subjectId, String subjectType, String cursor, Integer limit) {
+        return page(reviewRepository.findFeedBySubject(subjectType, subjectId,
+                KeysetCursor.decode(cursor), KeysetCursor.limit(limit)));
     }
 
     @Override
-    public List<Review> getReviewsBySubjectType(String subjectType) {
-        return reviewRepository.findBySubjectType(subjectType);
+    public CursorPage<Review> getReviewsBySubjectType(String subjectType, String cursor, Integer limit) {
+        return page(reviewRepository.findFeedBySubjectType(subjectType,
+                KeysetCursor.decode(cursor), KeysetCursor.limit(limit)));
     }
 
     @Override
-    public List<Review> getReviewsByReviewer(String reviewerName) {
-        return reviewRepository.findByReviewerName(reviewerName);
+    public CursorPage<Review> getReviewsByReviewer(String reviewerName, String cursor, Integer limit) {
+        return page(reviewRepository.findFeedByReviewer(reviewerName,
+                KeysetCursor.decode(cursor), KeysetCursor.limit(limit)));
     }
 
     @Override
-    public List<Review> getReviewsByRating(Integer rating) {
-        return reviewRepository.findByRating(rating);
+    public CursorPage<Review> getReviewsByRating(Integer rating, String cursor, Integer limit) {
+        return page(reviewRepository.findFeedByRatings(List.of(rating),
+                KeysetCursor.decode(cursor), KeysetCursor.limit(limit)));
     }
 
     @Override
-    public List<Review> getReviewsWithMinRating(Integer rating) {
-        return reviewRepository.findByRatingGreaterThanEqual(rating);
+    public CursorPage<Review> getReviewsWithMinRating(Integer rating, String cursor, Integer limit) {
+        // Listed as separate ratings so each one is an ordered range of rating_feed_idx
+        List<Integer> ratings = IntStream.rangeClosed(Math.max(rating, 1), RatingSummary.MAX_RATING).boxed().toList();
+        return page(reviewRepository.findFeedByRatings(ratings,
+                KeysetCursor.decode(cursor), KeysetCursor.limit(limit)));
+    }
+
+    private static CursorPage<Review> page(Slice<Review> slice) {
+        List<Review> reviews = slice.getContent();
+        String next = slice.hasNext() ? KeysetCursor.encode(FeedPosition.of(reviews.get(reviews.size() - 1))) : null;
+        return new CursorPage<>(reviews, next);
     }
 
     @Override
     public Double getAverageRating(String subjectId, String subjectType) {
-        List<Review> reviews = reviewRepository.findBySubjectIdAndSubjectType(subjectId, subjectType);
-        
-        if (reviews.isEmpty()) {
-            return 0.0;
-        }
-
-        OptionalDouble average = reviews.stream()
-                .mapToInt(Review::getRating)
-                .average();
-        
-        return average.orElse(0.0);
+        return getRatingSummary(subjectId, subjectType).getAverageRating();
     }
 
     @Override
     public long getReviewCount(String subjectId, String subjectType) {
-        return reviewRepository.countBySubjectIdAndSubjectType(subjectId, subjectType);
+        return getRatingSummary(subjectId, subjectType).getCount();
+    }
+
+    @Override
+    public RatingSummary getRatingSummary(String subjectId, String subjectType) {
+        return ratingSummaryRepository.findById(RatingSummary.key(subjectType, subjectId))
+                .orElseGet(() -> new RatingSummary(subjectType, subjectId));
+    }
+
+    @Override
+    public RatingDistribution getRatingDistribution(String subjectId, String subjectType) {
+        return RatingDistribution.of(subjectType, subjectId, getRatingSummary(subjectId, subjectType).getHistogram());
+    }
+
+    @Override
+    public List<RatingDistribution> getRatingDistributionsBySubjectType() {
+        return ratingSummaryRepository.sumBySubjectType().stream()
+                .map(total -> RatingDistribution.of(total.getSubjectType(), null, total.getHistogram()))
+                .toList();
+    }
+
+    @Override
+    public List<SubjectStats> getStatsForSubjects(List<SubjectRef> subjects) {
+        if (subjects == null || subjects.isEmpty()) {
+            throw new BadRequestException("Stats batch requires at least one subject.");
+        }
+        if (subjects.size() > MAX_STATS_BATCH) {
+            throw new BadRequestException(
+                "Stats batch is limited to " + MAX_STATS_BATCH + " subjects per request, got " + subjects.size() + "."
+            );
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+        for (SubjectRef subject : subjects) {
+            if (subject == null || subject.subjectId() == null || subject.subjectId().isBlank()
+                    || !isSubjectType(subject.subjectType())) {
+                throw new BadRequestException(
+                    "Invalid subject " + subject + ". Subject type must be DJ or PERFORMANCE and subject ID is required."
+                );
+            }
+            keys.add(RatingSummary.key(subject.subjectType().toUpperCase(), subject.subjectId()));
+        }
+
+        Map<String, RatingSummary> found = new HashMap<>();
+        for (RatingSummary summary : ratingSummaryRepository.findAllById(keys)) {
+            found.put(summary.getId(), summary);
+        }
+
+        // Answer in request order; subjects without reviews get zeros, like getAverageRating
+        return subjects.stream()
+                .map(subject -> {
+                    String type = subject.subjectType().toUpperCase();
+                    RatingSummary summary = found.get(RatingSummary.key(type, subject.subjectId()));
+                    if (summary == null) {
+                        return new SubjectStats(type, subject.subjectId(), 0.0, 0L);
+                    }
+                    // Rounded to 2 decimal places like /stats/{subjectType}/{subjectId}
+                    return new SubjectStats(type, subject.subjectId(),
+                            Math.round(summary.getAverageRating() * 100.0) / 100.0, summary.getCount());
+                })
+                .toList();
+    }
+
+    private static boolean isSubjectType(String subjectType) {
+        return "DJ".equalsIgnoreCase(subjectType) || "PERFORMANCE".equalsIgnoreCase(subjectType);
     }
 
     @Override
     public boolean validateSubjectExists(String subjectId, String subjectType) {
         try {
-            return festivalServiceClient.subjectExists(subjectId, subjectType);
+            return lookupSubject(subjectId, subjectType) == SubjectExistence.EXISTS;
         } catch (Exception e) {
             // Log the error and assume subject doesn't exist for safety
             System.err.println("Error validating subject existence: " + e.getMessage());
             return false;
         }
     }
+
+    /**
+     * Applies a batch with one bulk delete per subject type. Events at or below the last
+     * sequence applied for their subject are skipped, so a batch delivered twice, or an old
+     * event arriving after a newer one, has no effect.
+     */
+    @Override
+    public CatalogEventsResult applyCatalogEvents(List<CatalogEvent> events) {
+        List<CatalogEvent> known = events.stream()
+                .filter(event -> event.subjectType() != null && isSubjectType(event.subjectType()))
+                .toList();
+        Map<String, Long> applied = new HashMap<>();
+        catalogSequenceRepository.findAllById(known.stream()
+                        .map(event -> CatalogSequence.key(event.subjectType().toUpperCase(), event.subjectId()))
+                        .distinct()
+                        .toList())
+                .forEach(sequence -> applied.put(sequence.getId(), sequence.getSequence()));
+
+        Map<String, Set<String>> deletedIds = new HashMap<>();
+        Set<SubjectRef> changed = new LinkedHashSet<>();
+        Set<SubjectRef> created = new LinkedHashSet<>();
+        Map<String, Long> advanced = new HashMap<>();
+        int skipped = 0;
+        for (CatalogEvent event : known) {
+            SubjectRef subject = new SubjectRef(event.subjectType().toUpperCase(), event.subjectId());
+            String key = CatalogSequence.key(subject.subjectType(), subject.subjectId());
+            Long last = applied.get(key);
+            if (last != null && event.sequence() <= last) {
+                skipped++;
+                continue;
+            }
+            applied.put(key, event.sequence());
+            advanced.put(key, event.sequence());
+            changed.add(subject);
+            if (CatalogEvent.DELETED.equals(event.type())) {
+                deletedIds.computeIfAbsent(subject.subjectType(), type -> new LinkedHashSet<>()).add(subject.subjectId());
+            } else if (CatalogEvent.CREATED.equals(event.type())) {
+                created.add(subject);
+            }
+        }
+
+        long purged = 0;
+        for (Map.Entry<String, Set<String>> deleted : deletedIds.entrySet()) {
+            String type = deleted.getKey();
+            purged += reviewRepository.deleteBySubjectTypeAndSubjectIdIn(type, deleted.getValue());
+            ratingSummaryRepository.deleteAllById(deleted.getValue().stream()
+                    .map(subjectId -> RatingSummary.key(type, subjectId))
+                    .toList());
+        }
+        festivalServiceClient.invalidateSubjects(changed);
+        subjectFilterReplica.addAll(created);
+        // Recorded last: if applying fails, the redelivered batch is applied again
+        catalogSequenceRepository.advance(advanced);
+
+        if (purged > 0) {
+            logger.info("Purged {} reviews of {} deleted subjects", purged,
+                    deletedIds.values().stream().mapToInt(Set::size).sum());
+        }
+        if (skipped > 0) {
+            logger.debug("Skipped {} duplicate or outdated catalog events", skipped);
+        }
+        return new CatalogEventsResult(events.size(), skipped, purged);
+    }
+
+    private SubjectExistence lookupSubject(String subjectId, String subjectType) {
+        if (!subjectFilterReplica.mightContain(subjectId, subjectType)) {
+            return SubjectExistence.NOT_FOUND;
+        }
+        return festivalServiceClient.lookupSubject(subjectId, subjectType);
+    }
 }
@@ -0,0 +1,54 @@
+package com.capgemini.reviewservice.service;
+
+import com.capgemini.reviewservice.entity.RatingSummary;
+import com.capgemini.reviewservice.repository.RatingSummaryRepository;
+import com.capgemini.reviewservice.repository.ReviewRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Recomputes subject_stats from the reviews.
+ *
+ * The summaries are maintained incrementally by ReviewServiceImpl; they drift only if a
+ * counter update fails after its review was written, or if reviews are changed directly
+ * in the database. The nightly rebuild repairs that. It also runs once at startup when
+ * there are reviews but no summaries yet, e.g. right after this collection was introduced.
+ *
+ * A review written while the rebuild runs may be missing from the rebuilt summary
+ * until the next rebuild, so schedule it for a quiet hour.
+ */
+@Component
+public class SubjectStatsRebuildJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubjectStatsRebuildJob.class);
+
+    private final ReviewRepository reviewRepository;
+    private final RatingSummaryRepository ratingSummaryRepository;
+
+    public SubjectStatsRebuildJob(ReviewRepository reviewRepository, RatingSummaryRepository ratingSummaryRepository) {
+        this.reviewRepository = reviewRepository;
+        this.ratingSummaryRepository = ratingSummaryRepository;
+    }
+
+    @Scheduled(cron = "${review.stats.rebuild.cron:0 30 4 * * *}")
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Collection<RatingSummary> summaries = reviewRepository.aggregateRatingSummaries();
+        long removed = ratingSummaryRepository.replaceAll(summaries);
+        logger.info("Rebuilt {} subject rating summaries ({} removed) in {} ms",
+                summaries.size(), removed, System.currentTimeMillis() - start);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        if (ratingSummaryRepository.count() == 0 && reviewRepository.count() > 0) {
+            rebuild();
+        }
+    }
+}
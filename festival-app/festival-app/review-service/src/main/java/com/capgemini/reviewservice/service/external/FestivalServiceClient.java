@@ -1,28 +1,80 @@
 package com.capgemini.reviewservice.service.external;
 
+import com.capgemini.reviewservice.dto.SubjectFilter;
+import com.capgemini.reviewservice.dto.SubjectRef;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.time.Duration;
+import java.util.Collection;
 
 /**
  * Client service for communicating with the Festival Application.
  * Uses WebClient to make HTTP calls to validate DJs and Performances.
+ *
+ * Existence checks send HEAD requests, which the Festival Application answers from the
+ * primary key without loading or serializing the entity. Answers are kept in a bounded
+ * Caffeine cache: existing subjects for festival.client.exists-cache.positive-ttl, missing
+ * ones for the much shorter negative-ttl so a DJ created a moment later becomes reviewable
+ * soon. Failed lookups are never cached. Hit/miss counts are published as cache.* metrics
+ * tagged cache=subjectExistence, plus a festival.client.exists.cache.hit.ratio gauge.
  */
 @Service
 public class FestivalServiceClient {
 
+    public static final String EXISTENCE_CACHE = "subjectExistence";
+
+    private static final Logger logger = LoggerFactory.getLogger(FestivalServiceClient.class);
+
     private final WebClient webClient;
     private final String festivalServiceUrl;
+    private final Duration existsTimeout;
+    private final Cache<String, SubjectExistence> existenceCache;
 
+    @Autowired
     public FestivalServiceClient(WebClient.Builder webClientBuilder,
-                               @Value("${festival.service.url:http://localhost:9090}") String festivalServiceUrl) {
+                               @Value("${festival.service.url:http://localhost:9090}") String festivalServiceUrl,
+                               MeterRegistry meterRegistry,
+                               @Value("${festival.client.exists-timeout:2s}") Duration existsTimeout,
+                               @Value("${festival.client.exists-cache.max-size:10000}") long cacheMaxSize,
+                               @Value("${festival.client.exists-cache.positive-ttl:10m}") Duration positiveTtl,
+                               @Value("${festival.client.exists-cache.negative-ttl:30s}") Duration negativeTtl) {
+        this(webClientBuilder, festivalServiceUrl, meterRegistry, existsTimeout,
+                cacheMaxSize, positiveTtl, negativeTtl, Ticker.systemTicker());
+    }
+
+    FestivalServiceClient(WebClient.Builder webClientBuilder, String festivalServiceUrl, MeterRegistry meterRegistry,
+                          Duration existsTimeout, long cacheMaxSize, Duration positiveTtl, Duration negativeTtl,
+                          Ticker ticker) {
         this.festivalServiceUrl = festivalServiceUrl;
         this.webClient = webClientBuilder
                 .baseUrl(festivalServiceUrl)
                 .build();
+        this.existsTimeout = existsTimeout;
+        this.existenceCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new ExistenceExpiry(positiveTtl, negativeTtl))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, existenceCache, EXISTENCE_CACHE);
+        Gauge.builder("festival.client.exists.cache.hit.ratio", existenceCache, cache -> cache.stats().hitRate())
+                .description("Share of subject existence checks answered from the cache")
+                .register(meterRegistry);
     }
 
     /**
@@ -30,27 +82,65 @@ public class FestivalServiceClient {
      *
      * @param subjectId the ID of the subject
      * @param subjectType the type of subject ("DJ" or "PERFORMANCE")
-     * @return true if subject exists, false otherwise
+     * @return true if subject exists, false if it does not or the check failed
      */
     public boolean subjectExists(String subjectId, String subjectType) {
+        return lookupSubject(subjectId, subjectType) == SubjectExistence.EXISTS;
+    }
+
+    /**
+     * Look up whether a subject exists, from the cache or with a HEAD request.
+     *
+     * @param subjectId the ID of the subject
+     * @param subjectType the type of subject ("DJ" or "PERFORMANCE")
+     * @return EXISTS or NOT_FOUND, or UNKNOWN if the Festival Application could not be asked
+     */
+    public SubjectExistence lookupSubject(String subjectId, String subjectType) {
+        String endpoint;
         try {
-            String endpoint = buildEndpoint(subjectType, subjectId);
-            
-            webClient.get()
-                    .uri(endpoint)
+            endpoint = buildEndpoint(subjectType);
+        } catch (IllegalArgumentException e) {
+            return SubjectExistence.NOT_FOUND;
+        }
+
+        String key = subjectType.toUpperCase() + ":" + subjectId;
+        SubjectExistence cached = existenceCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        SubjectExistence existence = headSubject(endpoint, subjectId);
+        if (existence != SubjectExistence.UNKNOWN) {
+            existenceCache.put(key, existence);
+        }
+        return existence;
+    }
+
+    /**
+     * Drop cached existence answers, e.g. for subjects the Festival Application reported as changed.
+     *
+     * @param subjects the subjects to forget
+     */
+    public void invalidateSubjects(Collection<SubjectRef> subjects) {
+        existenceCache.invalidateAll(subjects.stream()
+                .map(subject -> subject.subjectType().toUpperCase() + ":" + subject.subjectId())
+                .toList());
+    }
+
+    private SubjectExistence headSubject(String endpoint, String subjectId) {
+        try {
+            webClient.head()
+                    .uri(endpoint, subjectId)
                     .retrieve()
-                    .bodyToMono(String.class)
-                    .timeout(Duration.ofSeconds(5))
+                    .toBodilessEntity()
+                    .timeout(existsTimeout)
                     .block();
-            
-            return true; // If we get here, the subject exists
-            
+            return SubjectExistence.EXISTS;
         } catch (WebClientResponseException.NotFound e) {
-            return false; // Subject doesn't exist
+            return SubjectExistence.NOT_FOUND;
         } catch (Exception e) {
-            // Log error and return false for safety
-            System.err.println("Error checking subject existence: " + e.getMessage());
-            return false;
+            logger.warn("Error checking subject existence: {}", e.getMessage());
+            return SubjectExistence.UNKNOWN;
         }
     }
 
@@ -63,10 +153,10 @@ public class FestivalServiceClient {
      */
     public String getSubjectDetails(String subjectId, String subjectType) {
         try {
-            String endpoint = buildEndpoint(subjectType, subjectId);
+            String endpoint = buildEndpoint(subjectType);
             
             return webClient.get()
-                    .uri(endpoint)
+                    .uri(endpoint, subjectId)
                     .retrieve()
                     .bodyToMono(String.class)
                     .timeout(Duration.ofSeconds(10))
@@ -81,18 +171,39 @@ public class FestivalServiceClient {
     }
 
     /**
-     * Build the appropriate endpoint URL based on subject type.
+     * Fetch the Bloom filter of all subject ids, revalidating the copy the caller has.
+     *
+     * @param eTag ETag of the caller's copy, or null if it has none
+     * @return the response: 200 with a new filter, or 304 without a body if the copy is current
+     */
+    public ResponseEntity<SubjectFilter> fetchSubjectFilter(String eTag) {
+        return webClient.get()
+                .uri("/api/subjects/filter")
+                .headers(headers -> {
+                    if (eTag != null) {
+                        headers.setIfNoneMatch(eTag);
+                    }
+                })
+                .retrieve()
+                .toEntity(SubjectFilter.class)
+                .timeout(Duration.ofSeconds(10))
+                .block();
+    }
+
+    /**
+     * Build the appropriate endpoint URI template based on subject type.
+     * A template rather than the expanded path keeps the uri tag of the
+     * http.client.requests metric to one value per endpoint.
      *
      * @param subjectType the type of subject
-     * @param subjectId the ID of the subject
-     * @return the endpoint URL
+     * @return the endpoint URI template, with the subject ID as its variable
      */
-    private String buildEndpoint(String subjectType, String subjectId) {
+    private String buildEndpoint(String subjectType) {
         switch (subjectType.toUpperCase()) {
             case "DJ":
-                return "/api/djs/" + subjectId;
+                return "/api/djs/{id}";
             case "PERFORMANCE":
-                return "/api/performances/" + subjectId;
+                return "/api/performances/{id}";
             default:
                 throw new IllegalArgumentException("Invalid subject type: " + subjectType);
         }
@@ -118,4 +229,27 @@ public class FestivalServiceClient {
             return false;
         }
     }
+
+    /**
+     * Keeps a cached answer for positiveTtl if the subject exists and negativeTtl if not;
+     * reads do not extend the lifetime.
+     */
+    private record ExistenceExpiry(Duration positiveTtl, Duration negativeTtl)
+            implements Expiry<String, SubjectExistence> {
+
+        @Override
+        public long expireAfterCreate(String key, SubjectExistence value, long currentTime) {
+            return (value == SubjectExistence.EXISTS ? positiveTtl : negativeTtl).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, SubjectExistence value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, SubjectExistence value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,123 @@
+package com.capgemini.reviewservice.service.external;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Bloom filter over subject keys ("DJ:<id>", "PERFORMANCE:<id>").
+ *
+ * The Festival Application builds the filter it publishes at /api/subjects/filter with
+ * its own copy of this class, so the key format, the hashing and the bit layout below
+ * are a wire format: change them in both services together.
+ * Each key is hashed with 64-bit FNV-1a over its UTF-8 bytes; two Murmur3 finalizer
+ * mixes of that hash give h1 and h2 (h2 forced odd), and probe i sets bit
+ * (h1 + i * h2) mod bitCount. Bits are serialized as big-endian longs.
+ */
+public final class SubjectBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final long[] words;
+    private final long bitCount;
+    private final int hashFunctions;
+
+    private SubjectBloomFilter(long[] words, int hashFunctions) {
+        this.words = words;
+        this.bitCount = (long) words.length * Long.SIZE;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Sizes a filter for the given number of subjects and false-positive rate.
+     * A filter that would exceed maxBits is capped, at the cost of a higher rate.
+     */
+    public static SubjectBloomFilter create(int expectedSubjects, double falsePositiveRate, long maxBits) {
+        int n = Math.max(expectedSubjects, 1);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+        bits = Math.max(Long.SIZE, Math.min(bits, maxBits));
+        int words = (int) ((bits + Long.SIZE - 1) / Long.SIZE);
+        int hashFunctions = (int) Math.max(1, Math.round((double) words * Long.SIZE / n * LN2));
+        return new SubjectBloomFilter(new long[words], hashFunctions);
+    }
+
+    public static SubjectBloomFilter fromBits(String base64Bits, int hashFunctions) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(base64Bits));
+        long[] words = new long[buffer.remaining() / Long.BYTES];
+        buffer.asLongBuffer().get(words);
+        return new SubjectBloomFilter(words, hashFunctions);
+    }
+
+    /**
+     * Independent copy with the same bits, for adding subjects without touching a filter
+     * other threads may be reading.
+     */
+    public SubjectBloomFilter copy() {
+        return new SubjectBloomFilter(words.clone(), hashFunctions);
+    }
+
+    public void put(String subjectType, String subjectId) {
+        long[] hashes = hash(subjectType, subjectId);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    public boolean mightContain(String subjectType, String subjectId) {
+        long[] hashes = hash(subjectType, subjectId);
+        for (int i = 0; i < hashFunctions; i++) {
+            long bit = Math.floorMod(hashes[0] + i * hashes[1], bitCount);
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Expected false-positive rate once the given number of subjects has been added.
+     */
+    public double falsePositiveRate(int subjects) {
+        return Math.pow(1 - Math.exp(-(double) hashFunctions * subjects / bitCount), hashFunctions);
+    }
+
+    public String toBase64() {
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES);
+        buffer.asLongBuffer().put(words);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    public long getBitCount() {
+        return bitCount;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    public int getSizeBytes() {
+        return words.length * Long.BYTES;
+    }
+
+    private static long[] hash(String subjectType, String subjectId) {
+        byte[] key = (subjectType.toUpperCase() + ":" + subjectId).getBytes(StandardCharsets.UTF_8);
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        // h2 is odd: bitCount is a multiple of 64, an even step would skip half the bits
+        return new long[] {mix(hash), mix(hash ^ 0x9E3779B97F4A7C15L) | 1L};
+    }
+
+    // Murmur3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,12 @@
+package com.capgemini.reviewservice.service.external;
+
+/**
+ * Outcome of asking the Festival Application whether a DJ or Performance exists.
+ * UNKNOWN means the question could not be answered (timeout, connection error, 5xx),
+ * so callers decide themselves whether to proceed.
+ */
+public enum SubjectExistence {
+    EXISTS,
+    NOT_FOUND,
+    UNKNOWN
+}
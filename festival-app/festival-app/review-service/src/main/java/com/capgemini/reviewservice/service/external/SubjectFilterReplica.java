@@ -0,0 +1,215 @@
+package com.capgemini.reviewservice.service.external;
+
+import com.capgemini.reviewservice.dto.SubjectFilter;
+import com.capgemini.reviewservice.dto.SubjectRef;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Local copy of the Festival Application's Bloom filter of all DJ and performance ids.
+ *
+ * The filter is pulled every festival.subject-filter.refresh-interval with If-None-Match,
+ * so an unchanged catalog costs a 304 without a body. A subject the filter does not
+ * contain certainly did not exist at the last pull, and its review can be rejected
+ * without a network hop; a match may be a false positive and is confirmed with
+ * FestivalServiceClient. A subject created after the last pull is rejected until the
+ * next one, unless its creation was pushed as a catalog event first (addAll). If no
+ * pull has succeeded for festival.subject-filter.max-staleness the filter is bypassed and every check goes to FestivalServiceClient.
+ *
+ * Readers take the current snapshot without locking; a snapshot's filter is never
+ * modified once published. addAll and the end of a pull replace the snapshot while
+ * holding the replica's lock. Subjects pushed while a pull is in flight are kept and
+ * put into the pulled filter too, since it may have been built before they existed.
+ *
+ * Checks are counted as festival.subject.filter.checks by result (absent, present,
+ * bypassed); size, subject count, expected false-positive rate and age of the copy
+ * are published as festival.subject.filter.* gauges.
+ */
+@Component
+public class SubjectFilterReplica {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubjectFilterReplica.class);
+
+    private final FestivalServiceClient festivalServiceClient;
+    private final boolean enabled;
+    private final Duration maxStaleness;
+    private final Clock clock;
+    private final Counter absentChecks;
+    private final Counter presentChecks;
+    private final Counter bypassedChecks;
+
+    private volatile Snapshot snapshot;
+
+    // Subjects pushed since the running pull started, null between pulls; guarded by this
+    private Set<SubjectRef> pushedDuringPull;
+
+    @Autowired
+    public SubjectFilterReplica(FestivalServiceClient festivalServiceClient,
+                                MeterRegistry meterRegistry,
+                                @Value("${festival.subject-filter.enabled:true}") boolean enabled,
+                                @Value("${festival.subject-filter.max-staleness:2m}") Duration maxStaleness) {
+        this(festivalServiceClient, meterRegistry, enabled, maxStaleness, Clock.systemUTC());
+    }
+
+    SubjectFilterReplica(FestivalServiceClient festivalServiceClient, MeterRegistry meterRegistry,
+                         boolean enabled, Duration maxStaleness, Clock clock) {
+        this.festivalServiceClient = festivalServiceClient;
+        this.enabled = enabled;
+        this.maxStaleness = maxStaleness;
+        this.clock = clock;
+
+        this.absentChecks = checks(meterRegistry, "absent");
+        this.presentChecks = checks(meterRegistry, "present");
+        this.bypassedChecks = checks(meterRegistry, "bypassed");
+        Gauge.builder("festival.subject.filter.size", this, replica -> replica.gauge(SubjectFilter::sizeBytes))
+                .baseUnit("bytes")
+                .description("Size of the local subject filter")
+                .register(meterRegistry);
+        Gauge.builder("festival.subject.filter.subjects", this, replica -> replica.gauge(SubjectFilter::subjectCount))
+                .description("DJs and performances in the local subject filter")
+                .register(meterRegistry);
+        Gauge.builder("festival.subject.filter.false.positive.rate", this,
+                        replica -> replica.gauge(SubjectFilter::falsePositiveRate))
+                .description("Expected false-positive rate of the local subject filter")
+                .register(meterRegistry);
+        Gauge.builder("festival.subject.filter.age", this, SubjectFilterReplica::ageSeconds)
+                .baseUnit("seconds")
+                .description("Time since the subject filter was last pulled or revalidated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Pulls the filter if the Festival Application has a newer version.
+     * Failures keep the current copy; it is bypassed once it gets too old.
+     */
+    @Scheduled(fixedDelayString = "${festival.subject-filter.refresh-interval:PT15S}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        String eTag;
+        synchronized (this) {
+            eTag = snapshot != null ? snapshot.eTag() : null;
+            pushedDuringPull = new HashSet<>();
+        }
+        try {
+            ResponseEntity<SubjectFilter> response = festivalServiceClient.fetchSubjectFilter(eTag);
+            if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                revalidated();
+                return;
+            }
+            SubjectFilter filter = response.getBody();
+            if (filter != null) {
+                loaded(filter, SubjectBloomFilter.fromBits(filter.bits(), filter.hashFunctions()),
+                        response.getHeaders().getETag());
+            }
+        } catch (Exception e) {
+            logger.warn("Could not refresh subject filter: {}", e.getMessage());
+        } finally {
+            synchronized (this) {
+                pushedDuringPull = null;
+            }
+        }
+    }
+
+    /**
+     * Checks the local filter for a subject.
+     *
+     * @param subjectId the ID of the subject
+     * @param subjectType the type of subject ("DJ" or "PERFORMANCE")
+     * @return false if the subject certainly does not exist, true if it may exist
+     *         or the filter is disabled, not loaded yet or too old
+     */
+    public boolean mightContain(String subjectId, String subjectType) {
+        Snapshot current = snapshot;
+        if (current == null || current.syncedAt().plus(maxStaleness).isBefore(clock.instant())) {
+            bypassedChecks.increment();
+            return true;
+        }
+        if (current.bloomFilter().mightContain(subjectType, subjectId)) {
+            presentChecks.increment();
+            return true;
+        }
+        absentChecks.increment();
+        return false;
+    }
+
+    /**
+     * Adds subjects created since the last pull, so they pass before the next one.
+     * The filter is copied, not changed in place, and published as a new snapshot.
+     *
+     * @param subjects the new subjects
+     */
+    public synchronized void addAll(Collection<SubjectRef> subjects) {
+        if (subjects.isEmpty()) {
+            return;
+        }
+        if (pushedDuringPull != null) {
+            pushedDuringPull.addAll(subjects);
+        }
+        Snapshot current = snapshot;
+        if (current == null) {
+            return;
+        }
+        SubjectBloomFilter bloomFilter = current.bloomFilter().copy();
+        for (SubjectRef subject : subjects) {
+            bloomFilter.put(subject.subjectType(), subject.subjectId());
+        }
+        snapshot = new Snapshot(current.filter(), bloomFilter, current.eTag(), current.syncedAt());
+    }
+
+    // 304: the copy, including subjects added since it was pulled, is current again
+    private synchronized void revalidated() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            snapshot = new Snapshot(current.filter(), current.bloomFilter(), current.eTag(), clock.instant());
+        }
+    }
+
+    // The pulled filter is private to this thread until published, so subjects are put into it in place
+    private synchronized void loaded(SubjectFilter filter, SubjectBloomFilter bloomFilter, String eTag) {
+        for (SubjectRef subject : pushedDuringPull) {
+            bloomFilter.put(subject.subjectType(), subject.subjectId());
+        }
+        snapshot = new Snapshot(filter, bloomFilter, eTag, clock.instant());
+        logger.info("Subject filter {} loaded with {} subjects in {} bytes",
+                filter.version(), filter.subjectCount(), filter.sizeBytes());
+    }
+
+    private static Counter checks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("festival.subject.filter.checks")
+                .description("Subject existence checks answered by the local subject filter")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private double gauge(ToDoubleFunction<SubjectFilter> value) {
+        Snapshot current = snapshot;
+        return current != null ? value.applyAsDouble(current.filter()) : Double.NaN;
+    }
+
+    private double ageSeconds() {
+        Snapshot current = snapshot;
+        return current != null ? Duration.between(current.syncedAt(), clock.instant()).toMillis() / 1000.0 : Double.NaN;
+    }
+
+    private record Snapshot(SubjectFilter filter, SubjectBloomFilter bloomFilter, String eTag, Instant syncedAt) {
+    }
+}
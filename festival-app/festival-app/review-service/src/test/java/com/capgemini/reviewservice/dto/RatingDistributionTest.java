@@ -0,0 +1,73 @@
+package com.capgemini.reviewservice.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for RatingDistribution.
+ * Large synthetic rating sets are checked against percentiles of the sorted ratings.
+ */
+class RatingDistributionTest {
+
+    @Test
+    void shouldMatchSortedRatingsForLargeSyntheticSets() {
+        Random random = new Random(7);
+        for (int size : new int[] {1, 2, 10, 999, 100_000, 1_000_000}) {
+            // Given: skewed towards 4 and 5 stars, like real festival reviews
+            int[] ratings = new int[size];
+            Map<Integer, Long> histogram = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                int roll = random.nextInt(100);
+                ratings[i] = roll < 5 ? 1 : roll < 12 ? 2 : roll < 30 ? 3 : roll < 65 ? 4 : 5;
+                histogram.merge(ratings[i], 1L, Long::sum);
+            }
+            Arrays.sort(ratings);
+
+            // When
+            RatingDistribution result = RatingDistribution.of("DJ", "dj-1", histogram);
+
+            // Then
+            assertEquals(size, result.reviewCount());
+            assertEquals(nearestRank(ratings, 50), result.median(), "median of " + size);
+            assertEquals(nearestRank(ratings, 90), result.p90(), "p90 of " + size);
+            assertEquals(Math.round(Arrays.stream(ratings).average().orElseThrow() * 100.0) / 100.0,
+                    result.averageRating(), "average of " + size);
+        }
+    }
+
+    @Test
+    void shouldListAllStarsAndReturnZerosWithoutReviews() {
+        // When
+        RatingDistribution result = RatingDistribution.of("PERFORMANCE", "perf-1", Map.of());
+
+        // Then
+        assertEquals(Map.of(1, 0L, 2, 0L, 3, 0L, 4, 0L, 5, 0L), result.histogram());
+        assertEquals(0, result.median());
+        assertEquals(0, result.p90());
+        assertEquals(0.0, result.averageRating());
+    }
+
+    @Test
+    void shouldUseNearestRankAtBucketBoundaries() {
+        // Given: exactly half 1-star and half 5-star, nine 5s after one 1 for p90
+        RatingDistribution evenSplit = RatingDistribution.of("DJ", "dj-1", Map.of(1, 50L, 5, 50L));
+        RatingDistribution oneLow = RatingDistribution.of("DJ", "dj-2", Map.of(1, 1L, 5, 9L));
+
+        // Then
+        assertEquals(1, evenSplit.median());
+        assertEquals(5, evenSplit.p90());
+        assertEquals(5, oneLow.median());
+        assertEquals(5, oneLow.p90());
+    }
+
+    private static int nearestRank(int[] sorted, int percent) {
+        int rank = (int) Math.ceil(sorted.length * percent / 100.0);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
@@ -1,22 +1,40 @@
 package com.capgemini.reviewservice.service;
 
+import com.capgemini.reviewservice.dto.CatalogEvent;
+import com.capgemini.reviewservice.dto.CatalogEventsResult;
+import com.capgemini.reviewservice.dto.CursorPage;
+import com.capgemini.reviewservice.dto.RatingDistribution;
 import com.capgemini.reviewservice.dto.ReviewDto;
+import com.capgemini.reviewservice.dto.SubjectRef;
+import com.capgemini.reviewservice.dto.SubjectStats;
+import com.capgemini.reviewservice.entity.CatalogSequence;
+import com.capgemini.reviewservice.entity.RatingSummary;
 import com.capgemini.reviewservice.entity.Review;
 import com.capgemini.reviewservice.exception.ResourceNotFoundException;
 import com.capgemini.reviewservice.exception.BadRequestException;
 import com.capgemini.reviewservice.mapper.ReviewMapper;
+import com.capgemini.reviewservice.repository.CatalogSequenceRepository;
+import com.capgemini.reviewservice.repository.RatingSummaryRepository;
+import com.capgemini.reviewservice.repository.ReviewFeedRepository.FeedPosition;
 import com.capgemini.reviewservice.repository.ReviewRepository;
 import com.capgemini.reviewservice.service.external.FestivalServiceClient;
+import com.capgemini.reviewservice.service.external.SubjectExistence;
+import com.capgemini.reviewservice.service.external.SubjectFilterReplica;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
-import java.util.Arrays;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -31,12 +49,21 @@ class ReviewServiceTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private RatingSummaryRepository ratingSummaryRepository;
+
+    @Mock
+    private CatalogSequenceRepository catalogSequenceRepository;
+
     @Mock
     private ReviewMapper reviewMapper;
 
     @Mock
     private FestivalServiceClient festivalServiceClient;
 
+    @Mock
+    private SubjectFilterReplica subjectFilterReplica;
+
     @InjectMocks
     private ReviewServiceImpl reviewService;
 
@@ -53,7 +80,8 @@ class ReviewServiceTest {
     @Test
     void shouldCreateReview() {
         // Given
-        when(festivalServiceClient.subjectExists("dj-1", "DJ")).thenReturn(true);
+        when(subjectFilterReplica.mightContain("dj-1", "DJ")).thenReturn(true);
+        when(festivalServiceClient.lookupSubject("dj-1", "DJ")).thenReturn(SubjectExistence.EXISTS);
         when(reviewMapper.toEntity(testReviewDto)).thenReturn(testReview);
         when(reviewRepository.save(testReview)).thenReturn(testReview);
 
@@ -63,21 +91,50 @@ class ReviewServiceTest {
         // Then
         assertNotNull(result);
         assertEquals(testReview.getId(), result.getId());
-        verify(festivalServiceClient).subjectExists("dj-1", "DJ");
+        verify(festivalServiceClient).lookupSubject("dj-1", "DJ");
         verify(reviewRepository).save(testReview);
+        verify(ratingSummaryRepository).increment("DJ", "dj-1", 5, 1);
     }
 
     @Test
     void shouldThrowBadRequestWhenSubjectDoesNotExist() {
         // Given
-        when(festivalServiceClient.subjectExists("dj-1", "DJ")).thenReturn(false);
+        when(subjectFilterReplica.mightContain("dj-1", "DJ")).thenReturn(true);
+        when(festivalServiceClient.lookupSubject("dj-1", "DJ")).thenReturn(SubjectExistence.NOT_FOUND);
 
         // When & Then
         assertThrows(BadRequestException.class, () -> reviewService.create(testReviewDto));
-        verify(festivalServiceClient).subjectExists("dj-1", "DJ");
+        verify(festivalServiceClient).lookupSubject("dj-1", "DJ");
         verify(reviewRepository, never()).save(any());
     }
 
+    @Test
+    void shouldRejectSubjectMissingFromFilterWithoutCallingFestivalService() {
+        // Given
+        when(subjectFilterReplica.mightContain("dj-1", "DJ")).thenReturn(false);
+
+        // When & Then
+        assertThrows(BadRequestException.class, () -> reviewService.create(testReviewDto));
+        verifyNoInteractions(festivalServiceClient);
+        verify(reviewRepository, never()).save(any());
+    }
+
+    @Test
+    void shouldCreateReviewWhenSubjectCannotBeChecked() {
+        // Given
+        when(subjectFilterReplica.mightContain("dj-1", "DJ")).thenReturn(true);
+        when(festivalServiceClient.lookupSubject("dj-1", "DJ")).thenReturn(SubjectExistence.UNKNOWN);
+        when(reviewMapper.toEntity(testReviewDto)).thenReturn(testReview);
+        when(reviewRepository.save(testReview)).thenReturn(testReview);
+
+        // When
+        Review result = reviewService.create(testReviewDto);
+
+        // Then
+        assertEquals(testReview.getId(), result.getId());
+        verify(ratingSummaryRepository).increment("DJ", "dj-1", 5, 1);
+    }
+
     @Test
     void shouldGetReviewById() {
         // Given
@@ -103,85 +160,332 @@ class ReviewServiceTest {
     }
 
     @Test
-    void shouldGetAllReviews() {
+    void shouldGetFirstPageOfAllReviewsWithDefaultLimit() {
         // Given
-        List<Review> reviews = Arrays.asList(testReview, new Review());
-        when(reviewRepository.findAll()).thenReturn(reviews);
+        when(reviewRepository.findFeed(null, 50)).thenReturn(new SliceImpl<>(List.of(testReview)));
 
         // When
-        List<Review> result = reviewService.getAll();
+        CursorPage<Review> result = reviewService.getAll(null, null);
 
         // Then
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(reviewRepository).findAll();
+        assertEquals(List.of(testReview), result.items());
+        assertNull(result.next());
+        assertFalse(result.isHasNext());
     }
 
     @Test
-    void shouldGetReviewsForSubject() {
+    void shouldContinueSubjectFeedAfterLastReviewOfPreviousPage() {
         // Given
-        List<Review> reviews = Arrays.asList(testReview);
-        when(reviewRepository.findBySubjectIdAndSubjectType("dj-1", "DJ")).thenReturn(reviews);
+        Review older = new Review("dj-1", "DJ", "Jane Roe", 4, "Good");
+        older.setId("65f000000000000000000002");
+        older.setCreatedAt(LocalDateTime.of(2025, 7, 1, 21, 15, 30, 123_000_000));
+        when(reviewRepository.findFeedBySubject(eq("DJ"), eq("dj-1"), isNull(), eq(1)))
+                .thenReturn(new SliceImpl<>(List.of(older), PageRequest.of(0, 1), true));
+        when(reviewRepository.findFeedBySubject(eq("DJ"), eq("dj-1"), notNull(), eq(1)))
+                .thenReturn(new SliceImpl<>(List.of()));
 
         // When
-        List<Review> result = reviewService.getReviewsForSubject("dj-1", "DJ");
+        CursorPage<Review> first = reviewService.getReviewsForSubject("dj-1", "DJ", null, 1);
+        reviewService.getReviewsForSubject("dj-1", "DJ", first.next(), 1);
 
         // Then
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(reviewRepository).findBySubjectIdAndSubjectType("dj-1", "DJ");
+        assertTrue(first.isHasNext());
+        verify(reviewRepository).findFeedBySubject("DJ", "dj-1",
+                new FeedPosition(older.getCreatedAt(), "65f000000000000000000002"), 1);
+    }
+
+    @Test
+    void shouldCapFeedLimit() {
+        // Given
+        when(reviewRepository.findFeedByReviewer(eq("John Doe"), isNull(), anyInt())).thenReturn(new SliceImpl<>(List.of()));
+
+        // When
+        reviewService.getReviewsByReviewer("John Doe", null, 10_000);
+
+        // Then
+        verify(reviewRepository).findFeedByReviewer("John Doe", null, 200);
     }
 
     @Test
-    void shouldCalculateAverageRating() {
+    void shouldReadMinRatingFeedAsListOfRatings() {
         // Given
-        Review review1 = new Review("dj-1", "DJ", "User1", 4, "Good");
-        Review review2 = new Review("dj-1", "DJ", "User2", 5, "Excellent");
-        List<Review> reviews = Arrays.asList(review1, review2);
-        when(reviewRepository.findBySubjectIdAndSubjectType("dj-1", "DJ")).thenReturn(reviews);
+        when(reviewRepository.findFeedByRatings(any(), isNull(), eq(50))).thenReturn(new SliceImpl<>(List.of()));
+
+        // When
+        reviewService.getReviewsWithMinRating(4, null, null);
+
+        // Then
+        verify(reviewRepository).findFeedByRatings(List.of(4, 5), null, 50);
+    }
+
+    @Test
+    void shouldRejectInvalidCursor() {
+        // When & Then
+        assertThrows(BadRequestException.class, () -> reviewService.getAll("not-a-cursor", null));
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void shouldMoveReviewBetweenRatingBucketsOnUpdate() {
+        // Given
+        ReviewDto changed = new ReviewDto("dj-1", "DJ", "John Doe", 3, "Second thoughts");
+        when(reviewRepository.findById("review-1")).thenReturn(Optional.of(testReview));
+        doAnswer(invocation -> {
+            testReview.setRating(3);
+            return null;
+        }).when(reviewMapper).updateEntityFromDto(changed, testReview);
+        when(reviewRepository.replace(testReview)).thenReturn(Optional.of(storedReview(5)));
+
+        // When
+        reviewService.update("review-1", changed);
+
+        // Then
+        verify(ratingSummaryRepository).increment("DJ", "dj-1", 5, -1);
+        verify(ratingSummaryRepository).increment("DJ", "dj-1", 3, 1);
+    }
+
+    @Test
+    void shouldMoveRatingOfReplacedReviewWhenConcurrentUpdateWonTheRace() {
+        // Given: read with 5 stars, but another update stored 4 stars before this replace
+        ReviewDto changed = new ReviewDto("dj-1", "DJ", "John Doe", 3, "Second thoughts");
+        when(reviewRepository.findById("review-1")).thenReturn(Optional.of(testReview));
+        doAnswer(invocation -> {
+            testReview.setRating(3);
+            return null;
+        }).when(reviewMapper).updateEntityFromDto(changed, testReview);
+        when(reviewRepository.replace(testReview)).thenReturn(Optional.of(storedReview(4)));
+
+        // When
+        reviewService.update("review-1", changed);
+
+        // Then
+        verify(ratingSummaryRepository).increment("DJ", "dj-1", 4, -1);
+        verify(ratingSummaryRepository).increment("DJ", "dj-1", 3, 1);
+        verify(ratingSummaryRepository, never()).increment("DJ", "dj-1", 5, -1);
+    }
+
+    @Test
+    void shouldThrowResourceNotFoundWhenReviewIsDeletedDuringUpdate() {
+        // Given
+        when(reviewRepository.findById("review-1")).thenReturn(Optional.of(testReview));
+        when(reviewRepository.replace(testReview)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> reviewService.update("review-1", testReviewDto));
+        verifyNoInteractions(ratingSummaryRepository);
+    }
+
+    @Test
+    void shouldLeaveRatingSummaryAloneWhenOnlyCommentChanges() {
+        // Given
+        ReviewDto changed = new ReviewDto("dj-1", "DJ", "John Doe", 5, "Even better the second time");
+        when(reviewRepository.findById("review-1")).thenReturn(Optional.of(testReview));
+        when(reviewRepository.replace(testReview)).thenReturn(Optional.of(storedReview(5)));
+
+        // When
+        reviewService.update("review-1", changed);
+
+        // Then
+        verifyNoInteractions(ratingSummaryRepository);
+    }
+
+    @Test
+    void shouldCalculateAverageRatingFromSummary() {
+        // Given
+        when(ratingSummaryRepository.findById("DJ:dj-1")).thenReturn(Optional.of(summary("DJ", "dj-1", 4, 5)));
 
         // When
         Double result = reviewService.getAverageRating("dj-1", "DJ");
 
         // Then
         assertEquals(4.5, result);
-        verify(reviewRepository).findBySubjectIdAndSubjectType("dj-1", "DJ");
+        verifyNoInteractions(reviewRepository);
     }
 
     @Test
     void shouldReturnZeroAverageWhenNoReviews() {
         // Given
-        when(reviewRepository.findBySubjectIdAndSubjectType("dj-1", "DJ")).thenReturn(Arrays.asList());
+        when(ratingSummaryRepository.findById("DJ:dj-1")).thenReturn(Optional.empty());
 
         // When
         Double result = reviewService.getAverageRating("dj-1", "DJ");
 
         // Then
         assertEquals(0.0, result);
-        verify(reviewRepository).findBySubjectIdAndSubjectType("dj-1", "DJ");
+        assertEquals(0L, reviewService.getReviewCount("dj-1", "DJ"));
+    }
+
+    @Test
+    void shouldReportRatingHistogramWithAllStars() {
+        // Given
+        when(ratingSummaryRepository.findById("DJ:dj-1")).thenReturn(Optional.of(summary("DJ", "dj-1", 5, 5, 2)));
+
+        // When
+        RatingSummary result = reviewService.getRatingSummary("dj-1", "DJ");
+
+        // Then
+        assertEquals(3L, result.getCount());
+        assertEquals(Map.of(1, 0L, 2, 1L, 3, 0L, 4, 0L, 5, 2L), result.getHistogram());
+    }
+
+    @Test
+    void shouldGetRatingDistributionFromSummary() {
+        // Given
+        when(ratingSummaryRepository.findById("DJ:dj-1")).thenReturn(Optional.of(summary("DJ", "dj-1", 2, 4, 4, 5)));
+
+        // When
+        RatingDistribution result = reviewService.getRatingDistribution("dj-1", "DJ");
+
+        // Then
+        assertEquals(new RatingDistribution("DJ", "dj-1", 4, 3.75, Map.of(1, 0L, 2, 1L, 3, 0L, 4, 2L, 5, 1L), 4, 5),
+                result);
+        verifyNoInteractions(reviewRepository);
+    }
+
+    @Test
+    void shouldGetFestivalWideRatingDistributionPerSubjectType() {
+        // Given
+        when(ratingSummaryRepository.sumBySubjectType()).thenReturn(List.of(
+                summary("DJ", null, 5, 5, 3),
+                summary("PERFORMANCE", null, 1)));
+
+        // When
+        List<RatingDistribution> result = reviewService.getRatingDistributionsBySubjectType();
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("DJ", result.get(0).subjectType());
+        assertNull(result.get(0).subjectId());
+        assertEquals(5, result.get(0).median());
+        assertEquals(1, result.get(1).p90());
     }
 
     @Test
     void shouldDeleteReview() {
         // Given
-        when(reviewRepository.existsById("review-1")).thenReturn(true);
+        when(reviewRepository.removeById("review-1")).thenReturn(Optional.of(testReview));
 
         // When
         reviewService.delete("review-1");
 
         // Then
-        verify(reviewRepository).existsById("review-1");
-        verify(reviewRepository).deleteById("review-1");
+        verify(ratingSummaryRepository).increment("DJ", "dj-1", 5, -1);
     }
 
     @Test
     void shouldThrowResourceNotFoundWhenDeletingNonexistentReview() {
         // Given
-        when(reviewRepository.existsById("nonexistent")).thenReturn(false);
+        when(reviewRepository.removeById("nonexistent")).thenReturn(Optional.empty());
 
         // When & Then
         assertThrows(ResourceNotFoundException.class, () -> reviewService.delete("nonexistent"));
-        verify(reviewRepository).existsById("nonexistent");
-        verify(reviewRepository, never()).deleteById(any());
+        verifyNoInteractions(ratingSummaryRepository);
+    }
+
+    @Test
+    void shouldDecrementOnlyOnceWhenSameReviewIsDeletedTwice() {
+        // Given: the second request finds the review already removed by the first
+        when(reviewRepository.removeById("review-1")).thenReturn(Optional.of(testReview), Optional.empty());
+
+        // When
+        reviewService.delete("review-1");
+        assertThrows(ResourceNotFoundException.class, () -> reviewService.delete("review-1"));
+
+        // Then
+        verify(ratingSummaryRepository, times(1)).increment("DJ", "dj-1", 5, -1);
+    }
+
+    @Test
+    void shouldGetStatsForSubjectsInRequestOrderWithOneLookup() {
+        // Given
+        when(ratingSummaryRepository.findAllById(any())).thenReturn(List.of(
+                summary("PERFORMANCE", "perf-1", 3),
+                summary("DJ", "dj-1", 5, 5, 4)));
+        List<SubjectRef> subjects = List.of(
+                new SubjectRef("dj", "dj-1"),
+                new SubjectRef("DJ", "dj-2"),
+                new SubjectRef("PERFORMANCE", "perf-1"));
+
+        // When
+        List<SubjectStats> result = reviewService.getStatsForSubjects(subjects);
+
+        // Then
+        assertEquals(List.of(
+                new SubjectStats("DJ", "dj-1", 4.67, 3L),
+                new SubjectStats("DJ", "dj-2", 0.0, 0L),
+                new SubjectStats("PERFORMANCE", "perf-1", 3.0, 1L)), result);
+        verify(ratingSummaryRepository).findAllById(Set.of("DJ:dj-1", "DJ:dj-2", "PERFORMANCE:perf-1"));
+    }
+
+    @Test
+    void shouldRejectStatsBatchWithInvalidSubjectType() {
+        // When & Then
+        assertThrows(BadRequestException.class,
+                () -> reviewService.getStatsForSubjects(List.of(new SubjectRef("STAGE", "stage-1"))));
+        verifyNoInteractions(ratingSummaryRepository);
+    }
+
+    @Test
+    void shouldPurgeReviewsOfDeletedSubjectsAndRefreshSubjectChecks() {
+        // Given
+        Instant now = Instant.parse("2025-07-01T20:00:00Z");
+        List<CatalogEvent> events = List.of(
+                new CatalogEvent(1, "DJ", "dj-1", CatalogEvent.DELETED, now),
+                new CatalogEvent(2, "PERFORMANCE", "perf-1", CatalogEvent.DELETED, now),
+                new CatalogEvent(3, "performance", "perf-2", CatalogEvent.CREATED, now),
+                new CatalogEvent(4, "STAGE", "stage-1", CatalogEvent.CREATED, now));
+        when(reviewRepository.deleteBySubjectTypeAndSubjectIdIn("DJ", Set.of("dj-1"))).thenReturn(3L);
+        when(reviewRepository.deleteBySubjectTypeAndSubjectIdIn("PERFORMANCE", Set.of("perf-1"))).thenReturn(2L);
+
+        // When
+        CatalogEventsResult result = reviewService.applyCatalogEvents(events);
+
+        // Then
+        assertEquals(new CatalogEventsResult(4, 0, 5), result);
+        verify(ratingSummaryRepository).deleteAllById(List.of("DJ:dj-1"));
+        verify(ratingSummaryRepository).deleteAllById(List.of("PERFORMANCE:perf-1"));
+        verify(festivalServiceClient).invalidateSubjects(Set.of(
+                new SubjectRef("DJ", "dj-1"),
+                new SubjectRef("PERFORMANCE", "perf-1"),
+                new SubjectRef("PERFORMANCE", "perf-2")));
+        verify(subjectFilterReplica).addAll(Set.of(new SubjectRef("PERFORMANCE", "perf-2")));
+        verify(catalogSequenceRepository).advance(Map.of("DJ:dj-1", 1L, "PERFORMANCE:perf-1", 2L, "PERFORMANCE:perf-2", 3L));
+    }
+
+    @Test
+    void shouldSkipCatalogEventsNotNewerThanTheLastAppliedForTheirSubject() {
+        // Given
+        Instant now = Instant.parse("2025-07-01T20:00:00Z");
+        List<CatalogEvent> events = List.of(
+                new CatalogEvent(7, "DJ", "dj-1", CatalogEvent.DELETED, now),
+                new CatalogEvent(9, "DJ", "dj-1", CatalogEvent.UPDATED, now),
+                new CatalogEvent(10, "DJ", "dj-2", CatalogEvent.CREATED, now),
+                new CatalogEvent(10, "DJ", "dj-2", CatalogEvent.CREATED, now));
+        when(catalogSequenceRepository.findAllById(List.of("DJ:dj-1", "DJ:dj-2")))
+                .thenReturn(List.of(new CatalogSequence("DJ:dj-1", 8)));
+
+        // When
+        CatalogEventsResult result = reviewService.applyCatalogEvents(events);
+
+        // Then
+        assertEquals(new CatalogEventsResult(4, 2, 0), result);
+        verifyNoInteractions(reviewRepository);
+        verify(festivalServiceClient).invalidateSubjects(Set.of(new SubjectRef("DJ", "dj-1"), new SubjectRef("DJ", "dj-2")));
+        verify(subjectFilterReplica).addAll(Set.of(new SubjectRef("DJ", "dj-2")));
+        verify(catalogSequenceRepository).advance(Map.of("DJ:dj-1", 9L, "DJ:dj-2", 10L));
+    }
+
+    private static Review storedReview(int rating) {
+        Review stored = new Review("dj-1", "DJ", "John Doe", rating, "Great performance!");
+        stored.setId("review-1");
+        return stored;
+    }
+
+    private static RatingSummary summary(String subjectType, String subjectId, int... ratings) {
+        RatingSummary summary = new RatingSummary(subjectType, subjectId);
+        for (int rating : ratings) {
+            summary.add(rating, 1);
+        }
+        return summary;
     }
 }
@@ -0,0 +1,128 @@
+package com.capgemini.reviewservice.service.external;
+
+import com.capgemini.reviewservice.dto.SubjectRef;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FestivalServiceClientTest {
+
+    private HttpServer festivalStub;
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger djStatus = new AtomicInteger(200);
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private FestivalServiceClient client;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        festivalStub = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        festivalStub.createContext("/api/djs/", exchange -> {
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+            exchange.sendResponseHeaders(djStatus.get(), -1);
+            exchange.close();
+        });
+        festivalStub.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        client = new FestivalServiceClient(WebClient.builder(),
+                "http://127.0.0.1:" + festivalStub.getAddress().getPort(), meterRegistry,
+                Duration.ofSeconds(2), 100, Duration.ofMinutes(10), Duration.ofSeconds(30), nanos::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        festivalStub.stop(0);
+    }
+
+    @Test
+    void shouldCheckExistenceWithHeadAndCacheIt() {
+        // When
+        SubjectExistence first = client.lookupSubject("dj-1", "DJ");
+        SubjectExistence second = client.lookupSubject("dj-1", "dj");
+
+        // Then
+        assertEquals(SubjectExistence.EXISTS, first);
+        assertEquals(SubjectExistence.EXISTS, second);
+        assertEquals(List.of("HEAD /api/djs/dj-1"), requests);
+    }
+
+    @Test
+    void shouldExpireMissingSubjectsAfterNegativeTtl() {
+        // Given
+        djStatus.set(404);
+        assertEquals(SubjectExistence.NOT_FOUND, client.lookupSubject("dj-new", "DJ"));
+        djStatus.set(200);
+
+        // When
+        nanos.addAndGet(Duration.ofSeconds(29).toNanos());
+        SubjectExistence withinTtl = client.lookupSubject("dj-new", "DJ");
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        SubjectExistence afterTtl = client.lookupSubject("dj-new", "DJ");
+
+        // Then
+        assertEquals(SubjectExistence.NOT_FOUND, withinTtl);
+        assertEquals(SubjectExistence.EXISTS, afterTtl);
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    void shouldForgetInvalidatedSubjects() {
+        // Given
+        djStatus.set(404);
+        assertEquals(SubjectExistence.NOT_FOUND, client.lookupSubject("dj-new", "DJ"));
+        djStatus.set(200);
+
+        // When
+        client.invalidateSubjects(List.of(new SubjectRef("dj", "dj-new")));
+        SubjectExistence result = client.lookupSubject("dj-new", "DJ");
+
+        // Then
+        assertEquals(SubjectExistence.EXISTS, result);
+        assertEquals(2, requests.size());
+    }
+
+    @Test
+    void shouldNotCacheFailedChecks() {
+        // Given
+        djStatus.set(503);
+
+        // When
+        SubjectExistence first = client.lookupSubject("dj-1", "DJ");
+        SubjectExistence second = client.lookupSubject("dj-1", "DJ");
+
+        // Then
+        assertEquals(SubjectExistence.UNKNOWN, first);
+        assertEquals(SubjectExistence.UNKNOWN, second);
+        assertFalse(client.subjectExists("dj-1", "DJ"));
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    void shouldPublishCacheHitRatio() {
+        // When
+        client.lookupSubject("dj-1", "DJ");
+        client.lookupSubject("dj-1", "DJ");
+        client.lookupSubject("dj-1", "DJ");
+        client.lookupSubject("dj-1", "DJ");
+
+        // Then
+        assertEquals(0.75, meterRegistry.get("festival.client.exists.cache.hit.ratio").gauge().value(), 0.001);
+        assertEquals(3, meterRegistry.get("cache.gets")
+                .tags("cache", FestivalServiceClient.EXISTENCE_CACHE, "result", "hit")
+                .functionCounter().count());
+    }
+}
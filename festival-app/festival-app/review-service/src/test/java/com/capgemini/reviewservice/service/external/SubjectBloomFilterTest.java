@@ -0,0 +1,28 @@
+package com.capgemini.reviewservice.service.external;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubjectBloomFilterTest {
+
+    // Bits of {DJ:dj-001, PERFORMANCE:perf-101} as built by the Festival Application
+    private static final String FESTIVAL_APP_BITS = "zOuZ1zOuZlQ=";
+
+    @Test
+    void shouldDecodeFilterPublishedByFestivalApplication() {
+        // Given
+        SubjectBloomFilter local = SubjectBloomFilter.create(2, 0.01, Long.MAX_VALUE);
+
+        // When
+        SubjectBloomFilter decoded = SubjectBloomFilter.fromBits(FESTIVAL_APP_BITS, local.getHashFunctions());
+
+        // Then
+        assertTrue(decoded.mightContain("DJ", "dj-001"));
+        assertTrue(decoded.mightContain("PERFORMANCE", "perf-101"));
+        assertFalse(decoded.mightContain("DJ", "perf-101"));
+        local.put("DJ", "dj-001");
+        local.put("PERFORMANCE", "perf-101");
+        assertEquals(FESTIVAL_APP_BITS, local.toBase64());
+    }
+}
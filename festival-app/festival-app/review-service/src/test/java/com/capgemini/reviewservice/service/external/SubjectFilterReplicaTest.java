@@ -0,0 +1,162 @@
+package com.capgemini.reviewservice.service.external;
+
+import com.capgemini.reviewservice.dto.SubjectFilter;
+import com.capgemini.reviewservice.dto.SubjectRef;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SubjectFilterReplicaTest {
+
+    private static final Instant T0 = Instant.parse("2025-07-01T20:00:00Z");
+
+    @Mock
+    private FestivalServiceClient festivalServiceClient;
+
+    @Mock
+    private Clock clock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SubjectFilterReplica replica;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        replica = new SubjectFilterReplica(festivalServiceClient, meterRegistry, true, Duration.ofMinutes(2), clock);
+        lenient().when(clock.instant()).thenReturn(T0);
+    }
+
+    @Test
+    void shouldAnswerFromPulledFilter() {
+        // Given
+        when(festivalServiceClient.fetchSubjectFilter(null)).thenReturn(ResponseEntity.ok().eTag("\"v1\"").body(filter("dj-1")));
+
+        // When
+        replica.refresh();
+
+        // Then
+        assertTrue(replica.mightContain("dj-1", "DJ"));
+        assertFalse(replica.mightContain("dj-2", "DJ"));
+        assertEquals(1, meterRegistry.get("festival.subject.filter.checks").tag("result", "present").counter().count());
+        assertEquals(1, meterRegistry.get("festival.subject.filter.checks").tag("result", "absent").counter().count());
+        assertEquals(1, meterRegistry.get("festival.subject.filter.subjects").gauge().value());
+    }
+
+    @Test
+    void shouldAcceptSubjectsAddedAfterPull() {
+        // Given
+        when(festivalServiceClient.fetchSubjectFilter(null)).thenReturn(ResponseEntity.ok().eTag("\"v1\"").body(filter("dj-1")));
+        replica.refresh();
+
+        // When
+        replica.addAll(List.of(new SubjectRef("DJ", "dj-2")));
+
+        // Then
+        assertTrue(replica.mightContain("dj-2", "DJ"));
+    }
+
+    @Test
+    void shouldKeepSubjectsAddedWhilePullIsInFlight() {
+        // Given
+        when(festivalServiceClient.fetchSubjectFilter(null)).thenAnswer(invocation -> {
+            // The pulled filter was built before dj-2 was created and pushed
+            replica.addAll(List.of(new SubjectRef("DJ", "dj-2")));
+            return ResponseEntity.ok().eTag("\"v1\"").body(filter("dj-1"));
+        });
+
+        // When
+        replica.refresh();
+        replica.addAll(List.of(new SubjectRef("DJ", "dj-3")));
+
+        // Then
+        assertTrue(replica.mightContain("dj-1", "DJ"));
+        assertTrue(replica.mightContain("dj-2", "DJ"));
+        assertTrue(replica.mightContain("dj-3", "DJ"));
+    }
+
+    @Test
+    void shouldKeepAddedSubjectsWhenRevalidated() {
+        // Given
+        when(festivalServiceClient.fetchSubjectFilter(null)).thenReturn(ResponseEntity.ok().eTag("\"v1\"").body(filter("dj-1")));
+        when(festivalServiceClient.fetchSubjectFilter("\"v1\"")).thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        replica.refresh();
+        replica.addAll(List.of(new SubjectRef("DJ", "dj-2")));
+
+        // When
+        replica.refresh();
+
+        // Then
+        assertTrue(replica.mightContain("dj-2", "DJ"));
+    }
+
+    @Test
+    void shouldBypassFilterUntilLoaded() {
+        // When
+        boolean result = replica.mightContain("dj-2", "DJ");
+
+        // Then
+        assertTrue(result);
+        assertEquals(1, meterRegistry.get("festival.subject.filter.checks").tag("result", "bypassed").counter().count());
+        verifyNoInteractions(festivalServiceClient);
+    }
+
+    @Test
+    void shouldRevalidateWithETagAndKeepFilterOnNotModified() {
+        // Given
+        when(festivalServiceClient.fetchSubjectFilter(null)).thenReturn(ResponseEntity.ok().eTag("\"v1\"").body(filter("dj-1")));
+        when(festivalServiceClient.fetchSubjectFilter("\"v1\"")).thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).build());
+        replica.refresh();
+
+        // When
+        when(clock.instant()).thenReturn(T0.plusSeconds(90));
+        replica.refresh();
+        when(clock.instant()).thenReturn(T0.plusSeconds(180));
+
+        // Then
+        assertFalse(replica.mightContain("dj-2", "DJ"));
+        assertEquals(90, meterRegistry.get("festival.subject.filter.age").gauge().value());
+        verify(festivalServiceClient).fetchSubjectFilter("\"v1\"");
+    }
+
+    @Test
+    void shouldBypassStaleFilterWhenRefreshFails() {
+        // Given
+        when(festivalServiceClient.fetchSubjectFilter(null)).thenReturn(ResponseEntity.ok().eTag("\"v1\"").body(filter("dj-1")));
+        when(festivalServiceClient.fetchSubjectFilter("\"v1\"")).thenThrow(new IllegalStateException("connection refused"));
+        replica.refresh();
+
+        // When
+        when(clock.instant()).thenReturn(T0.plusSeconds(60));
+        replica.refresh();
+        boolean withinStaleness = replica.mightContain("dj-2", "DJ");
+        when(clock.instant()).thenReturn(T0.plusSeconds(121));
+        boolean afterStaleness = replica.mightContain("dj-2", "DJ");
+
+        // Then
+        assertFalse(withinStaleness);
+        assertTrue(afterStaleness);
+    }
+
+    private static SubjectFilter filter(String... djIds) {
+        SubjectBloomFilter bloomFilter = SubjectBloomFilter.create(100, 0.01, Long.MAX_VALUE);
+        for (String djId : djIds) {
+            bloomFilter.put("DJ", djId);
+        }
+        return new SubjectFilter("v1", djIds.length, bloomFilter.getBitCount(), bloomFilter.getHashFunctions(),
+                bloomFilter.getSizeBytes(), bloomFilter.falsePositiveRate(djIds.length), bloomFilter.toBase64());
+    }
+}